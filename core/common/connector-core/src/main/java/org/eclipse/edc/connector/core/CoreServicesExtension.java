@@ -78,10 +78,14 @@ public class CoreServicesExtension implements ServiceExtension {
     @Setting
     public static final String IDENTITY_KEY = "edc.agent.identity.key";
 
+    @Setting(value = "Maximum number of scope-filtered policies cached by the policy engine, 0 disables the cache. Enable it only if all rule bindings are registered before the first policy evaluation", defaultValue = DEFAULT_POLICY_CACHE_SIZE + "", type = "int")
+    public static final String POLICY_CACHE_SIZE_SETTING = "edc.policy.engine.cache.size";
+
     public static final String NAME = "Core Services";
     private static final long DEFAULT_DURATION = 60;
     private static final int DEFAULT_TP_SIZE = 3;
     private static final String DEFAULT_HOSTNAME = "localhost";
+    private static final int DEFAULT_POLICY_CACHE_SIZE = 0;
     @Inject
     private ExecutorInstrumentation executorInstrumentation;
 
@@ -163,9 +167,9 @@ public class CoreServicesExtension implements ServiceExtension {
     }
 
     @Provider
-    public PolicyEngine policyEngine() {
+    public PolicyEngine policyEngine(ServiceExtensionContext context) {
         var scopeFilter = new ScopeFilter(ruleBindingRegistry);
-        return new PolicyEngineImpl(scopeFilter);
+        return new PolicyEngineImpl(scopeFilter, context.getSetting(POLICY_CACHE_SIZE_SETTING, DEFAULT_POLICY_CACHE_SIZE));
     }
 
     @Provider
@@ -22,13 +22,18 @@ import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
 import org.eclipse.edc.spi.retry.WaitStrategy;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.telemetry.Telemetry;
+import org.eclipse.edc.statemachine.ProcessorImpl;
 import org.eclipse.edc.statemachine.StateMachineManager;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessFactory;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
+import java.util.Collection;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
 
 /**
  * Abstraction that provides a common ground for state machine manager implementation.
@@ -40,25 +45,35 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
 
     public static final long DEFAULT_ITERATION_WAIT = 1000;
     public static final int DEFAULT_BATCH_SIZE = 20;
+    public static final boolean DEFAULT_DEDICATED_PROCESSOR_THREADS = false;
+    public static final int DEFAULT_PROCESSOR_PARALLELISM = 1;
     public static final int DEFAULT_SEND_RETRY_LIMIT = 7;
     public static final long DEFAULT_SEND_RETRY_BASE_DELAY = 1000L;
 
     protected Monitor monitor;
     protected int batchSize = DEFAULT_BATCH_SIZE;
-    protected WaitStrategy waitStrategy = () -> DEFAULT_ITERATION_WAIT;
+    protected boolean dedicatedProcessorThreads = DEFAULT_DEDICATED_PROCESSOR_THREADS;
+    protected int processorParallelism = DEFAULT_PROCESSOR_PARALLELISM;
+    protected Supplier<WaitStrategy> waitStrategySupplier = () -> () -> DEFAULT_ITERATION_WAIT;
     protected ExecutorInstrumentation executorInstrumentation = ExecutorInstrumentation.noop();
     protected Telemetry telemetry = new Telemetry();
     protected EntityRetryProcessConfiguration entityRetryProcessConfiguration = defaultEntityRetryProcessConfiguration();
     protected EntityRetryProcessFactory entityRetryProcessFactory;
     protected StateMachineManager stateMachineManager;
+    protected ExecutorService processorExecutor;
     protected Clock clock = Clock.systemUTC();
     protected S store;
 
     @Override
     public void start() {
         entityRetryProcessFactory = new EntityRetryProcessFactory(monitor, clock, entityRetryProcessConfiguration);
+        if (processorParallelism > 1) {
+            var name = getClass().getSimpleName() + "-processor";
+            processorExecutor = executorInstrumentation.instrument(Executors.newFixedThreadPool(processorParallelism), name);
+        }
         var stateMachineManagerBuilder = StateMachineManager.Builder
-                .newInstance(getClass().getSimpleName(), monitor, executorInstrumentation, waitStrategy);
+                .newInstance(getClass().getSimpleName(), monitor, executorInstrumentation, waitStrategySupplier)
+                .dedicatedProcessorThreads(dedicatedProcessorThreads);
         stateMachineManager = configureStateMachineManager(stateMachineManagerBuilder).build();
 
         stateMachineManager.start();
@@ -67,7 +82,20 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
     @Override
     public void stop() {
         if (stateMachineManager != null) {
-            stateMachineManager.stop();
+            var stopped = stateMachineManager.stop();
+            if (processorExecutor != null) {
+                // the batch that is still being processed needs the executor until the loops are stopped
+                stopped.thenRun(processorExecutor::shutdown);
+            }
+        } else if (processorExecutor != null) {
+            processorExecutor.shutdown();
+        }
+    }
+
+    @Override
+    public void wakeUp() {
+        if (stateMachineManager != null) {
+            stateMachineManager.wakeUp();
         }
     }
 
@@ -86,6 +114,7 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
 
     protected void update(E entity) {
         store.save(entity);
+        wakeUp();
         monitor.debug(() -> "[%s] %s %s is now in state %s"
                 .formatted(this.getClass().getSimpleName(), entity.getClass().getSimpleName(),
                         entity.getId(), entity.stateAsString()));
@@ -95,6 +124,18 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
         store.save(entity);
     }
 
+    /**
+     * Creates a {@link ProcessorImpl.Builder} for the passed entities supplier, configured to process the batch
+     * concurrently if a processor parallelism greater than 1 has been configured.
+     *
+     * @param entities the entities supplier.
+     * @return the processor builder.
+     */
+    protected ProcessorImpl.Builder<E> processor(Supplier<Collection<E>> entities) {
+        return ProcessorImpl.Builder.newInstance(entities)
+                .executor(processorExecutor);
+    }
+
     public abstract static class Builder<E extends StatefulEntity<E>, S extends StateEntityStore<E>, M extends AbstractStateEntityManager<E, S>, B extends Builder<E, S, M, B>> {
 
         protected final M manager;
@@ -115,8 +156,36 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
             return self();
         }
 
+        public B dedicatedProcessorThreads(boolean dedicatedProcessorThreads) {
+            manager.dedicatedProcessorThreads = dedicatedProcessorThreads;
+            return self();
+        }
+
+        public B processorParallelism(int processorParallelism) {
+            manager.processorParallelism = processorParallelism;
+            return self();
+        }
+
+        /**
+         * Set the wait strategy, the same instance is shared by all the state machine loops.
+         *
+         * @param waitStrategy the wait strategy.
+         * @return the builder.
+         */
         public B waitStrategy(WaitStrategy waitStrategy) {
-            manager.waitStrategy = waitStrategy;
+            manager.waitStrategySupplier = () -> waitStrategy;
+            return self();
+        }
+
+        /**
+         * Set the supplier of the wait strategy, that is called once for every state machine loop, so that loops
+         * running on dedicated processor threads don't share the state of the strategy.
+         *
+         * @param waitStrategySupplier the wait strategy supplier.
+         * @return the builder.
+         */
+        public B waitStrategySupplier(Supplier<WaitStrategy> waitStrategySupplier) {
+            manager.waitStrategySupplier = waitStrategySupplier;
             return self();
         }
 
@@ -0,0 +1,40 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.core.entity;
+
+import org.eclipse.edc.spi.entity.StateEntityManager;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+
+import java.util.List;
+
+/**
+ * Wakes up the passed {@link StateEntityManager}s on every received event, so that entities that have been changed
+ * outside the managers (e.g. by protocol services) are picked up without waiting for the next polling iteration.
+ */
+public class StateEntityManagerWakeUpSubscriber implements EventSubscriber {
+
+    private final List<StateEntityManager> managers;
+
+    public StateEntityManagerWakeUpSubscriber(StateEntityManager... managers) {
+        this.managers = List.of(managers);
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> event) {
+        managers.forEach(StateEntityManager::wakeUp);
+    }
+}
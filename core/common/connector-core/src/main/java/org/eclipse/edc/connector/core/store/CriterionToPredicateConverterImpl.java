@@ -16,8 +16,8 @@ package org.eclipse.edc.connector.core.store;
 
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.CriterionToPredicateConverter;
+import org.eclipse.edc.util.reflection.PropertyPath;
 import org.eclipse.edc.util.reflection.ReflectionException;
-import org.eclipse.edc.util.reflection.ReflectionUtil;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
@@ -28,7 +28,9 @@ import java.util.regex.Pattern;
 import static java.lang.String.format;
 
 /**
- * Concrete implementation
+ * Concrete implementation. The property path of the left operand is parsed once per criterion and the field accessors
+ * are resolved once per class (see {@link PropertyPath}), so that evaluating the predicate against many entities does
+ * not repeat the reflective lookups.
  */
 public class CriterionToPredicateConverterImpl implements CriterionToPredicateConverter {
 
@@ -45,9 +47,9 @@ public class CriterionToPredicateConverterImpl implements CriterionToPredicateCo
         };
     }
 
-    protected Object property(String key, Object object) {
+    protected Object property(PropertyPath path, Object object) {
         try {
-            return ReflectionUtil.getFieldValue(key, object);
+            return path.getValue(object);
         } catch (ReflectionException e) {
             return null;
         }
@@ -55,9 +57,9 @@ public class CriterionToPredicateConverterImpl implements CriterionToPredicateCo
 
     @NotNull
     private <T> Predicate<T> equalPredicate(Criterion criterion) {
+        var path = PropertyPath.parse((String) criterion.getOperandLeft());
         return t -> {
-            var operandLeft = (String) criterion.getOperandLeft();
-            var property = property(operandLeft, t);
+            var property = property(path, t);
             if (property == null) {
                 return false;
             }
@@ -82,9 +84,9 @@ public class CriterionToPredicateConverterImpl implements CriterionToPredicateCo
 
     @NotNull
     private <T> Predicate<T> inPredicate(Criterion criterion) {
+        var path = PropertyPath.parse((String) criterion.getOperandLeft());
         return t -> {
-            var operandLeft = (String) criterion.getOperandLeft();
-            var property = property(operandLeft, t);
+            var property = property(path, t);
             if (property == null) {
                 return false;
             }
@@ -106,25 +108,23 @@ public class CriterionToPredicateConverterImpl implements CriterionToPredicateCo
 
     @NotNull
     private <T> Predicate<T> likePredicate(Criterion criterion) {
+        var pattern = criterion.getOperandRight() instanceof String operandRight ? likePattern(operandRight) : null;
+        var path = PropertyPath.parse((String) criterion.getOperandLeft());
         return t -> {
-            var operandLeft = (String) criterion.getOperandLeft();
-            var property = property(operandLeft, t);
+            var property = property(path, t);
             if (property == null) {
                 return false;
             }
 
-            if (criterion.getOperandRight() instanceof String operandRight) {
-                var regexPattern = Pattern.quote(operandRight)
-                        .replace("%", "\\E.*\\Q")
-                        .replace("_", "\\E.\\Q");
-
-                regexPattern = "^" + regexPattern + "$";
-
-                return Pattern.compile(regexPattern).matcher(property.toString()).matches();
-            }
-
-            return false;
+            return pattern != null && pattern.matcher(property.toString()).matches();
         };
     }
 
+    private Pattern likePattern(String operandRight) {
+        var regexPattern = Pattern.quote(operandRight)
+                .replace("%", "\\E.*\\Q")
+                .replace("_", "\\E.\\Q");
+
+        return Pattern.compile("^" + regexPattern + "$");
+    }
 }
@@ -22,37 +22,44 @@ import org.eclipse.edc.spi.query.CriterionToPredicateConverter;
 import org.eclipse.edc.spi.query.QueryResolver;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
-import org.eclipse.edc.util.concurrency.LockManager;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static java.util.Comparator.comparingLong;
-import static java.util.stream.Collectors.toList;
 
 /**
  * An in-memory, threadsafe entity store for a {@link StatefulEntity}. This implementation is intended for testing
  * purposes only.
+ * <p>
+ * Entities are indexed by state, ordered by state timestamp, so that {@link #nextNotLeased(int, Criterion...)} with a
+ * state criterion only visits the oldest entities in that state instead of filtering and sorting all of them. Leases
+ * are kept in a concurrent map and acquired atomically per entity, so polls and saves of different entities do not
+ * block each other.
  */
 public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements StateEntityStore<T> {
     private static final Duration DEFAULT_LEASE_TIME = Duration.ofSeconds(60);
+    private static final Comparator<StateEntry> STATE_ENTRY_ORDER = comparingLong(StateEntry::stateTimestamp).thenComparing(StateEntry::id);
     private final Map<String, T> entitiesById = new ConcurrentHashMap<>();
+    private final Map<Integer, NavigableSet<StateEntry>> entriesByState = new ConcurrentHashMap<>();
+    private final Map<String, StateEntry> entriesById = new ConcurrentHashMap<>();
     private final QueryResolver<T> queryResolver;
-    private final LockManager lockManager = new LockManager(new ReentrantReadWriteLock());
     private final String lockId;
     private final Clock clock;
-    private final Map<String, Lease> leases = new HashMap<>();
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
     private final CriterionToPredicateConverter criterionConverter = new CriterionToPredicateConverterImpl();
 
     public InMemoryStatefulEntityStore(Class<T> clazz, String lockId, Clock clock) {
@@ -72,40 +79,45 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
 
     @Override
     public @NotNull List<T> nextNotLeased(int max, Criterion... criteria) {
-        return lockManager.writeLock(() -> {
-            var filterPredicate = Arrays.stream(criteria).map(criterionConverter::convert).reduce(x -> true, Predicate::and);
-            var entities = entitiesById.values().stream()
-                    .filter(filterPredicate)
-                    .filter(e -> !isLeased(e.getId()))
-                    .sorted(comparingLong(StatefulEntity::getStateTimestamp)) //order by state timestamp, oldest first
-                    .limit(max)
-                    .toList();
-            entities.forEach(i -> acquireLease(i.getId()));
-            return entities.stream().map(StatefulEntity::copy).collect(toList());
-        });
+        Predicate<T> filterPredicate = Arrays.stream(criteria).map(criterionConverter::<T>convert).reduce(x -> true, Predicate::and);
+
+        var result = new ArrayList<T>();
+        var candidates = candidates(criteria).iterator();
+        while (result.size() < max && candidates.hasNext()) {
+            var entity = candidates.next();
+            if (filterPredicate.test(entity) && tryAcquireLease(entity.getId())) {
+                result.add(entity.copy());
+            }
+        }
+        return result;
     }
 
     @Override
     public StoreResult<T> findByIdAndLease(String id) {
-        return lockManager.writeLock(() -> {
-            var entity = entitiesById.get(id);
-            if (entity == null) {
-                return StoreResult.notFound(format("Entity %s not found", id));
-            }
+        var entity = entitiesById.get(id);
+        if (entity == null) {
+            return StoreResult.notFound(format("Entity %s not found", id));
+        }
 
-            try {
-                acquireLease(id);
-                return StoreResult.success(entity);
-            } catch (IllegalStateException e) {
-                return StoreResult.alreadyLeased(format("Entity %s is already leased: %s", id, e.getMessage()));
-            }
-        });
+        try {
+            acquireLease(id);
+            return StoreResult.success(entity.copy());
+        } catch (IllegalStateException e) {
+            return StoreResult.alreadyLeased(format("Entity %s is already leased: %s", id, e.getMessage()));
+        }
     }
 
     @Override
     public void save(T entity) {
         acquireLease(entity.getId());
-        entitiesById.put(entity.getId(), entity.copy());
+        var copy = entity.copy();
+        entitiesById.compute(entity.getId(), (id, previous) -> {
+            removeStateEntry(id);
+            var entry = new StateEntry(copy.getState(), copy.getStateTimestamp(), id);
+            entriesByState.computeIfAbsent(entry.state(), s -> new ConcurrentSkipListSet<>(STATE_ENTRY_ORDER)).add(entry);
+            entriesById.put(id, entry);
+            return copy;
+        });
         freeLease(entity.getId());
     }
 
@@ -113,7 +125,10 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
         if (isLeased(id)) {
             throw new IllegalStateException("Entity is leased and cannot be deleted!");
         }
-        entitiesById.remove(id);
+        entitiesById.computeIfPresent(id, (key, previous) -> {
+            removeStateEntry(key);
+            return null;
+        });
     }
 
     public Stream<T> findAll(QuerySpec querySpec) {
@@ -125,15 +140,63 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
     }
 
     public void acquireLease(String id, String lockId, Duration leaseTime) {
-        if (!isLeased(id) || isLeasedBy(id, lockId)) {
-            leases.put(id, new Lease(lockId, clock.millis(), leaseTime.toMillis()));
-        } else {
+        leases.compute(id, (key, lease) -> {
+            if (lease == null || lease.isExpired(clock.millis()) || lease.getLeasedBy().equals(lockId)) {
+                return new Lease(lockId, clock.millis(), leaseTime.toMillis());
+            }
             throw new IllegalStateException("Cannot acquire lease, is already leased by someone else!");
-        }
+        });
     }
 
     public boolean isLeasedBy(String id, String lockId) {
-        return isLeased(id) && leases.get(id).getLeasedBy().equals(lockId);
+        var lease = leases.get(id);
+        return lease != null && !lease.isExpired(clock.millis()) && lease.getLeasedBy().equals(lockId);
+    }
+
+    /**
+     * Returns the entities that could match the criteria, oldest state timestamp first. When one of the criteria
+     * selects a state, only the entities in that state are returned.
+     */
+    private Stream<T> candidates(Criterion... criteria) {
+        var state = Arrays.stream(criteria)
+                .filter(c -> "state".equals(c.getOperandLeft()) && "=".equals(c.getOperator()) && c.getOperandRight() instanceof Integer)
+                .map(c -> (Integer) c.getOperandRight())
+                .findFirst();
+
+        if (state.isPresent()) {
+            var entries = entriesByState.get(state.get());
+            if (entries == null) {
+                return Stream.empty();
+            }
+            return entries.stream().map(entry -> entitiesById.get(entry.id())).filter(e -> e != null && e.getState() == state.get());
+        }
+
+        return entitiesById.values().stream().sorted(comparingLong(StatefulEntity::getStateTimestamp));
+    }
+
+    /**
+     * Removes the index entry of the entity as it was last saved, regardless of changes made to the stored instance.
+     */
+    private void removeStateEntry(String id) {
+        var entry = entriesById.remove(id);
+        if (entry != null) {
+            var entries = entriesByState.get(entry.state());
+            if (entries != null) {
+                entries.remove(entry);
+            }
+        }
+    }
+
+    private boolean tryAcquireLease(String id) {
+        var acquired = new boolean[]{ false };
+        leases.compute(id, (key, lease) -> {
+            if (lease == null || lease.isExpired(clock.millis())) {
+                acquired[0] = true;
+                return new Lease(lockId, clock.millis(), DEFAULT_LEASE_TIME.toMillis());
+            }
+            return lease;
+        });
+        return acquired[0];
     }
 
     private void freeLease(String id) {
@@ -145,7 +208,11 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
     }
 
     private boolean isLeased(String id) {
-        return leases.containsKey(id) && !leases.get(id).isExpired(clock.millis());
+        var lease = leases.get(id);
+        return lease != null && !lease.isExpired(clock.millis());
+    }
+
+    private record StateEntry(int state, long stateTimestamp, String id) {
     }
 
 }
@@ -0,0 +1,48 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.core.store;
+
+import org.eclipse.edc.spi.query.PageCursor;
+import org.eclipse.edc.spi.query.SortOrder;
+
+import java.util.Comparator;
+
+/**
+ * Orders {@link PageCursor}s, i.e. positions in keyset pagination, the same way the SQL stores do: by sort value, then
+ * by id. Null sort values come last in ascending order and first in descending order.
+ */
+public class PageCursorComparator implements Comparator<PageCursor> {
+
+    private final Comparator<PageCursor> comparator;
+
+    public PageCursorComparator(SortOrder sortOrder) {
+        var ascending = Comparator.comparing(PageCursor::getSortValue, Comparator.nullsLast(PageCursorComparator::compareValues))
+                .thenComparing(PageCursor::getId);
+        this.comparator = sortOrder == SortOrder.ASC ? ascending : ascending.reversed();
+    }
+
+    @Override
+    public int compare(PageCursor first, PageCursor second) {
+        return comparator.compare(first, second);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static int compareValues(Object first, Object second) {
+        if (first instanceof Number n1 && second instanceof Number n2 && first.getClass() != second.getClass()) {
+            return Double.compare(n1.doubleValue(), n2.doubleValue());
+        }
+        return ((Comparable) first).compareTo(second);
+    }
+}
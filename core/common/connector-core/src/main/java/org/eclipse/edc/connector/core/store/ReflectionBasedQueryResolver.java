@@ -15,13 +15,16 @@
 package org.eclipse.edc.connector.core.store;
 
 import org.eclipse.edc.spi.query.CriterionToPredicateConverter;
+import org.eclipse.edc.spi.query.PageCursor;
 import org.eclipse.edc.spi.query.QueryResolver;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
+import org.eclipse.edc.util.reflection.PropertyPath;
 import org.eclipse.edc.util.reflection.ReflectionUtil;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Comparator;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -50,7 +53,8 @@ public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
      * Method to query a stream by provided specification.
      * Converts the criterion into 'and' predicate.
      * Applies sorting. When sort field is not found returns empty stream.
-     * Applies offset and limit on the query result.
+     * Applies offset and limit on the query result, or, when keyset pagination is requested, selects the elements that
+     * come after the cursor in the order of the sort field and the id.
      *
      * @param stream stream to be queried.
      * @param spec query specification.
@@ -71,6 +75,13 @@ public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
             if (ReflectionUtil.getFieldRecursive(typeParameterClass, sortField) == null) {
                 throw new IllegalArgumentException(format("Cannot sort by %s, the field does not exist in %s", sortField, typeParameterClass));
             }
+        }
+
+        if (spec.isKeysetPagination()) {
+            return keysetPage(filteredStream, spec);
+        }
+
+        if (sortField != null) {
             var comparator = propertyComparator(spec.getSortOrder() == SortOrder.ASC, sortField);
             filteredStream = filteredStream.sorted(comparator);
         }
@@ -79,11 +90,27 @@ public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
         return filteredStream.skip(spec.getOffset()).limit(spec.getLimit());
     }
 
+    private Stream<T> keysetPage(Stream<T> stream, QuerySpec spec) {
+        var sortPath = spec.getSortField() == null ? null : PropertyPath.parse(spec.getSortField());
+        var idPath = PropertyPath.parse("id");
+        Function<T, PageCursor> position = t -> PageCursor.of(sortPath == null ? null : sortPath.getValue(t), String.valueOf((Object) idPath.getValue(t)));
+        var order = new PageCursorComparator(spec.getSortOrder());
+        var cursor = spec.getPageCursor();
+
+        return stream
+                .map(t -> new Positioned<>(t, position.apply(t)))
+                .filter(p -> cursor == null || order.compare(p.position(), cursor) > 0)
+                .sorted((p1, p2) -> order.compare(p1.position(), p2.position()))
+                .limit(spec.getLimit())
+                .map(Positioned::element);
+    }
+
     @NotNull
     private Comparator<T> propertyComparator(boolean isAscending, String property) {
+        var path = PropertyPath.parse(property);
         return (obj1, obj2) -> {
-            var o1 = ReflectionUtil.getFieldValue(property, obj1);
-            var o2 = ReflectionUtil.getFieldValue(property, obj2);
+            Object o1 = path.getValue(obj1);
+            Object o2 = path.getValue(obj2);
 
             if (o1 == null || o2 == null) {
                 return 0;
@@ -98,4 +125,6 @@ public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
         };
     }
 
+    private record Positioned<T>(T element, PageCursor position) {
+    }
 }
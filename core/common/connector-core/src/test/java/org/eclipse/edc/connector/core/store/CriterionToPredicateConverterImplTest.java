@@ -18,6 +18,7 @@ import org.eclipse.edc.spi.query.Criterion;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -129,6 +130,14 @@ class CriterionToPredicateConverterImplTest {
         assertThat(predicate).rejects(new TestObject(List.of(new NestedObject("any"))));
     }
 
+    @Test
+    void like_shouldMatchManyObjects() {
+        var predicate = converter.<TestObject>convert(new Criterion("value", "like", "value-1%"));
+        var objects = IntStream.range(0, 100_000).mapToObj(i -> new TestObject("value-" + i)).toList();
+
+        assertThat(objects.stream().filter(predicate).count()).isEqualTo(11_111);
+    }
+
     public enum TestEnum {
         ENTRY1, ENTRY2
     }
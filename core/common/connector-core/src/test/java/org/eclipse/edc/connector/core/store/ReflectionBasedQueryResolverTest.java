@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.core.store;
 
 import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.PageCursor;
 import org.eclipse.edc.spi.query.QueryResolver;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
@@ -65,6 +66,28 @@ class ReflectionBasedQueryResolverTest {
         assertThat(actual).hasSize(5).extracting(FakeItem::getName).containsOnly("Bob");
     }
 
+    @Test
+    void verifyQuery_keyset_shouldReturnPagesAfterCursor() {
+        var items = IntStream.range(0, 10).mapToObj(i -> new FakeItem(i, i % 2 == 0 ? "Alice" : "Bob")).toList();
+
+        var firstPage = queryResolver.query(items.stream(), QuerySpec.Builder.newInstance().sortField("name").cursor("").limit(4).build()).toList();
+        assertThat(firstPage).extracting(FakeItem::getId).containsExactly(0, 2, 4, 6);
+
+        var cursor = PageCursor.of("Alice", "6").encode();
+        var secondPage = queryResolver.query(items.stream(), QuerySpec.Builder.newInstance().sortField("name").cursor(cursor).limit(4).build()).toList();
+        assertThat(secondPage).extracting(FakeItem::getId).containsExactly(8, 1, 3, 5);
+    }
+
+    @Test
+    void verifyQuery_keyset_sortDesc() {
+        var items = IntStream.range(0, 10).mapToObj(FakeItem::new).toList();
+
+        var cursor = PageCursor.of(7, "7").encode();
+        var spec = QuerySpec.Builder.newInstance().sortField("id").sortOrder(SortOrder.DESC).cursor(cursor).limit(3).build();
+
+        assertThat(queryResolver.query(items.stream(), spec)).extracting(FakeItem::getId).containsExactly(6, 5, 4);
+    }
+
     @Test
     void verifyQuery_sortDesc() {
         var stream = IntStream.range(0, 10).mapToObj(FakeItem::new);
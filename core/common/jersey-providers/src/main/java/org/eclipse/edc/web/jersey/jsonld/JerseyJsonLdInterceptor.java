@@ -27,11 +27,16 @@ import jakarta.ws.rs.ext.WriterInterceptor;
 import jakarta.ws.rs.ext.WriterInterceptorContext;
 import org.eclipse.edc.jsonld.spi.JsonLd;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.PushbackInputStream;
 
 import static jakarta.json.stream.JsonCollectors.toJsonArray;
 
+/**
+ * Expands the {@link JsonObject} request bodies and compacts the {@link JsonObject} and {@link JsonArray} response
+ * bodies. The request body is parsed directly from the entity stream and the expanded object is handed to the resource
+ * method as it is, without serializing and parsing it again.
+ */
 @Provider
 public class JerseyJsonLdInterceptor implements ReaderInterceptor, WriterInterceptor {
     private final JsonLd jsonLd;
@@ -48,16 +53,16 @@ public class JerseyJsonLdInterceptor implements ReaderInterceptor, WriterInterce
     @Override
     public Object aroundReadFrom(ReaderInterceptorContext context) throws IOException, WebApplicationException {
         if (context.getType().equals(JsonObject.class)) {
-            var bytes = context.getInputStream().readAllBytes();
-            if (bytes.length > 0) {
-                var jsonObject = objectMapper.readValue(bytes, JsonObject.class);
+            var inputStream = new PushbackInputStream(context.getInputStream());
+            var firstByte = inputStream.read();
+            if (firstByte != -1) {
+                inputStream.unread(firstByte);
+                var jsonObject = objectMapper.readValue(inputStream, JsonObject.class);
 
-                var expanded = jsonLd.expand(jsonObject)
+                return jsonLd.expand(jsonObject)
                         .orElseThrow(f -> new BadRequestException("Failed to expand JsonObject: " + f.getFailureDetail()));
-
-                var expandedBytes = objectMapper.writeValueAsBytes(expanded);
-                context.setInputStream(new ByteArrayInputStream(expandedBytes));
             }
+            context.setInputStream(inputStream);
         }
 
         return context.proceed();
@@ -30,10 +30,13 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import static java.util.stream.Collectors.toList;
 import static org.eclipse.edc.spi.result.Result.failure;
@@ -41,6 +44,12 @@ import static org.eclipse.edc.spi.result.Result.success;
 
 /**
  * Default implementation of the policy engine.
+ * <p>
+ * The functions and validators bound to a scope are resolved once per scope and kept until a new one is registered, so
+ * that evaluations do not have to scan all the registrations. Optionally, the engine can also keep the scope-filtered
+ * copy of the evaluated policy instances (see {@link #PolicyEngineImpl(ScopeFilter, int)}): as the filtered policy
+ * depends on the rule bindings, that are not tracked by the engine, this mode must only be enabled when all the
+ * bindings are registered before the first evaluation.
  */
 public class PolicyEngineImpl implements PolicyEngine {
 
@@ -50,10 +59,27 @@ public class PolicyEngineImpl implements PolicyEngine {
     private final Map<String, List<RuleFunctionEntry<Rule>>> ruleFunctions = new TreeMap<>();
     private final Map<String, List<BiFunction<Policy, PolicyContext, Boolean>>> preValidators = new HashMap<>();
     private final Map<String, List<BiFunction<Policy, PolicyContext, Boolean>>> postValidators = new HashMap<>();
+    private final Map<String, ScopedFunctions> scopedFunctions = new ConcurrentHashMap<>();
     private final ScopeFilter scopeFilter;
+    private final Map<FilteredPolicyKey, Policy> filteredPolicies;
 
     public PolicyEngineImpl(ScopeFilter scopeFilter) {
+        this(scopeFilter, 0);
+    }
+
+    /**
+     * Creates an engine that keeps up to {@code filteredPolicyCacheSize} scope-filtered policies, evicting the least
+     * recently used ones. Policies are cached by identity, so only the evaluations of the same policy instance, e.g.
+     * one held by a cache of contract definitions, are served from the cache. A size of 0 disables the cache.
+     */
+    public PolicyEngineImpl(ScopeFilter scopeFilter, int filteredPolicyCacheSize) {
         this.scopeFilter = scopeFilter;
+        this.filteredPolicies = filteredPolicyCacheSize > 0 ? new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<FilteredPolicyKey, Policy> eldest) {
+                return size() > filteredPolicyCacheSize;
+            }
+        } : null;
     }
 
     @Override
@@ -63,47 +89,23 @@ public class PolicyEngineImpl implements PolicyEngine {
 
     @Override
     public Result<Void> evaluate(String scope, Policy policy, PolicyContext context) {
-        var delimitedScope = scope + ".";
+        var functions = scopedFunctions.computeIfAbsent(scope, this::resolveFunctions);
 
-        var scopedPreValidators = preValidators.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(l -> l.getValue().stream()).toList();
-        for (var validator : scopedPreValidators) {
+        for (var validator : functions.preValidators()) {
             if (!validator.apply(policy, context)) {
                 return failValidator("Pre-validator", validator, context);
             }
         }
 
-        var evalBuilder = PolicyEvaluator.Builder.newInstance();
+        var evaluator = functions.createEvaluator(context);
 
-        ruleFunctions.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(entry -> entry.getValue().stream()).forEach(entry -> {
-            if (Duty.class.isAssignableFrom(entry.type)) {
-                evalBuilder.dutyRuleFunction((rule) -> entry.function.evaluate(rule, context));
-            } else if (Permission.class.isAssignableFrom(entry.type)) {
-                evalBuilder.permissionRuleFunction((rule) -> entry.function.evaluate(rule, context));
-            } else if (Prohibition.class.isAssignableFrom(entry.type)) {
-                evalBuilder.prohibitionRuleFunction((rule) -> entry.function.evaluate(rule, context));
-            }
-        });
-
-        constraintFunctions.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(entry -> entry.getValue().stream()).forEach(entry -> {
-            if (Duty.class.isAssignableFrom(entry.type)) {
-                evalBuilder.dutyFunction(entry.key, (operator, value, duty) -> entry.function.evaluate(operator, value, duty, context));
-            } else if (Permission.class.isAssignableFrom(entry.type)) {
-                evalBuilder.permissionFunction(entry.key, (operator, value, permission) -> entry.function.evaluate(operator, value, permission, context));
-            } else if (Prohibition.class.isAssignableFrom(entry.type)) {
-                evalBuilder.prohibitionFunction(entry.key, (operator, value, prohibition) -> entry.function.evaluate(operator, value, prohibition, context));
-            }
-        });
-
-        var evaluator = evalBuilder.build();
-
-        var filteredPolicy = scopeFilter.applyScope(policy, scope);
+        var filteredPolicy = filteredPolicy(policy, scope);
 
         var result = evaluator.evaluate(filteredPolicy);
 
         if (result.valid()) {
 
-            var scopedPostValidators = postValidators.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(l -> l.getValue().stream()).toList();
-            for (var validator : scopedPostValidators) {
+            for (var validator : functions.postValidators()) {
                 if (!validator.apply(policy, context)) {
                     return failValidator("Post-validator", validator, context);
                 }
@@ -119,22 +121,64 @@ public class PolicyEngineImpl implements PolicyEngine {
     @SuppressWarnings({"unchecked", "rawtypes"})
     public <R extends Rule> void registerFunction(String scope, Class<R> type, String key, AtomicConstraintFunction<R> function) {
         constraintFunctions.computeIfAbsent(scope + ".", k -> new ArrayList<>()).add(new ConstraintFunctionEntry(type, key, function));
+        scopedFunctions.clear();
     }
 
     @Override
     @SuppressWarnings({"unchecked", "rawtypes"})
     public <R extends Rule> void registerFunction(String scope, Class<R> type, RuleFunction<R> function) {
         ruleFunctions.computeIfAbsent(scope + ".", k -> new ArrayList<>()).add(new RuleFunctionEntry(type, function));
+        scopedFunctions.clear();
     }
 
     @Override
     public void registerPreValidator(String scope, BiFunction<Policy, PolicyContext, Boolean> validator) {
         preValidators.computeIfAbsent(scope + DELIMITER, k -> new ArrayList<>()).add(validator);
+        scopedFunctions.clear();
     }
 
     @Override
     public void registerPostValidator(String scope, BiFunction<Policy, PolicyContext, Boolean> validator) {
         postValidators.computeIfAbsent(scope + DELIMITER, k -> new ArrayList<>()).add(validator);
+        scopedFunctions.clear();
+    }
+
+    private Policy filteredPolicy(Policy policy, String scope) {
+        if (filteredPolicies == null) {
+            return scopeFilter.applyScope(policy, scope);
+        }
+        var key = new FilteredPolicyKey(policy, scope);
+        synchronized (filteredPolicies) {
+            var filtered = filteredPolicies.get(key);
+            if (filtered != null) {
+                return filtered;
+            }
+        }
+        var filtered = scopeFilter.applyScope(policy, scope);
+        synchronized (filteredPolicies) {
+            filteredPolicies.put(key, filtered);
+        }
+        return filtered;
+    }
+
+    /**
+     * Collects the functions and validators that apply to the scope, grouping the functions by rule type.
+     */
+    private ScopedFunctions resolveFunctions(String scope) {
+        var delimitedScope = scope + DELIMITER;
+
+        var scopedPreValidators = preValidators.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(l -> l.getValue().stream()).toList();
+        var scopedPostValidators = postValidators.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(l -> l.getValue().stream()).toList();
+        var scopedRuleFunctions = ruleFunctions.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(entry -> entry.getValue().stream()).toList();
+        var scopedConstraintFunctions = constraintFunctions.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(entry -> entry.getValue().stream()).toList();
+
+        return new ScopedFunctions(scopedPreValidators, scopedPostValidators,
+                ofType(scopedRuleFunctions, Duty.class, e -> e.type), ofType(scopedRuleFunctions, Permission.class, e -> e.type), ofType(scopedRuleFunctions, Prohibition.class, e -> e.type),
+                ofType(scopedConstraintFunctions, Duty.class, e -> e.type), ofType(scopedConstraintFunctions, Permission.class, e -> e.type), ofType(scopedConstraintFunctions, Prohibition.class, e -> e.type));
+    }
+
+    private <T> List<T> ofType(List<T> entries, Class<? extends Rule> ruleType, Function<T, Class<?>> typeOf) {
+        return entries.stream().filter(entry -> ruleType.isAssignableFrom(typeOf.apply(entry))).toList();
     }
 
     private boolean scopeFilter(String entry, String scope) {
@@ -146,6 +190,62 @@ public class PolicyEngineImpl implements PolicyEngine {
         return failure(context.hasProblems() ? context.getProblems() : List.of(type + " failed: " + validator.getClass().getName()));
     }
 
+    /**
+     * The functions and validators bound to a scope, with the functions grouped by the rule type they apply to.
+     */
+    private record ScopedFunctions(List<BiFunction<Policy, PolicyContext, Boolean>> preValidators,
+                                   List<BiFunction<Policy, PolicyContext, Boolean>> postValidators,
+                                   List<RuleFunctionEntry<Rule>> dutyRuleFunctions,
+                                   List<RuleFunctionEntry<Rule>> permissionRuleFunctions,
+                                   List<RuleFunctionEntry<Rule>> prohibitionRuleFunctions,
+                                   List<ConstraintFunctionEntry<Rule>> dutyFunctions,
+                                   List<ConstraintFunctionEntry<Rule>> permissionFunctions,
+                                   List<ConstraintFunctionEntry<Rule>> prohibitionFunctions) {
+
+        /**
+         * Creates an evaluator with the scope functions bound to the context. A new evaluator is needed for every
+         * evaluation as it holds the evaluation state.
+         */
+        PolicyEvaluator createEvaluator(PolicyContext context) {
+            var evalBuilder = PolicyEvaluator.Builder.newInstance();
+            for (var entry : dutyRuleFunctions) {
+                evalBuilder.dutyRuleFunction((rule) -> entry.function.evaluate(rule, context));
+            }
+            for (var entry : permissionRuleFunctions) {
+                evalBuilder.permissionRuleFunction((rule) -> entry.function.evaluate(rule, context));
+            }
+            for (var entry : prohibitionRuleFunctions) {
+                evalBuilder.prohibitionRuleFunction((rule) -> entry.function.evaluate(rule, context));
+            }
+            for (var entry : dutyFunctions) {
+                evalBuilder.dutyFunction(entry.key, (operator, value, duty) -> entry.function.evaluate(operator, value, duty, context));
+            }
+            for (var entry : permissionFunctions) {
+                evalBuilder.permissionFunction(entry.key, (operator, value, permission) -> entry.function.evaluate(operator, value, permission, context));
+            }
+            for (var entry : prohibitionFunctions) {
+                evalBuilder.prohibitionFunction(entry.key, (operator, value, prohibition) -> entry.function.evaluate(operator, value, prohibition, context));
+            }
+            return evalBuilder.build();
+        }
+    }
+
+    /**
+     * Identifies a policy instance in a scope, without hashing or comparing the policy tree.
+     */
+    private record FilteredPolicyKey(Policy policy, String scope) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof FilteredPolicyKey other && policy == other.policy && scope.equals(other.scope);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(policy) + scope.hashCode();
+        }
+    }
+
     private static class ConstraintFunctionEntry<R extends Rule> {
         Class<R> type;
         String key;
@@ -292,6 +292,51 @@ class PolicyEngineImplTest {
         assertThat(result).isFailed();
     }
 
+    @Test
+    void validateFunctionRegisteredAfterEvaluation() {
+        bindingRegistry.bind("foo", ALL_SCOPES);
+        var policy = Policy.Builder.newInstance().permission(Permission.Builder.newInstance().constraint(fooConstraint()).build()).build();
+
+        policyEngine.registerFunction(ALL_SCOPES, Permission.class, "foo", (op, rv, permission, ctx) -> true);
+        assertThat(policyEngine.evaluate(TEST_SCOPE, policy, PolicyContextImpl.Builder.newInstance().build())).isSucceeded();
+
+        policyEngine.registerPreValidator(TEST_SCOPE, (p, context) -> false);
+        assertThat(policyEngine.evaluate(TEST_SCOPE, policy, PolicyContextImpl.Builder.newInstance().build())).isFailed();
+    }
+
+    @Test
+    void validateWithFilteredPolicyCache() {
+        bindingRegistry.bind("foo", ALL_SCOPES);
+        var cachingEngine = new PolicyEngineImpl(new ScopeFilter(bindingRegistry), 10);
+        cachingEngine.registerFunction(ALL_SCOPES, Permission.class, "foo", (op, rv, permission, ctx) -> "bar".equals(ctx.getContextData(String.class)));
+        var policy = Policy.Builder.newInstance().permission(Permission.Builder.newInstance().constraint(fooConstraint()).build()).build();
+
+        var satisfied = PolicyContextImpl.Builder.newInstance().additional(String.class, "bar").build();
+        var unsatisfied = PolicyContextImpl.Builder.newInstance().additional(String.class, "baz").build();
+
+        assertThat(cachingEngine.evaluate(TEST_SCOPE, policy, satisfied)).isSucceeded();
+        assertThat(cachingEngine.evaluate(TEST_SCOPE, policy, unsatisfied)).isFailed();
+        assertThat(cachingEngine.evaluate(TEST_SCOPE, policy, satisfied)).isSucceeded();
+    }
+
+    @Test
+    void validateWithFilteredPolicyCache_shouldFilterEqualPolicyInstancesSeparately() {
+        var cachingEngine = new PolicyEngineImpl(new ScopeFilter(bindingRegistry), 10);
+        cachingEngine.registerFunction(ALL_SCOPES, Permission.class, "foo", (op, rv, permission, ctx) -> false);
+        var policy = Policy.Builder.newInstance().permission(Permission.Builder.newInstance().constraint(fooConstraint()).build()).build();
+
+        assertThat(cachingEngine.evaluate(TEST_SCOPE, policy, PolicyContextImpl.Builder.newInstance().build())).isSucceeded();
+
+        bindingRegistry.bind("foo", ALL_SCOPES);
+        var equalPolicy = Policy.Builder.newInstance().permission(Permission.Builder.newInstance().constraint(fooConstraint()).build()).build();
+
+        assertThat(cachingEngine.evaluate(TEST_SCOPE, equalPolicy, PolicyContextImpl.Builder.newInstance().build())).isFailed();
+    }
+
+    private AtomicConstraint fooConstraint() {
+        return AtomicConstraint.Builder.newInstance().leftExpression(new LiteralExpression("foo")).operator(EQ).rightExpression(new LiteralExpression("bar")).build();
+    }
+
     private Policy createTestPolicy() {
         var left = new LiteralExpression("foo");
         var right = new LiteralExpression("bar");
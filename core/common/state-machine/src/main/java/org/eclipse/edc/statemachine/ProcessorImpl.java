@@ -16,6 +16,9 @@ package org.eclipse.edc.statemachine;
 
 import java.util.Collection;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -33,6 +36,8 @@ import static java.util.function.Predicate.isEqual;
  * Additional features:
  * - An {@link Guard} can be registered, if its predicate is verified, the guard processor is executed instead of the standard one.
  * - A onNotProcessed listener can be registered, that will be called on every entity that has not been processed.
+ * - An {@link Executor} can be registered, in that case the entities of a batch are processed concurrently on it and
+ *   the process method returns only when all of them have been processed.
  *
  * @param <E> the entity that is processed
  */
@@ -42,6 +47,7 @@ public class ProcessorImpl<E> implements Processor {
     private Function<E, Boolean> process;
     private Guard<E> guard = Guard.noop();
     private Consumer<E> onNotProcessed = e -> {};
+    private Executor executor;
 
     private ProcessorImpl(Supplier<Collection<E>> entitiesSupplier) {
         entities = entitiesSupplier;
@@ -49,19 +55,45 @@ public class ProcessorImpl<E> implements Processor {
 
     @Override
     public Long process() {
-        return entities.get().stream()
-                .map(entity -> {
-                    var actualProcess = guard.predicate().test(entity) ? guard.process() : process;
-                    var hasBeenProcessed = actualProcess.apply(entity);
-                    if (!hasBeenProcessed) {
-                        onNotProcessed.accept(entity);
-                    }
-                    return hasBeenProcessed;
-                })
+        var batch = entities.get();
+        if (executor == null || batch.size() < 2) {
+            return batch.stream()
+                    .map(this::processEntity)
+                    .filter(isEqual(true))
+                    .count();
+        }
+
+        var futures = batch.stream()
+                .map(entity -> CompletableFuture.supplyAsync(() -> processEntity(entity), executor))
+                .toList();
+
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+
+        return futures.stream()
+                .map(CompletableFuture::join)
                 .filter(isEqual(true))
                 .count();
     }
 
+    private boolean processEntity(E entity) {
+        var actualProcess = guard.predicate().test(entity) ? guard.process() : process;
+        var hasBeenProcessed = actualProcess.apply(entity);
+        if (!hasBeenProcessed) {
+            onNotProcessed.accept(entity);
+        }
+        return hasBeenProcessed;
+    }
+
     public static class Builder<E> {
 
         private final ProcessorImpl<E> processor;
@@ -95,6 +127,18 @@ public class ProcessorImpl<E> implements Processor {
             return this;
         }
 
+        /**
+         * Defines the executor on which the entities of a batch will be processed concurrently. If not set, or if
+         * null, the entities will be processed sequentially on the caller thread.
+         *
+         * @param executor the executor.
+         * @return the builder.
+         */
+        public Builder<E> executor(Executor executor) {
+            processor.executor = executor;
+            return this;
+        }
+
         public ProcessorImpl<E> build() {
             Objects.requireNonNull(processor.process);
 
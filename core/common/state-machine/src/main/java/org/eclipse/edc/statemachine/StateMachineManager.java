@@ -17,7 +17,6 @@ package org.eclipse.edc.statemachine;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.retry.WaitStrategy;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
-import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -25,37 +24,44 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
 import static java.lang.String.format;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
 /**
  * Handles a loop that processes entities continuously.
  * On every iteration it runs all the set processors sequentially,
  * applying a wait strategy in the case no entities are processed on the iteration.
+ * <p>
+ * When the dedicated processor threads mode is enabled, every processor runs in its own loop on its own thread,
+ * so a slow processor does not stall the others. Every loop applies its own wait strategy, obtained from the wait
+ * strategy supplier, and it won't fetch a new batch until the previous one has been processed.
+ * <p>
+ * A waiting loop can be woken up with {@link #wakeUp()}, e.g. when an entity has been moved to a processable state,
+ * in that case the next iteration starts immediately instead of waiting for the wait strategy delay to expire.
  */
 public class StateMachineManager {
 
     private final List<Processor> processors = new ArrayList<>();
-    private final ScheduledExecutorService executor;
+    private final List<Worker> workers = new ArrayList<>();
     private final AtomicBoolean active = new AtomicBoolean();
-    private final WaitStrategy waitStrategy;
+    private final Supplier<WaitStrategy> waitStrategySupplier;
     private final Monitor monitor;
     private final String name;
+    private final ExecutorInstrumentation instrumentation;
     private int shutdownTimeout = 10;
+    private boolean dedicatedProcessorThreads = false;
 
-    private StateMachineManager(String name, Monitor monitor, ExecutorInstrumentation instrumentation, WaitStrategy waitStrategy) {
+    private StateMachineManager(String name, Monitor monitor, ExecutorInstrumentation instrumentation, Supplier<WaitStrategy> waitStrategySupplier) {
         this.name = name;
         this.monitor = monitor;
-        this.waitStrategy = waitStrategy;
-        executor = instrumentation.instrument(
-                Executors.newSingleThreadScheduledExecutor(r -> {
-                    var thread = Executors.defaultThreadFactory().newThread(r);
-                    thread.setName("StateMachineManager-" + name);
-                    return thread;
-                }), name);
+        this.waitStrategySupplier = waitStrategySupplier;
+        this.instrumentation = instrumentation;
     }
 
     /**
@@ -65,20 +71,30 @@ public class StateMachineManager {
      */
     public Future<?> start() {
         active.set(true);
-        return scheduleNextIterationIn(0L);
+        var started = workers.stream()
+                .map(Worker::start)
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(started);
     }
 
     /**
-     * Stop the loop gracefully
+     * Stop the loop gracefully. All the loops are shut down at once and the shutdown timeout applies to all of them
+     * together.
      *
      * @return a future that will complete when the loop is fully stopped. The content of the future will be true if stop happened before the timeout, false elsewhere.
      */
     public CompletableFuture<Boolean> stop() {
         active.set(false);
+        workers.forEach(Worker::shutdown);
 
         return CompletableFuture.supplyAsync(() -> {
             try {
-                return executor.awaitTermination(shutdownTimeout, SECONDS);
+                var deadline = System.nanoTime() + SECONDS.toNanos(shutdownTimeout);
+                var terminated = true;
+                for (var worker : workers) {
+                    terminated &= worker.executor.awaitTermination(deadline - System.nanoTime(), NANOSECONDS);
+                }
+                return terminated;
             } catch (InterruptedException e) {
                 monitor.severe(format("StateMachineManager [%s] await termination failed", name), e);
                 return false;
@@ -86,6 +102,16 @@ public class StateMachineManager {
         });
     }
 
+    /**
+     * Wake up the loops that are waiting for the next iteration, making them run immediately.
+     * Loops that are currently running are not affected.
+     */
+    public void wakeUp() {
+        if (active.get()) {
+            workers.forEach(Worker::wakeUp);
+        }
+    }
+
     /**
      * Tells if the loop is active and running
      *
@@ -95,49 +121,123 @@ public class StateMachineManager {
         return active.get();
     }
 
-    private Runnable loop() {
-        return () -> {
-            if (active.get()) {
-                performLogic();
+    private void createWorkers() {
+        if (dedicatedProcessorThreads && processors.size() > 1) {
+            for (var i = 0; i < processors.size(); i++) {
+                workers.add(new Worker(name + "-" + i, List.of(processors.get(i))));
             }
-        };
+        } else {
+            workers.add(new Worker(name, processors));
+        }
     }
 
-    private void performLogic() {
-        try {
-            var processed = processors.stream()
-                    .mapToLong(Processor::process)
-                    .sum();
+    /**
+     * Runs a group of processors sequentially on a dedicated single thread executor.
+     */
+    private class Worker {
+
+        private final String workerName;
+        private final List<Processor> workerProcessors;
+        private final ScheduledExecutorService executor;
+        private final WaitStrategy waitStrategy;
+        private ScheduledFuture<?> nextIteration;
+
+        Worker(String workerName, List<Processor> workerProcessors) {
+            this.workerName = workerName;
+            this.workerProcessors = workerProcessors;
+            waitStrategy = waitStrategySupplier.get();
+            executor = instrumentation.instrument(
+                    Executors.newSingleThreadScheduledExecutor(r -> {
+                        var thread = Executors.defaultThreadFactory().newThread(r);
+                        thread.setName("StateMachineManager-" + workerName);
+                        return thread;
+                    }), workerName);
+        }
 
-            waitStrategy.success();
+        CompletableFuture<Void> start() {
+            var started = new CompletableFuture<Void>();
+            executor.schedule(() -> {
+                try {
+                    loop().run();
+                } finally {
+                    started.complete(null);
+                }
+            }, 0L, MILLISECONDS);
+            return started;
+        }
 
-            var delay = processed == 0 ? waitStrategy.waitForMillis() : 0;
+        /**
+         * Shut down the executor, letting the running iteration complete and discarding the scheduled one.
+         */
+        synchronized void shutdown() {
+            executor.shutdown();
+            if (nextIteration != null) {
+                nextIteration.cancel(false);
+            }
+        }
 
-            scheduleNextIterationIn(delay);
-        } catch (Error e) {
-            active.set(false);
-            monitor.severe(format("StateMachineManager [%s] unrecoverable error", name), e);
-        } catch (Throwable e) {
-            monitor.severe(format("StateMachineManager [%s] error caught", name), e);
-            scheduleNextIterationIn(waitStrategy.retryInMillis());
+        synchronized void wakeUp() {
+            if (nextIteration != null && nextIteration.getDelay(MILLISECONDS) > 0 && nextIteration.cancel(false)) {
+                scheduleNextIterationIn(0L);
+            }
         }
-    }
 
-    @NotNull
-    private Future<?> scheduleNextIterationIn(long delayMillis) {
-        return executor.schedule(loop(), delayMillis, MILLISECONDS);
+        private Runnable loop() {
+            return () -> {
+                if (active.get()) {
+                    performLogic();
+                }
+            };
+        }
+
+        private void performLogic() {
+            try {
+                var processed = workerProcessors.stream()
+                        .mapToLong(Processor::process)
+                        .sum();
+
+                waitStrategy.success();
+
+                var delay = processed == 0 ? waitStrategy.waitForMillis() : 0;
+
+                scheduleNextIterationIn(delay);
+            } catch (Error e) {
+                active.set(false);
+                monitor.severe(format("StateMachineManager [%s] unrecoverable error", workerName), e);
+            } catch (Throwable e) {
+                monitor.severe(format("StateMachineManager [%s] error caught", workerName), e);
+                scheduleNextIterationIn(waitStrategy.retryInMillis());
+            }
+        }
+
+        private synchronized void scheduleNextIterationIn(long delayMillis) {
+            if (!executor.isShutdown()) {
+                nextIteration = executor.schedule(loop(), delayMillis, MILLISECONDS);
+            }
+        }
     }
 
     public static class Builder {
 
         private final StateMachineManager loop;
 
-        private Builder(String name, Monitor monitor, ExecutorInstrumentation instrumentation, WaitStrategy waitStrategy) {
-            loop = new StateMachineManager(name, monitor, instrumentation, waitStrategy);
+        private Builder(String name, Monitor monitor, ExecutorInstrumentation instrumentation, Supplier<WaitStrategy> waitStrategySupplier) {
+            loop = new StateMachineManager(name, monitor, instrumentation, waitStrategySupplier);
         }
 
+        /**
+         * Create a builder whose loops all share the same wait strategy instance.
+         */
         public static Builder newInstance(String name, Monitor monitor, ExecutorInstrumentation instrumentation, WaitStrategy waitStrategy) {
-            return new Builder(name, monitor, instrumentation, waitStrategy);
+            return new Builder(name, monitor, instrumentation, () -> waitStrategy);
+        }
+
+        /**
+         * Create a builder that obtains a wait strategy for every loop from the supplier, so that stateful strategies
+         * (e.g. exponential ones) are not shared between the loops of the dedicated processor threads mode.
+         */
+        public static Builder newInstance(String name, Monitor monitor, ExecutorInstrumentation instrumentation, Supplier<WaitStrategy> waitStrategySupplier) {
+            return new Builder(name, monitor, instrumentation, waitStrategySupplier);
         }
 
         public Builder processor(Processor processor) {
@@ -150,7 +250,20 @@ public class StateMachineManager {
             return this;
         }
 
+        /**
+         * Run every processor in its own loop on a dedicated thread instead of running all of them sequentially
+         * on a single one.
+         *
+         * @param dedicatedProcessorThreads true to enable the dedicated processor threads mode.
+         * @return the builder.
+         */
+        public Builder dedicatedProcessorThreads(boolean dedicatedProcessorThreads) {
+            loop.dedicatedProcessorThreads = dedicatedProcessorThreads;
+            return this;
+        }
+
         public StateMachineManager build() {
+            loop.createWorkers();
             return loop;
         }
     }
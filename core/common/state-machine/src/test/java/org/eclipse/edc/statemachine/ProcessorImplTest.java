@@ -18,10 +18,15 @@ import org.eclipse.edc.statemachine.retry.TestEntity;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -117,4 +122,45 @@ class ProcessorImplTest {
 
         verifyNoInteractions(onNotProcessed);
     }
+
+    @Test
+    void shouldProcessEntitiesConcurrently_whenExecutorIsSet() {
+        var entities = IntStream.range(0, 4).mapToObj(i -> TestEntity.Builder.newInstance().id("id" + i).build()).toList();
+        var latch = new CountDownLatch(entities.size());
+        var executor = Executors.newFixedThreadPool(entities.size());
+        Consumer<TestEntity> onNotProcessed = mock();
+        var processor = ProcessorImpl.Builder.newInstance(() -> entities)
+                .process(e -> {
+                    latch.countDown();
+                    try {
+                        return latch.await(5, SECONDS) && !e.getId().equals("id0");
+                    } catch (InterruptedException ex) {
+                        throw new RuntimeException(ex);
+                    }
+                })
+                .onNotProcessed(onNotProcessed)
+                .executor(executor)
+                .build();
+
+        var count = processor.process();
+
+        assertThat(count).isEqualTo(3);
+        verify(onNotProcessed).accept(entities.get(0));
+        executor.shutdown();
+    }
+
+    @Test
+    void shouldRethrowException_whenConcurrentProcessingFails() {
+        var entities = List.of(TestEntity.Builder.newInstance().id("id1").build(), TestEntity.Builder.newInstance().id("id2").build());
+        var executor = Executors.newFixedThreadPool(2);
+        var processor = ProcessorImpl.Builder.newInstance(() -> entities)
+                .process(e -> {
+                    throw new IllegalStateException("error");
+                })
+                .executor(executor)
+                .build();
+
+        assertThatThrownBy(processor::process).isInstanceOf(IllegalStateException.class);
+        executor.shutdown();
+    }
 }
@@ -21,13 +21,18 @@ import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.function.Supplier;
+
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -135,4 +140,107 @@ class StateMachineManagerTest {
             verify(waitStrategy).retryInMillis();
         });
     }
+
+    @Test
+    void shouldNotBlockOtherProcessorsWhenDedicatedProcessorThreadsIsEnabled() {
+        var slowProcessor = mock(Processor.class);
+        when(slowProcessor.process()).thenAnswer(i -> {
+            Thread.sleep(10_000L);
+            return 1L;
+        });
+        var processor = mock(Processor.class);
+        when(processor.process()).thenReturn(1L);
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(slowProcessor)
+                .processor(processor)
+                .dedicatedProcessorThreads(true)
+                .build();
+
+        stateMachine.start();
+
+        await().atMost(5, SECONDS).untilAsserted(() -> {
+            verify(slowProcessor).process();
+            verify(processor, atLeast(2)).process();
+        });
+
+        stateMachine.stop();
+    }
+
+    @Test
+    void shouldGetAWaitStrategyForEveryLoop_whenDedicatedProcessorThreadsIsEnabled() {
+        var processor = mock(Processor.class);
+        when(processor.process()).thenReturn(0L);
+        var firstWaitStrategy = mock(WaitStrategy.class);
+        var secondWaitStrategy = mock(WaitStrategy.class);
+        var waitStrategies = List.of(firstWaitStrategy, secondWaitStrategy).iterator();
+        Supplier<WaitStrategy> waitStrategySupplier = waitStrategies::next;
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategySupplier)
+                .processor(processor)
+                .processor(processor)
+                .dedicatedProcessorThreads(true)
+                .build();
+
+        stateMachine.start();
+
+        await().atMost(5, SECONDS).untilAsserted(() -> {
+            verify(firstWaitStrategy, atLeastOnce()).waitForMillis();
+            verify(secondWaitStrategy, atLeastOnce()).waitForMillis();
+        });
+
+        stateMachine.stop();
+    }
+
+    @Test
+    void shouldStopAllLoopsWithinTheShutdownTimeout_whenDedicatedProcessorThreadsIsEnabled() {
+        var processor = mock(Processor.class);
+        when(processor.process()).thenAnswer(i -> {
+            Thread.sleep(3_000L);
+            return 1L;
+        });
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(processor)
+                .processor(processor)
+                .processor(processor)
+                .dedicatedProcessorThreads(true)
+                .shutdownTimeout(1)
+                .build();
+
+        stateMachine.start();
+        await().atMost(5, SECONDS).untilAsserted(() -> verify(processor, times(3)).process());
+
+        assertThat(stateMachine.stop()).succeedsWithin(2, SECONDS).isEqualTo(false);
+    }
+
+    @Test
+    void shouldStopImmediately_whenWaitingForTheNextIteration() {
+        var processor = mock(Processor.class);
+        when(processor.process()).thenReturn(0L);
+        when(waitStrategy.waitForMillis()).thenReturn(60_000L);
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(processor)
+                .build();
+
+        assertThat(stateMachine.start()).succeedsWithin(1, SECONDS);
+
+        assertThat(stateMachine.stop()).succeedsWithin(1, SECONDS).isEqualTo(true);
+    }
+
+    @Test
+    void shouldRunImmediately_whenWokenUp() {
+        var processor = mock(Processor.class);
+        when(processor.process()).thenReturn(0L);
+        var waitStrategy = mock(WaitStrategy.class);
+        when(waitStrategy.waitForMillis()).thenReturn(60_000L);
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(processor)
+                .build();
+
+        assertThat(stateMachine.start()).succeedsWithin(1, SECONDS);
+        verify(processor).process();
+
+        stateMachine.wakeUp();
+
+        await().atMost(1, SECONDS).untilAsserted(() -> verify(processor, times(2)).process());
+        stateMachine.stop();
+    }
 }
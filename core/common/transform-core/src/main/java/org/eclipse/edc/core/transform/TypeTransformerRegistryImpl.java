@@ -20,29 +20,35 @@ import org.eclipse.edc.transform.spi.TypeTransformer;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static java.lang.String.format;
 
+/**
+ * Default {@link TypeTransformerRegistry}. The transformer that handles a pair of concrete input class and output type
+ * is resolved once, the first registered transformer whose input type is a supertype of the input class wins, and then
+ * kept in a cache that is discarded when another transformer gets registered.
+ */
 public class TypeTransformerRegistryImpl implements TypeTransformerRegistry {
     private final Map<String, Class<?>> aliases = new HashMap<>();
-    private final List<TypeTransformer<?, ?>> transformers = new ArrayList<>();
+    private final List<TypeTransformer<?, ?>> transformers = new CopyOnWriteArrayList<>();
+    private volatile Map<Class<?>, Map<Class<?>, Optional<TypeTransformer<?, ?>>>> resolved = new ConcurrentHashMap<>();
 
     @Override
     public void register(TypeTransformer<?, ?> transformer) {
         this.transformers.add(transformer);
+        resolved = new ConcurrentHashMap<>();
     }
 
     @Override
     public @NotNull <INPUT, OUTPUT> TypeTransformer<INPUT, OUTPUT> transformerFor(@NotNull INPUT input, @NotNull Class<OUTPUT> outputType) {
-        return transformers.stream()
-                .filter(t -> t.getInputType().isInstance(input) && t.getOutputType().equals(outputType))
-                .findAny()
-                .map(it -> (TypeTransformer<INPUT, OUTPUT>) it)
+        return findTransformer(input, outputType)
                 .orElseThrow(() -> new EdcException(format("No Transformer registered that can handle %s -> %s", input.getClass(), outputType)));
     }
 
@@ -75,4 +81,20 @@ public class TypeTransformerRegistryImpl implements TypeTransformerRegistry {
     public void registerTypeAlias(String alias, Class<?> type) {
         aliases.put(alias, type);
     }
+
+    /**
+     * Returns the transformer registered for the input and output type, if any.
+     */
+    @SuppressWarnings("unchecked")
+    protected <INPUT, OUTPUT> Optional<TypeTransformer<INPUT, OUTPUT>> findTransformer(@NotNull INPUT input, @NotNull Class<OUTPUT> outputType) {
+        return resolved.computeIfAbsent(input.getClass(), k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(outputType, k -> resolve(input.getClass(), outputType))
+                .map(it -> (TypeTransformer<INPUT, OUTPUT>) it);
+    }
+
+    private Optional<TypeTransformer<?, ?>> resolve(Class<?> inputClass, Class<?> outputType) {
+        return transformers.stream()
+                .filter(t -> t.getInputType().isAssignableFrom(inputClass) && t.getOutputType().equals(outputType))
+                .findFirst();
+    }
 }
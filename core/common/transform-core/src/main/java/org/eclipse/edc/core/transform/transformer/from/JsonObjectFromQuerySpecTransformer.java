@@ -45,6 +45,10 @@ public class JsonObjectFromQuerySpecTransformer extends AbstractJsonLdTransforme
             builder.add(QuerySpec.EDC_QUERY_SPEC_SORT_FIELD, querySpec.getSortField());
         }
 
+        if (querySpec.getCursor() != null) {
+            builder.add(QuerySpec.EDC_QUERY_SPEC_CURSOR, querySpec.getCursor());
+        }
+
         var filterExpressions = querySpec.getFilterExpression().stream()
                 .map(expression -> context.transform(expression, JsonObject.class))
                 .collect(jsonFactory::createArrayBuilder, JsonArrayBuilder::add, JsonArrayBuilder::add)
@@ -16,7 +16,11 @@ package org.eclipse.edc.core.transform;
 
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.transform.spi.TransformerContext;
+import org.eclipse.edc.transform.spi.TypeTransformer;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -48,6 +52,24 @@ public class TypeTransformerRegistryImplTest {
         assertThatThrownBy(() -> registry.transformerFor(notString, Float.class)).isInstanceOf(EdcException.class);
     }
 
+    @Test
+    void transformerFor_shouldReturnTransformerOfSupertype() {
+        registry.register(new CharSequenceIntegerTypeTransformer());
+
+        assertThat(registry.transformerFor("a string", Integer.class)).isInstanceOf(StringIntegerTypeTransformer.class);
+        assertThat(registry.transformerFor(new StringBuilder("1"), Integer.class)).isInstanceOf(CharSequenceIntegerTypeTransformer.class);
+    }
+
+    @Test
+    void transformerFor_shouldReturnTransformerRegisteredAfterLookup() {
+        var input = new StringBuilder("1");
+        assertThatThrownBy(() -> registry.transformerFor(input, Integer.class)).isInstanceOf(EdcException.class);
+
+        registry.register(new CharSequenceIntegerTypeTransformer());
+
+        assertThat(registry.transformerFor(input, Integer.class)).isInstanceOf(CharSequenceIntegerTypeTransformer.class);
+    }
+
     @Test
     void transform_shouldSucceed_whenInputAndOutputTypesAreHandledByRegisteredTransformer() {
         var result = registry.transform("5", Integer.class);
@@ -90,4 +112,21 @@ public class TypeTransformerRegistryImplTest {
         assertThat(registry.typeAlias("test-alias", Integer.class)).isEqualTo(String.class);
     }
 
+    private static class CharSequenceIntegerTypeTransformer implements TypeTransformer<CharSequence, Integer> {
+
+        @Override
+        public Class<CharSequence> getInputType() {
+            return CharSequence.class;
+        }
+
+        @Override
+        public Class<Integer> getOutputType() {
+            return Integer.class;
+        }
+
+        @Override
+        public @Nullable Integer transform(@NotNull CharSequence object, @NotNull TransformerContext context) {
+            return Integer.valueOf(object.toString());
+        }
+    }
 }
@@ -0,0 +1,148 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.reflection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Pre-parsed property path, that reads the value of a (nested) property with the same semantics as
+ * {@link ReflectionUtil#getFieldValue(String, Object)}, but without parsing the path on every access and without
+ * scanning the class hierarchy for every field: the path is split into its segments once, and the field getters are
+ * resolved once per class and field name and kept as {@link MethodHandle}s.
+ * <pre>
+ *     var path = PropertyPath.parse("someObject[2].someValue");
+ *     entities.stream().map(path::getValue)...
+ * </pre>
+ */
+public class PropertyPath {
+
+    private static final Pattern ARRAY_INDEXER = Pattern.compile("(.*)\\[([0-9]+)\\]");
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final ClassValue<Map<String, Optional<MethodHandle>>> GETTERS = new ClassValue<>() {
+        @Override
+        protected Map<String, Optional<MethodHandle>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final String path;
+    private final List<Segment> segments;
+
+    private PropertyPath(String path, List<Segment> segments) {
+        this.path = path;
+        this.segments = segments;
+    }
+
+    /**
+     * Parses a property path in dot notation, with optional list indexers, e.g. {@code someObject[2].someValue}.
+     *
+     * @param path the property path
+     * @return the parsed path
+     */
+    public static PropertyPath parse(String path) {
+        Objects.requireNonNull(path, "propertyName");
+
+        var segments = new ArrayList<Segment>();
+        for (var name : path.split("\\.", -1)) {
+            var matcher = ARRAY_INDEXER.matcher(name);
+            if (matcher.matches()) {
+                segments.add(new Segment(matcher.group(1), Integer.parseInt(matcher.group(2))));
+            } else {
+                segments.add(new Segment(name, -1));
+            }
+        }
+        return new PropertyPath(path, List.copyOf(segments));
+    }
+
+    /**
+     * Reads the value of the property from the given object.
+     *
+     * @param object The object
+     * @return The property value, null if one of the intermediate values is null
+     * @throws ReflectionException if a field does not exist or is not accessible
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getValue(Object object) {
+        Objects.requireNonNull(object, "object");
+
+        var value = object;
+        for (var segment : segments) {
+            if (value == null) {
+                return null;
+            }
+            value = segment.getValue(value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+
+    private static Object getField(String name, Object object) {
+        var getter = GETTERS.get(object.getClass())
+                .computeIfAbsent(name, n -> resolveGetter(object.getClass(), n))
+                .orElseThrow(() -> new ReflectionException(name));
+        try {
+            return getter.invokeExact(object);
+        } catch (Throwable e) {
+            throw new ReflectionException(e);
+        }
+    }
+
+    private static Optional<MethodHandle> resolveGetter(Class<?> type, String name) {
+        var field = ReflectionUtil.getFieldRecursive(type, name);
+        if (field == null) {
+            return Optional.empty();
+        }
+        try {
+            field.setAccessible(true);
+            return Optional.of(MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE));
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new ReflectionException(e);
+        }
+    }
+
+    private record Segment(String name, int index) {
+
+        Object getValue(Object object) {
+            var value = getProperty(object);
+            if (index < 0) {
+                return value;
+            }
+            return ((List<?>) value).get(index);
+        }
+
+        private Object getProperty(Object object) {
+            if (object instanceof Map<?, ?> map) {
+                return map.get(name);
+            } else if (object instanceof List<?> list) {
+                return list.stream().filter(Objects::nonNull).map(it -> getField(name, it)).toList();
+            } else {
+                return getField(name, object);
+            }
+        }
+    }
+}
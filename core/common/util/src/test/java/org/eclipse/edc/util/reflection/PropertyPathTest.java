@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.reflection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PropertyPathTest {
+
+    @Test
+    void getValue() {
+        assertThat((String) PropertyPath.parse("description").getValue(new TestObject("test-desc", 1))).isEqualTo("test-desc");
+        assertThat((Integer) PropertyPath.parse("priority").getValue(new TestObject("test-desc", 1))).isEqualTo(1);
+    }
+
+    @Test
+    void getValue_notExist() {
+        assertThatThrownBy(() -> PropertyPath.parse("notExist").getValue(new TestObject("test-desc", 1)))
+                .isInstanceOf(ReflectionException.class);
+    }
+
+    @Test
+    void getValue_fromMap() {
+        assertThat((String) PropertyPath.parse("key").getValue(Map.of("key", "value"))).isEqualTo("value");
+    }
+
+    @Test
+    void getValue_whenDeclaredInSuperclass() {
+        var to = new TestObjectSubSubclass("test-desc", 1, "foobar");
+        to.setAnotherObject(new AnotherObject("another-desc"));
+
+        assertThat((String) PropertyPath.parse("description").getValue(to)).isEqualTo("test-desc");
+        assertThat((String) PropertyPath.parse("anotherObject.anotherDescription").getValue(to)).isEqualTo("another-desc");
+    }
+
+    @Test
+    void getValue_whenParentNotExist() {
+        var to = new TestObjectSubSubclass("test-desc", 1, "foobar");
+        to.setAnotherObject(null);
+
+        assertThat((String) PropertyPath.parse("anotherObject.anotherDescription").getValue(to)).isNull();
+    }
+
+    @Test
+    void getValue_withArrayIndex() {
+        var o = new TestObjectWithList("test-desc", 0, List.of(new TestObject("to1", 420), new TestObject("to2", 69)));
+
+        assertThat((Integer) PropertyPath.parse("nestedObjects[1].priority").getValue(o)).isEqualTo(69);
+        assertThatThrownBy(() -> PropertyPath.parse("nestedObjects[3]").getValue(o)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void getValue_arrayWithoutIndex() {
+        var o = new TestObjectWithList("test-desc", 0, List.of(new TestObject("to1", 420), new TestObject("to2", 69)));
+
+        assertThat((List<?>) PropertyPath.parse("nestedObjects.description").getValue(o)).isEqualTo(List.of("to1", "to2"));
+    }
+
+    @Test
+    void getValue_shouldMatchReflectionUtil_whenAppliedToManyObjects() {
+        var path = PropertyPath.parse("nestedObjects[0].description");
+        var objects = IntStream.range(0, 100_000)
+                .mapToObj(i -> new TestObjectWithList("desc", i, List.of(new TestObject("nested-" + i, i))))
+                .toList();
+
+        var values = objects.stream().map(path::getValue).toList();
+
+        assertThat(values).hasSize(100_000).first().isEqualTo(ReflectionUtil.getFieldValue("nestedObjects[0].description", objects.get(0)));
+        assertThat(values).last().isEqualTo("nested-99999");
+    }
+}
@@ -15,6 +15,7 @@
 package org.eclipse.edc.validator.jsonobject.validators.model;
 
 import jakarta.json.JsonObject;
+import org.eclipse.edc.spi.query.PageCursor;
 import org.eclipse.edc.spi.query.SortOrder;
 import org.eclipse.edc.validator.jsonobject.JsonLdPath;
 import org.eclipse.edc.validator.jsonobject.JsonObjectValidator;
@@ -27,6 +28,7 @@ import java.util.Optional;
 import static java.lang.String.format;
 import static java.util.Collections.emptyList;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.VALUE;
+import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_CURSOR;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_FILTER_EXPRESSION;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_LIMIT;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_OFFSET;
@@ -46,6 +48,7 @@ public class QuerySpecValidator {
                 .verify(EDC_QUERY_SPEC_LIMIT, OptionalValueGreaterZero::new)
                 .verify(EDC_QUERY_SPEC_SORT_ORDER, OptionalValueSortField::new)
                 .verify(EDC_QUERY_SPEC_SORT_FIELD, OptionalValueNotBlank::new)
+                .verify(EDC_QUERY_SPEC_CURSOR, OptionalValueCursor::new)
                 .verifyArrayItem(EDC_QUERY_SPEC_FILTER_EXPRESSION, CriterionValidator::instance);
     }
 
@@ -118,4 +121,36 @@ public class QuerySpecValidator {
                     .orElseGet(() -> ValidationResult.failure(violation(format("optional value '%s' is blank", path), path.toString())));
         }
     }
+
+    private record OptionalValueCursor(JsonLdPath path) implements Validator<JsonObject> {
+
+        @Override
+        public ValidationResult validate(JsonObject input) {
+            var cursor = Optional.ofNullable(input.getJsonArray(path.last()))
+                    .map(it -> it.getJsonObject(0))
+                    .map(it -> it.getString(VALUE))
+                    .filter(it -> !it.isEmpty());
+
+            if (cursor.isEmpty()) {
+                return ValidationResult.success();
+            }
+
+            try {
+                PageCursor.decode(cursor.get());
+            } catch (IllegalArgumentException e) {
+                return ValidationResult.failure(violation(format("optional value '%s' is not a valid cursor", path), path.toString(), cursor.get()));
+            }
+
+            var offset = Optional.ofNullable(input.getJsonArray(EDC_QUERY_SPEC_OFFSET))
+                    .map(it -> it.getJsonObject(0))
+                    .map(it -> it.getInt(VALUE))
+                    .orElse(0);
+
+            if (offset > 0) {
+                return ValidationResult.failure(violation(format("optional value '%s' cannot be combined with an offset", path), path.toString(), cursor.get()));
+            }
+
+            return ValidationResult.success();
+        }
+    }
 }
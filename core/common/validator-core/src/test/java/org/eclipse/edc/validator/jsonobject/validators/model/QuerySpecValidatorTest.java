@@ -18,6 +18,7 @@ import jakarta.json.Json;
 import jakarta.json.JsonArrayBuilder;
 import jakarta.json.JsonObject;
 import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.PageCursor;
 import org.eclipse.edc.validator.spi.ValidationFailure;
 import org.eclipse.edc.validator.spi.Validator;
 import org.eclipse.edc.validator.spi.Violation;
@@ -28,6 +29,7 @@ import static jakarta.json.Json.createObjectBuilder;
 import static org.assertj.core.api.InstanceOfAssertFactories.list;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.VALUE;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_CURSOR;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_FILTER_EXPRESSION;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_LIMIT;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_OFFSET;
@@ -135,6 +137,36 @@ class QuerySpecValidatorTest {
                 .hasSizeGreaterThan(0);
     }
 
+    @Test
+    void shouldFail_whenCursorIsInvalid() {
+        var input = Json.createObjectBuilder()
+                .add(EDC_QUERY_SPEC_CURSOR, value("invalid"))
+                .build();
+
+        var result = validator.validate(input);
+
+        assertThat(result).isFailed().extracting(ValidationFailure::getViolations).asInstanceOf(list(Violation.class))
+                .filteredOn(v -> v.path().equals(EDC_QUERY_SPEC_CURSOR))
+                .hasSize(1);
+    }
+
+    @Test
+    void shouldFail_whenCursorIsCombinedWithOffset() {
+        var input = Json.createObjectBuilder()
+                .add(EDC_QUERY_SPEC_CURSOR, value(PageCursor.of("value", "id").encode()))
+                .add(EDC_QUERY_SPEC_OFFSET, value(10))
+                .build();
+
+        var result = validator.validate(input);
+
+        assertThat(result).isFailed().extracting(ValidationFailure::getViolations).asInstanceOf(list(Violation.class))
+                .filteredOn(v -> v.path().equals(EDC_QUERY_SPEC_CURSOR))
+                .hasSize(1)
+                .first()
+                .extracting(Violation::message)
+                .asString().contains("offset");
+    }
+
     private JsonArrayBuilder value(int value) {
         return createArrayBuilder().add(createObjectBuilder().add(VALUE, value));
     }
@@ -19,6 +19,7 @@ plugins {
 dependencies {
     api(project(":spi:common:catalog-spi"))
     api(project(":spi:data-plane-selector:data-plane-selector-spi"))
+    implementation(project(":spi:control-plane:asset-spi"))
 
     testImplementation(project(":core:common:junit"))
     testImplementation(project(":core:control-plane:control-plane-core"))
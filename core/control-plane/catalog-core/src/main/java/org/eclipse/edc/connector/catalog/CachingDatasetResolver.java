@@ -0,0 +1,140 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.catalog;
+
+import org.eclipse.edc.catalog.spi.Dataset;
+import org.eclipse.edc.catalog.spi.DatasetResolver;
+import org.eclipse.edc.connector.asset.spi.event.AssetEvent;
+import org.eclipse.edc.connector.contract.spi.event.contractdefinition.ContractDefinitionEvent;
+import org.eclipse.edc.connector.contract.spi.offer.ContractDefinitionResolver;
+import org.eclipse.edc.connector.contract.spi.types.offer.ContractDefinition;
+import org.eclipse.edc.connector.policy.spi.event.PolicyDefinitionEvent;
+import org.eclipse.edc.spi.agent.ParticipantAgent;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * {@link DatasetResolver} that keeps the result of catalog queries in memory.
+ * <p>
+ * The datasets depend on the agent only through the contract definitions whose access policy it satisfies, so the
+ * entries are keyed by the set of those definitions and the query: agents with the same access policy evaluation
+ * outcomes share the same entries. Entries are invalidated by the received events: a contract definition or policy
+ * definition event evicts the entries built from it, while an asset event evicts all of them, as any page could be
+ * affected. Entries also expire after the configured time-to-live. When the maximum size is reached the least
+ * recently used entry is evicted.
+ * <p>
+ * Only the events of this runtime invalidate the entries, so the cache is consistent only when this is the single
+ * instance writing to the stores: with multiple replicas, or when the stores are changed directly, the catalog can be
+ * stale for up to the time-to-live.
+ */
+public class CachingDatasetResolver implements DatasetResolver, EventSubscriber {
+
+    private final DatasetResolverImpl delegate;
+    private final ContractDefinitionResolver contractDefinitionResolver;
+    private final CatalogCacheStatistics statistics = new CatalogCacheStatistics();
+    private final Map<CacheKey, CacheEntry> cache;
+    private final Clock clock;
+    private final Duration ttl;
+    private long generation;
+
+    public CachingDatasetResolver(DatasetResolverImpl delegate, ContractDefinitionResolver contractDefinitionResolver, Clock clock, Duration ttl, int maxSize) {
+        this.delegate = delegate;
+        this.contractDefinitionResolver = contractDefinitionResolver;
+        this.clock = clock;
+        this.ttl = ttl;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, CacheEntry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    @Override
+    @NotNull
+    public Stream<Dataset> query(ParticipantAgent agent, QuerySpec querySpec) {
+        var definitions = contractDefinitionResolver.definitionsFor(agent).toList();
+        var key = new CacheKey(definitions.stream().map(ContractDefinition::getId).collect(Collectors.toSet()), querySpec);
+
+        long initialGeneration;
+        synchronized (cache) {
+            var entry = cache.get(key);
+            if (entry != null) {
+                if (clock.instant().isBefore(entry.expiresAt())) {
+                    statistics.hit();
+                    return entry.datasets().stream();
+                }
+                cache.remove(key);
+            }
+            initialGeneration = generation;
+        }
+
+        var start = System.nanoTime();
+        var datasets = delegate.query(definitions.stream(), querySpec).toList();
+        statistics.miss(System.nanoTime() - start);
+
+        var policyIds = definitions.stream().map(ContractDefinition::getContractPolicyId).collect(Collectors.toSet());
+        synchronized (cache) {
+            // do not cache a result that could have been built before an invalidation
+            if (generation == initialGeneration) {
+                cache.put(key, new CacheEntry(datasets, policyIds, clock.instant().plus(ttl)));
+            }
+        }
+        return datasets.stream();
+    }
+
+    @Override
+    public Dataset getById(ParticipantAgent participantAgent, String id) {
+        return delegate.getById(participantAgent, id);
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> event) {
+        var payload = event.getPayload();
+        synchronized (cache) {
+            generation++;
+            if (payload instanceof ContractDefinitionEvent definitionEvent) {
+                cache.keySet().removeIf(key -> key.definitionIds().contains(definitionEvent.getContractDefinitionId()));
+            } else if (payload instanceof PolicyDefinitionEvent policyEvent) {
+                cache.values().removeIf(entry -> entry.policyIds().contains(policyEvent.getPolicyDefinitionId()));
+            } else if (payload instanceof AssetEvent) {
+                cache.clear();
+            }
+        }
+    }
+
+    public CatalogCacheStatistics getStatistics() {
+        return statistics;
+    }
+
+    private record CacheKey(Set<String> definitionIds, QuerySpec querySpec) {
+    }
+
+    private record CacheEntry(List<Dataset> datasets, Set<String> policyIds, Instant expiresAt) {
+    }
+}
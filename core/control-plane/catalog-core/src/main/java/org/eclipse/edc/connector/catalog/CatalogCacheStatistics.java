@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.catalog;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+
+/**
+ * Counts the hits and misses of the {@link CachingDatasetResolver} and the time spent rebuilding the missing entries.
+ * <p>
+ * Once a monitor has been set with {@link #reportTo(Monitor)}, every miss is reported at debug level together with
+ * the hit ratio and the average rebuild time.
+ */
+public class CatalogCacheStatistics {
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong rebuildNanos = new AtomicLong();
+    private volatile Monitor monitor;
+
+    /**
+     * Reports the misses to the monitor.
+     *
+     * @param monitor the monitor.
+     */
+    public void reportTo(Monitor monitor) {
+        this.monitor = monitor;
+    }
+
+    /**
+     * The number of queries served from the cache.
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * The number of queries that required the catalog to be built.
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * The ratio of queries served from the cache, 0 if no query has been served yet.
+     */
+    public double getHitRatio() {
+        var hits = getHits();
+        var total = hits + getMisses();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * The average time spent building the catalog on a cache miss.
+     */
+    public Duration getAverageRebuildTime() {
+        var misses = getMisses();
+        return misses == 0 ? Duration.ZERO : Duration.ofNanos(rebuildNanos.get() / misses);
+    }
+
+    void hit() {
+        hits.incrementAndGet();
+    }
+
+    void miss(long rebuildNanos) {
+        misses.incrementAndGet();
+        this.rebuildNanos.addAndGet(rebuildNanos);
+        var monitor = this.monitor;
+        if (monitor != null) {
+            monitor.debug(() -> format("Catalog cache miss, rebuilt in %d ms (hit ratio %.2f over %d queries, average rebuild time %d ms)",
+                    Duration.ofNanos(rebuildNanos).toMillis(), getHitRatio(), getHits() + getMisses(), getAverageRebuildTime().toMillis()));
+        }
+    }
+}
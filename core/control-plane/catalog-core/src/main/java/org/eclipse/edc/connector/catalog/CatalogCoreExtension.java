@@ -16,20 +16,38 @@ package org.eclipse.edc.connector.catalog;
 
 import org.eclipse.edc.catalog.spi.DatasetResolver;
 import org.eclipse.edc.catalog.spi.DistributionResolver;
+import org.eclipse.edc.connector.asset.spi.event.AssetEvent;
+import org.eclipse.edc.connector.contract.spi.event.contractdefinition.ContractDefinitionEvent;
 import org.eclipse.edc.connector.contract.spi.offer.ContractDefinitionResolver;
+import org.eclipse.edc.connector.policy.spi.event.PolicyDefinitionEvent;
 import org.eclipse.edc.connector.policy.spi.store.PolicyDefinitionStore;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.asset.AssetIndex;
+import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.query.CriterionToAssetPredicateConverter;
 import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+
+import java.time.Clock;
+import java.time.Duration;
 
 @Extension(CatalogCoreExtension.NAME)
 public class CatalogCoreExtension implements ServiceExtension {
 
     public static final String NAME = "Catalog Core";
 
+    private static final int DEFAULT_CACHE_SIZE = 0;
+    private static final long DEFAULT_CACHE_TTL = 60;
+
+    @Setting(value = "Maximum number of catalog query results kept in memory. 0 disables the cache. The cache is only invalidated by the events of this runtime, it should not be enabled when multiple instances share the same stores.", type = "int", defaultValue = DEFAULT_CACHE_SIZE + "")
+    private static final String CACHE_SIZE = "edc.catalog.cache.size";
+
+    @Setting(value = "Time-to-live in seconds of the catalog query results kept in memory", type = "long", defaultValue = DEFAULT_CACHE_TTL + "")
+    private static final String CACHE_TTL = "edc.catalog.cache.ttl";
+
     @Inject
     private ContractDefinitionResolver contractDefinitionResolver;
 
@@ -45,14 +63,33 @@ public class CatalogCoreExtension implements ServiceExtension {
     @Inject
     private CriterionToAssetPredicateConverter criterionToPredicateConverter;
 
+    @Inject
+    private EventRouter eventRouter;
+
+    @Inject
+    private Clock clock;
+
     @Override
     public String name() {
         return NAME;
     }
 
     @Provider
-    public DatasetResolver datasetResolver() {
-        return new DatasetResolverImpl(contractDefinitionResolver, assetIndex, policyDefinitionStore,
+    public DatasetResolver datasetResolver(ServiceExtensionContext context) {
+        var datasetResolver = new DatasetResolverImpl(contractDefinitionResolver, assetIndex, policyDefinitionStore,
                 distributionResolver, criterionToPredicateConverter);
+
+        var cacheSize = context.getSetting(CACHE_SIZE, DEFAULT_CACHE_SIZE);
+        if (cacheSize <= 0) {
+            return datasetResolver;
+        }
+
+        var ttl = Duration.ofSeconds(context.getSetting(CACHE_TTL, DEFAULT_CACHE_TTL));
+        var cachingResolver = new CachingDatasetResolver(datasetResolver, contractDefinitionResolver, clock, ttl, cacheSize);
+        cachingResolver.getStatistics().reportTo(context.getMonitor());
+        eventRouter.registerSync(AssetEvent.class, cachingResolver);
+        eventRouter.registerSync(ContractDefinitionEvent.class, cachingResolver);
+        eventRouter.registerSync(PolicyDefinitionEvent.class, cachingResolver);
+        return cachingResolver;
     }
 }
@@ -21,14 +21,18 @@ import org.eclipse.edc.connector.contract.spi.ContractOfferId;
 import org.eclipse.edc.connector.contract.spi.offer.ContractDefinitionResolver;
 import org.eclipse.edc.connector.contract.spi.types.offer.ContractDefinition;
 import org.eclipse.edc.connector.policy.spi.store.PolicyDefinitionStore;
+import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.spi.agent.ParticipantAgent;
 import org.eclipse.edc.spi.asset.AssetIndex;
+import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.CriterionToAssetPredicateConverter;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.types.domain.asset.Asset;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -56,25 +60,74 @@ public class DatasetResolverImpl implements DatasetResolver {
     @Override
     @NotNull
     public Stream<Dataset> query(ParticipantAgent agent, QuerySpec querySpec) {
-        var contractDefinitions = contractDefinitionResolver.definitionsFor(agent).toList();
-        var assetsQuery = QuerySpec.Builder.newInstance().offset(0).limit(MAX_VALUE).filter(querySpec.getFilterExpression()).build();
-        return assetIndex.queryAssets(assetsQuery)
-                .map(asset -> toDataset(contractDefinitions, asset))
-                .filter(Dataset::hasOffers)
-                .skip(querySpec.getOffset())
-                .limit(querySpec.getLimit());
+        return query(contractDefinitionResolver.definitionsFor(agent), querySpec);
     }
 
     @Override
     public Dataset getById(ParticipantAgent agent, String id) {
-        var contractDefinitions = contractDefinitionResolver.definitionsFor(agent).toList();
+        var offerDefinitions = offerDefinitionsFor(contractDefinitionResolver.definitionsFor(agent));
         return Optional.of(id)
                 .map(assetIndex::findById)
-                .map(asset -> toDataset(contractDefinitions, asset))
+                .map(asset -> toDataset(offerDefinitions, asset))
                 .orElse(null);
     }
 
-    private Dataset toDataset(List<ContractDefinition> contractDefinitions, Asset asset) {
+    /**
+     * Resolves the {@link Dataset}s offered through the passed contract definitions, that are the ones whose access
+     * policy has already been evaluated for the requesting agent.
+     */
+    @NotNull
+    Stream<Dataset> query(Stream<ContractDefinition> contractDefinitions, QuerySpec querySpec) {
+        var offerDefinitions = offerDefinitionsFor(contractDefinitions);
+        if (offerDefinitions.isEmpty()) {
+            return Stream.empty();
+        }
+
+        var filter = new ArrayList<>(querySpec.getFilterExpression());
+        commonSelectorCriteria(offerDefinitions).stream()
+                .filter(criterion -> !filter.contains(criterion))
+                .forEach(filter::add);
+
+        var assetsQuery = QuerySpec.Builder.newInstance().offset(0).limit(MAX_VALUE).filter(filter).build();
+        return assetIndex.queryAssets(assetsQuery)
+                .filter(asset -> offerDefinitions.stream().anyMatch(definition -> definition.selector().test(asset)))
+                .skip(querySpec.getOffset())
+                .limit(querySpec.getLimit())
+                .map(asset -> toDataset(offerDefinitions, asset));
+    }
+
+    /**
+     * Compiles the asset selectors and fetches the contract policies of the contract definitions once per request.
+     * Definitions whose contract policy does not exist are discarded, as they cannot produce any offer.
+     */
+    private List<OfferDefinition> offerDefinitionsFor(Stream<ContractDefinition> contractDefinitions) {
+        return contractDefinitions
+                .map(definition -> {
+                    var policyDefinition = policyDefinitionStore.findById(definition.getContractPolicyId());
+                    if (policyDefinition == null) {
+                        return null;
+                    }
+                    var selector = definition.getAssetsSelector().stream()
+                            .<Predicate<Asset>>map(criterionToPredicateConverter::convert)
+                            .reduce(x -> true, Predicate::and);
+                    return new OfferDefinition(definition, selector, policyDefinition.getPolicy());
+                })
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Returns the selector criteria shared by all the definitions: an asset that does not satisfy them cannot match
+     * any definition, so they can be passed down to the {@link AssetIndex} query.
+     */
+    private List<Criterion> commonSelectorCriteria(List<OfferDefinition> offerDefinitions) {
+        var common = new ArrayList<>(offerDefinitions.get(0).contractDefinition().getAssetsSelector());
+        offerDefinitions.stream().skip(1)
+                .forEach(definition -> common.retainAll(definition.contractDefinition().getAssetsSelector()));
+        return common;
+    }
+
+    private Dataset toDataset(List<OfferDefinition> offerDefinitions, Asset asset) {
 
         var distributions = distributionResolver.getDistributions(asset, null); // TODO: data addresses should be retrieved
         var datasetBuilder = Dataset.Builder.newInstance()
@@ -82,21 +135,17 @@ public class DatasetResolverImpl implements DatasetResolver {
                 .distributions(distributions)
                 .properties(asset.getProperties());
 
-        contractDefinitions.stream()
-                .filter(definition -> definition.getAssetsSelector().stream()
-                        .map(criterionToPredicateConverter::convert)
-                        .reduce(x -> true, Predicate::and)
-                        .test(asset)
-                )
-                .forEach(contractDefinition -> {
-                    var policyDefinition = policyDefinitionStore.findById(contractDefinition.getContractPolicyId());
-                    if (policyDefinition != null) {
-                        var contractId = ContractOfferId.create(contractDefinition.getId(), asset.getId());
-                        datasetBuilder.offer(contractId.toString(), policyDefinition.getPolicy().withTarget(asset.getId()));
-                    }
+        offerDefinitions.stream()
+                .filter(definition -> definition.selector().test(asset))
+                .forEach(definition -> {
+                    var contractId = ContractOfferId.create(definition.contractDefinition().getId(), asset.getId());
+                    datasetBuilder.offer(contractId.toString(), definition.policy().withTarget(asset.getId()));
                 });
 
         return datasetBuilder.build();
     }
 
+    private record OfferDefinition(ContractDefinition contractDefinition, Predicate<Asset> selector, Policy policy) {
+    }
+
 }
@@ -0,0 +1,154 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.catalog;
+
+import org.eclipse.edc.catalog.spi.Dataset;
+import org.eclipse.edc.connector.asset.spi.event.AssetUpdated;
+import org.eclipse.edc.connector.contract.spi.event.contractdefinition.ContractDefinitionUpdated;
+import org.eclipse.edc.connector.contract.spi.offer.ContractDefinitionResolver;
+import org.eclipse.edc.connector.contract.spi.types.offer.ContractDefinition;
+import org.eclipse.edc.connector.policy.spi.event.PolicyDefinitionUpdated;
+import org.eclipse.edc.spi.agent.ParticipantAgent;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingDatasetResolverTest {
+
+    private static final Instant NOW = Instant.now();
+
+    private final DatasetResolverImpl delegate = mock(DatasetResolverImpl.class);
+    private final ContractDefinitionResolver contractDefinitionResolver = mock(ContractDefinitionResolver.class);
+    private final Clock clock = mock(Clock.class);
+    private final CachingDatasetResolver resolver = new CachingDatasetResolver(delegate, contractDefinitionResolver, clock, Duration.ofSeconds(60), 10);
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenReturn(NOW);
+        var definition = ContractDefinition.Builder.newInstance().id("definitionId").accessPolicyId("access").contractPolicyId("contract").build();
+        when(contractDefinitionResolver.definitionsFor(any())).thenAnswer(i -> Stream.of(definition));
+        when(delegate.query(any(Stream.class), any())).thenAnswer(i -> Stream.of(Dataset.Builder.newInstance().id("assetId").build()));
+    }
+
+    @Test
+    void query_shouldServeRepeatedQueriesFromCache() {
+        var first = resolver.query(agent(), QuerySpec.none()).toList();
+        var second = resolver.query(agent(), QuerySpec.none()).toList();
+
+        assertThat(second).isEqualTo(first).hasSize(1);
+        verify(delegate, times(1)).query(any(Stream.class), any());
+        assertThat(resolver.getStatistics().getHits()).isEqualTo(1);
+        assertThat(resolver.getStatistics().getMisses()).isEqualTo(1);
+        assertThat(resolver.getStatistics().getHitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    void query_shouldReportMiss_whenMonitorIsSet() {
+        var monitor = mock(Monitor.class);
+        resolver.getStatistics().reportTo(monitor);
+
+        resolver.query(agent(), QuerySpec.none()).toList();
+        resolver.query(agent(), QuerySpec.none()).toList();
+        resolver.query(agent(), QuerySpec.Builder.newInstance().offset(10).build()).toList();
+
+        verify(monitor, times(2)).debug(ArgumentMatchers.<Supplier<String>>any());
+        verify(monitor).debug(ArgumentMatchers.<Supplier<String>>argThat(message -> message.get().contains("over 3 queries")));
+    }
+
+    @Test
+    void query_shouldNotShareEntries_whenQueryDiffers() {
+        resolver.query(agent(), QuerySpec.none()).toList();
+        resolver.query(agent(), QuerySpec.Builder.newInstance().offset(10).build()).toList();
+
+        verify(delegate, times(2)).query(any(Stream.class), any());
+    }
+
+    @Test
+    void query_shouldRebuildEntry_whenExpired() {
+        resolver.query(agent(), QuerySpec.none()).toList();
+
+        when(clock.instant()).thenReturn(NOW.plusSeconds(60));
+        resolver.query(agent(), QuerySpec.none()).toList();
+
+        verify(delegate, times(2)).query(any(Stream.class), any());
+        assertThat(resolver.getStatistics().getHits()).isZero();
+    }
+
+    @Test
+    void on_shouldEvictEntries_whenContractDefinitionChanged() {
+        resolver.query(agent(), QuerySpec.none()).toList();
+
+        resolver.on(envelope(ContractDefinitionUpdated.Builder.newInstance().contractDefinitionId("definitionId").build()));
+        resolver.query(agent(), QuerySpec.none()).toList();
+
+        verify(delegate, times(2)).query(any(Stream.class), any());
+    }
+
+    @Test
+    void on_shouldKeepEntries_whenUnrelatedPolicyChanged() {
+        resolver.query(agent(), QuerySpec.none()).toList();
+
+        resolver.on(envelope(PolicyDefinitionUpdated.Builder.newInstance().policyDefinitionId("unrelated").build()));
+        resolver.query(agent(), QuerySpec.none()).toList();
+
+        verify(delegate, times(1)).query(any(Stream.class), any());
+    }
+
+    @Test
+    void on_shouldEvictEntries_whenContractPolicyChanged() {
+        resolver.query(agent(), QuerySpec.none()).toList();
+
+        resolver.on(envelope(PolicyDefinitionUpdated.Builder.newInstance().policyDefinitionId("contract").build()));
+        resolver.query(agent(), QuerySpec.none()).toList();
+
+        verify(delegate, times(2)).query(any(Stream.class), any());
+    }
+
+    @Test
+    void on_shouldEvictAllEntries_whenAssetChanged() {
+        resolver.query(agent(), QuerySpec.none()).toList();
+
+        resolver.on(envelope(AssetUpdated.Builder.newInstance().assetId("assetId").build()));
+        resolver.query(agent(), QuerySpec.none()).toList();
+
+        verify(delegate, times(2)).query(any(Stream.class), any());
+    }
+
+    private <E extends Event> EventEnvelope<E> envelope(E event) {
+        return EventEnvelope.Builder.newInstance().at(System.currentTimeMillis()).payload(event).build();
+    }
+
+    private ParticipantAgent agent() {
+        return new ParticipantAgent(emptyMap(), emptyMap());
+    }
+}
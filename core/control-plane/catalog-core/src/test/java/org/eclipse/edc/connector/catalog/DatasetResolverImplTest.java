@@ -54,6 +54,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -157,6 +159,47 @@ class DatasetResolverImplTest {
         ));
     }
 
+    @Test
+    void query_shouldPassCommonSelectorCriteriaToAssetIndex() {
+        var commonCriterion = new Criterion(EDC_NAMESPACE + "type", "=", "dataset");
+        var specificCriterion = new Criterion(EDC_NAMESPACE + "id", "=", "id");
+        when(contractDefinitionResolver.definitionsFor(any())).thenReturn(Stream.of(
+                contractDefinitionBuilder("definition1").assetsSelector(List.of(commonCriterion, specificCriterion)).build(),
+                contractDefinitionBuilder("definition2").assetsSelector(List.of(commonCriterion)).build()
+        ));
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenReturn(Stream.empty());
+        when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
+
+        datasetResolver.query(createParticipantAgent(), QuerySpec.none()).toList();
+
+        verify(assetIndex).queryAssets(argThat(q -> q.getFilterExpression().contains(commonCriterion) &&
+                !q.getFilterExpression().contains(specificCriterion)));
+    }
+
+    @Test
+    void query_shouldResolvePoliciesOncePerRequest() {
+        var contractDefinitions = range(0, 2).mapToObj(it -> contractDefinitionBuilder(String.valueOf(it)).build()).toList();
+        var assets = range(0, 10).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
+        when(contractDefinitionResolver.definitionsFor(any())).thenAnswer(it -> contractDefinitions.stream());
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
+        when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
+
+        var datasets = datasetResolver.query(createParticipantAgent(), QuerySpec.none());
+
+        assertThat(datasets).hasSize(10);
+        verify(policyStore, times(2)).findById(any());
+    }
+
+    @Test
+    void query_shouldReturnEmpty_whenNoDefinitionAvailable() {
+        when(contractDefinitionResolver.definitionsFor(any())).thenReturn(Stream.empty());
+
+        var datasets = datasetResolver.query(createParticipantAgent(), QuerySpec.none());
+
+        assertThat(datasets).isEmpty();
+        verify(assetIndex, never()).queryAssets(any());
+    }
+
     @Test
     void query_shouldLimitDataset_whenSingleDefinitionAndMultipleAssets_contained() {
         var contractDefinition = contractDefinitionBuilder("definitionId").contractPolicyId("contractPolicyId").build();
@@ -21,6 +21,7 @@ import org.eclipse.edc.connector.contract.listener.ContractNegotiationEventListe
 import org.eclipse.edc.connector.contract.negotiation.ConsumerContractNegotiationManagerImpl;
 import org.eclipse.edc.connector.contract.negotiation.ProviderContractNegotiationManagerImpl;
 import org.eclipse.edc.connector.contract.policy.PolicyEquality;
+import org.eclipse.edc.connector.contract.spi.event.contractnegotiation.ContractNegotiationEvent;
 import org.eclipse.edc.connector.contract.spi.negotiation.ConsumerContractNegotiationManager;
 import org.eclipse.edc.connector.contract.spi.negotiation.ContractNegotiationPendingGuard;
 import org.eclipse.edc.connector.contract.spi.negotiation.NegotiationWaitStrategy;
@@ -31,6 +32,7 @@ import org.eclipse.edc.connector.contract.spi.offer.ContractDefinitionResolver;
 import org.eclipse.edc.connector.contract.spi.types.negotiation.ContractNegotiation;
 import org.eclipse.edc.connector.contract.spi.validation.ContractValidationService;
 import org.eclipse.edc.connector.contract.validation.ContractValidationServiceImpl;
+import org.eclipse.edc.connector.core.entity.StateEntityManagerWakeUpSubscriber;
 import org.eclipse.edc.connector.core.policy.ContractExpiryCheckFunction;
 import org.eclipse.edc.connector.policy.spi.store.PolicyDefinitionStore;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
@@ -48,6 +50,7 @@ import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.protocol.ProtocolWebhook;
 import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
+import org.eclipse.edc.spi.retry.WaitStrategy;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
@@ -57,10 +60,13 @@ import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
+import java.util.function.Supplier;
 
 import static org.eclipse.edc.connector.contract.spi.validation.ContractValidationService.TRANSFER_SCOPE;
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_BATCH_SIZE;
+import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_DEDICATED_PROCESSOR_THREADS;
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_ITERATION_WAIT;
+import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_PROCESSOR_PARALLELISM;
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_SEND_RETRY_BASE_DELAY;
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_SEND_RETRY_LIMIT;
 import static org.eclipse.edc.connector.core.policy.ContractExpiryCheckFunction.CONTRACT_EXPIRY_EVALUATION_KEY;
@@ -85,6 +91,12 @@ public class ContractCoreExtension implements ServiceExtension {
     @Setting(value = "the batch size in the provider negotiation state machine. Default value " + DEFAULT_BATCH_SIZE, type = "int")
     private static final String NEGOTIATION_PROVIDER_STATE_MACHINE_BATCH_SIZE = "edc.negotiation.provider.state-machine.batch-size";
 
+    @Setting(value = "if true, every processor of the consumer and provider negotiation state machine runs on a dedicated thread. Default value " + DEFAULT_DEDICATED_PROCESSOR_THREADS, type = "boolean")
+    private static final String NEGOTIATION_STATE_MACHINE_DEDICATED_PROCESSOR_THREADS = "edc.negotiation.state-machine.dedicated-processor-threads";
+
+    @Setting(value = "the maximum number of entities of a batch processed concurrently in the consumer and provider negotiation state machine. Default value " + DEFAULT_PROCESSOR_PARALLELISM, type = "int")
+    private static final String NEGOTIATION_STATE_MACHINE_PROCESSOR_PARALLELISM = "edc.negotiation.state-machine.processor-parallelism";
+
     @Setting(value = "how many times a specific operation must be tried before terminating the consumer negotiation with error", type = "int", defaultValue = DEFAULT_SEND_RETRY_LIMIT + "")
     private static final String NEGOTIATION_CONSUMER_SEND_RETRY_LIMIT = "edc.negotiation.consumer.send.retry.limit";
 
@@ -195,13 +207,13 @@ public class ContractCoreExtension implements ServiceExtension {
         policyEngine.registerFunction(TRANSFER_SCOPE, Permission.class, CONTRACT_EXPIRY_EVALUATION_KEY, function);
 
         var iterationWaitMillis = context.getSetting(NEGOTIATION_STATE_MACHINE_ITERATION_WAIT_MILLIS, DEFAULT_ITERATION_WAIT);
-        var waitStrategy = context.hasService(NegotiationWaitStrategy.class) ? context.getService(NegotiationWaitStrategy.class) : new ExponentialWaitStrategy(iterationWaitMillis);
+        Supplier<WaitStrategy> waitStrategy = context.hasService(NegotiationWaitStrategy.class) ? () -> context.getService(NegotiationWaitStrategy.class) : () -> new ExponentialWaitStrategy(iterationWaitMillis);
 
         observable.registerListener(new ContractNegotiationEventListener(eventRouter, clock));
 
         consumerNegotiationManager = ConsumerContractNegotiationManagerImpl.Builder.newInstance()
                 .participantId(participantId)
-                .waitStrategy(waitStrategy)
+                .waitStrategySupplier(waitStrategy)
                 .dispatcherRegistry(dispatcherRegistry)
                 .monitor(monitor)
                 .observable(observable)
@@ -211,6 +223,8 @@ public class ContractCoreExtension implements ServiceExtension {
                 .store(store)
                 .policyStore(policyStore)
                 .batchSize(context.getSetting(NEGOTIATION_CONSUMER_STATE_MACHINE_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .dedicatedProcessorThreads(context.getSetting(NEGOTIATION_STATE_MACHINE_DEDICATED_PROCESSOR_THREADS, DEFAULT_DEDICATED_PROCESSOR_THREADS))
+                .processorParallelism(context.getSetting(NEGOTIATION_STATE_MACHINE_PROCESSOR_PARALLELISM, DEFAULT_PROCESSOR_PARALLELISM))
                 .entityRetryProcessConfiguration(consumerEntityRetryProcessConfiguration(context))
                 .protocolWebhook(protocolWebhook)
                 .pendingGuard(pendingGuard)
@@ -218,7 +232,7 @@ public class ContractCoreExtension implements ServiceExtension {
 
         providerNegotiationManager = ProviderContractNegotiationManagerImpl.Builder.newInstance()
                 .participantId(participantId)
-                .waitStrategy(waitStrategy)
+                .waitStrategySupplier(waitStrategy)
                 .dispatcherRegistry(dispatcherRegistry)
                 .monitor(monitor)
                 .observable(observable)
@@ -228,11 +242,15 @@ public class ContractCoreExtension implements ServiceExtension {
                 .store(store)
                 .policyStore(policyStore)
                 .batchSize(context.getSetting(NEGOTIATION_PROVIDER_STATE_MACHINE_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .dedicatedProcessorThreads(context.getSetting(NEGOTIATION_STATE_MACHINE_DEDICATED_PROCESSOR_THREADS, DEFAULT_DEDICATED_PROCESSOR_THREADS))
+                .processorParallelism(context.getSetting(NEGOTIATION_STATE_MACHINE_PROCESSOR_PARALLELISM, DEFAULT_PROCESSOR_PARALLELISM))
                 .entityRetryProcessConfiguration(providerEntityRetryProcessConfiguration(context))
                 .protocolWebhook(protocolWebhook)
                 .pendingGuard(pendingGuard)
                 .build();
 
+        eventRouter.register(ContractNegotiationEvent.class, new StateEntityManagerWakeUpSubscriber(consumerNegotiationManager, providerNegotiationManager));
+
         context.registerService(ConsumerContractNegotiationManager.class, consumerNegotiationManager);
         context.registerService(ProviderContractNegotiationManager.class, providerNegotiationManager);
     }
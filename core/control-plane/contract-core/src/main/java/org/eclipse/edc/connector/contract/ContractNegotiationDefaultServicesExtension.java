@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.contract;
 
 import org.eclipse.edc.connector.contract.observe.ContractNegotiationObservableImpl;
+import org.eclipse.edc.connector.contract.offer.AccessPolicyEvaluationCache;
 import org.eclipse.edc.connector.contract.offer.ContractDefinitionResolverImpl;
 import org.eclipse.edc.connector.contract.policy.PolicyArchiveImpl;
 import org.eclipse.edc.connector.contract.spi.negotiation.ContractNegotiationPendingGuard;
@@ -22,14 +23,21 @@ import org.eclipse.edc.connector.contract.spi.negotiation.observe.ContractNegoti
 import org.eclipse.edc.connector.contract.spi.negotiation.store.ContractNegotiationStore;
 import org.eclipse.edc.connector.contract.spi.offer.ContractDefinitionResolver;
 import org.eclipse.edc.connector.contract.spi.offer.store.ContractDefinitionStore;
+import org.eclipse.edc.connector.policy.spi.event.PolicyDefinitionEvent;
 import org.eclipse.edc.connector.policy.spi.store.PolicyArchive;
 import org.eclipse.edc.connector.policy.spi.store.PolicyDefinitionStore;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
+
+import java.time.Clock;
+import java.time.Duration;
 
 /**
  * Contract Negotiation Default Services Extension
@@ -39,6 +47,15 @@ public class ContractNegotiationDefaultServicesExtension implements ServiceExten
 
     public static final String NAME = "Contract Negotiation Default Services";
 
+    private static final long DEFAULT_ACCESS_POLICY_CACHE_TTL = 0;
+    private static final int DEFAULT_ACCESS_POLICY_CACHE_SIZE = 10000;
+
+    @Setting(value = "Time-to-live in seconds of the cached access policy evaluation outcomes, 0 disables the cache", defaultValue = DEFAULT_ACCESS_POLICY_CACHE_TTL + "", type = "long")
+    public static final String ACCESS_POLICY_CACHE_TTL = "edc.contract.definition.access.policy.cache.ttl";
+
+    @Setting(value = "Maximum number of cached access policy evaluation outcomes", defaultValue = DEFAULT_ACCESS_POLICY_CACHE_SIZE + "", type = "int")
+    public static final String ACCESS_POLICY_CACHE_SIZE = "edc.contract.definition.access.policy.cache.size";
+
     @Inject
     private ContractDefinitionStore contractDefinitionStore;
 
@@ -51,9 +68,26 @@ public class ContractNegotiationDefaultServicesExtension implements ServiceExten
     @Inject
     private ContractNegotiationStore store;
 
+    @Inject
+    private EventRouter eventRouter;
+
+    @Inject
+    private Clock clock;
+
+    @Inject
+    private TypeManager typeManager;
+
     @Provider
     public ContractDefinitionResolver contractDefinitionResolver(ServiceExtensionContext context) {
-        return new ContractDefinitionResolverImpl(context.getMonitor(), contractDefinitionStore, policyEngine, policyStore);
+        var ttl = context.getSetting(ACCESS_POLICY_CACHE_TTL, DEFAULT_ACCESS_POLICY_CACHE_TTL);
+        if (ttl <= 0) {
+            return new ContractDefinitionResolverImpl(context.getMonitor(), contractDefinitionStore, policyEngine, policyStore);
+        }
+
+        var cache = new AccessPolicyEvaluationCache(clock, Duration.ofSeconds(ttl), context.getSetting(ACCESS_POLICY_CACHE_SIZE, DEFAULT_ACCESS_POLICY_CACHE_SIZE),
+                typeManager);
+        eventRouter.registerSync(PolicyDefinitionEvent.class, cache);
+        return new ContractDefinitionResolverImpl(context.getMonitor(), contractDefinitionStore, policyEngine, policyStore, cache);
     }
 
     @Provider
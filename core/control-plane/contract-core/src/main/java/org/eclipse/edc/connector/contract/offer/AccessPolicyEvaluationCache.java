@@ -0,0 +1,122 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.contract.offer;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.connector.policy.spi.event.PolicyDefinitionEvent;
+import org.eclipse.edc.policy.model.Duty;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.spi.agent.ParticipantAgent;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the outcome of access policy evaluations for a short time, so that repeated catalog requests of the same
+ * participant do not evaluate the same policies again.
+ * <p>
+ * Outcomes are keyed by the policy id, the policy content and the claims and attributes of the agent. The content is
+ * compared through its JSON tree, as {@link org.eclipse.edc.connector.contract.policy.PolicyEquality} does: the rules
+ * and constraints of a policy do not implement {@code equals}, and the policy stores return a new instance on every
+ * lookup, so the content matches an equal policy while an updated policy never matches an outdated entry.
+ * <p>
+ * Entries expire after the configured time-to-live and are evicted when a {@link PolicyDefinitionEvent} is received
+ * for their policy. When the maximum size is reached the least recently used entry is evicted.
+ */
+public class AccessPolicyEvaluationCache implements EventSubscriber {
+
+    private final Clock clock;
+    private final Duration ttl;
+    private final ObjectMapper objectMapper;
+    private final Map<EvaluationKey, Entry> cache;
+
+    public AccessPolicyEvaluationCache(Clock clock, Duration ttl, int maxSize, TypeManager typeManager) {
+        this.clock = clock;
+        this.ttl = ttl;
+        this.objectMapper = typeManager.getMapper().copy().addMixIn(Duty.class, DutyFingerprintMixin.class);
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<EvaluationKey, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached outcome of the evaluation of the policy for the agent, evaluating it when there is none.
+     */
+    public Result<Void> computeIfAbsent(String policyId, Policy policy, ParticipantAgent agent, Supplier<Result<Void>> evaluation) {
+        var key = new EvaluationKey(policyId, objectMapper.valueToTree(policy), agent.getClaims(), agent.getAttributes());
+        var cached = get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        var result = evaluation.get();
+        synchronized (cache) {
+            cache.put(key, new Entry(result, clock.instant().plus(ttl)));
+        }
+        return result;
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> event) {
+        if (event.getPayload() instanceof PolicyDefinitionEvent policyEvent) {
+            synchronized (cache) {
+                cache.keySet().removeIf(key -> key.policyId().equals(policyEvent.getPolicyDefinitionId()));
+            }
+        }
+    }
+
+    @Nullable
+    private Result<Void> get(EvaluationKey key) {
+        synchronized (cache) {
+            var entry = cache.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (clock.instant().isBefore(entry.expiresAt())) {
+                return entry.result();
+            }
+            cache.remove(key);
+            return null;
+        }
+    }
+
+    private record EvaluationKey(String policyId, JsonNode policy, Map<String, Object> claims, Map<String, String> attributes) {
+    }
+
+    private record Entry(Result<Void> result, Instant expiresAt) {
+    }
+
+    /**
+     * The parent permission of a duty refers back to the permission that contains it.
+     */
+    @JsonIgnoreProperties("parentPermission")
+    private abstract static class DutyFingerprintMixin {
+    }
+}
@@ -23,6 +23,7 @@ import org.eclipse.edc.connector.policy.spi.PolicyDefinition;
 import org.eclipse.edc.connector.policy.spi.store.PolicyDefinitionStore;
 import org.eclipse.edc.policy.engine.spi.PolicyContextImpl;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
+import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.spi.agent.ParticipantAgent;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.query.QuerySpec;
@@ -30,6 +31,7 @@ import org.eclipse.edc.spi.result.Result;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.HashMap;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -39,25 +41,36 @@ import static java.lang.String.format;
  * Determines the contract definitions applicable to a {@link ParticipantAgent} by evaluating the access control and
  * usage policies associated with a set of assets as defined by {@link ContractDefinition}s. On the distinction between
  * access control and usage policy, see {@link ContractDefinition}.
+ * <p>
+ * Definitions sharing the same access policy are evaluated once per request. Optionally, the outcomes can be kept
+ * across requests by an {@link AccessPolicyEvaluationCache}.
  */
 public class ContractDefinitionResolverImpl implements ContractDefinitionResolver {
     private final PolicyEngine policyEngine;
     private final PolicyDefinitionStore policyStore;
     private final Monitor monitor;
     private final ContractDefinitionStore definitionStore;
+    private final AccessPolicyEvaluationCache evaluationCache;
 
     public ContractDefinitionResolverImpl(Monitor monitor, ContractDefinitionStore contractDefinitionStore, PolicyEngine policyEngine, PolicyDefinitionStore policyStore) {
+        this(monitor, contractDefinitionStore, policyEngine, policyStore, null);
+    }
+
+    public ContractDefinitionResolverImpl(Monitor monitor, ContractDefinitionStore contractDefinitionStore, PolicyEngine policyEngine, PolicyDefinitionStore policyStore,
+                                          @Nullable AccessPolicyEvaluationCache evaluationCache) {
         this.monitor = monitor;
         definitionStore = contractDefinitionStore;
         this.policyEngine = policyEngine;
         this.policyStore = policyStore;
+        this.evaluationCache = evaluationCache;
     }
 
     @NotNull
     @Override
     public Stream<ContractDefinition> definitionsFor(ParticipantAgent agent) {
+        var accessResults = new HashMap<String, Result<Void>>();
         return definitionStore.findAll(QuerySpec.max())
-                .filter(definition -> evaluateAccessPolicy(definition, agent));
+                .filter(definition -> isAccessGranted(definition, accessResults.computeIfAbsent(definition.getAccessPolicyId(), id -> evaluateAccessPolicy(id, agent))));
     }
 
     @Nullable
@@ -65,21 +78,30 @@ public class ContractDefinitionResolverImpl implements ContractDefinitionResolve
     public ContractDefinition definitionFor(ParticipantAgent agent, String definitionId) {
         return Optional.of(definitionId)
                 .map(definitionStore::findById)
-                .filter(definition -> evaluateAccessPolicy(definition, agent))
+                .filter(definition -> isAccessGranted(definition, evaluateAccessPolicy(definition.getAccessPolicyId(), agent)))
                 .orElse(null);
     }
 
     /**
-     * Determines the applicability of a definition to an agent by evaluating its access policy.
+     * Evaluates the access policy for the agent.
      */
-    private boolean evaluateAccessPolicy(ContractDefinition definition, ParticipantAgent agent) {
-        var policyContext = PolicyContextImpl.Builder.newInstance().additional(ParticipantAgent.class, agent).build();
-        var accessResult = Optional.of(definition.getAccessPolicyId())
+    private Result<Void> evaluateAccessPolicy(String accessPolicyId, ParticipantAgent agent) {
+        return Optional.of(accessPolicyId)
                 .map(policyStore::findById)
                 .map(PolicyDefinition::getPolicy)
-                .map(policy -> policyEngine.evaluate(CATALOGING_SCOPE, policy, policyContext))
-                .orElse(Result.failure(format("Policy %s not found", definition.getAccessPolicyId())));
+                .map(policy -> evaluationCache == null ? evaluate(policy, agent) : evaluationCache.computeIfAbsent(accessPolicyId, policy, agent, () -> evaluate(policy, agent)))
+                .orElse(Result.failure(format("Policy %s not found", accessPolicyId)));
+    }
 
+    private Result<Void> evaluate(Policy policy, ParticipantAgent agent) {
+        var policyContext = PolicyContextImpl.Builder.newInstance().additional(ParticipantAgent.class, agent).build();
+        return policyEngine.evaluate(CATALOGING_SCOPE, policy, policyContext);
+    }
+
+    /**
+     * Determines the applicability of a definition to an agent from the evaluation of its access policy.
+     */
+    private boolean isAccessGranted(ContractDefinition definition, Result<Void> accessResult) {
         if (accessResult.failed()) {
             monitor.debug(format("Access not granted for %s: \n%s", definition.getId(), String.join("\n", accessResult.getFailureMessages())));
             return false;
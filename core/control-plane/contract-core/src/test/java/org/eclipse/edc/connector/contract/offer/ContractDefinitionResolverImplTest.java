@@ -18,17 +18,28 @@ package org.eclipse.edc.connector.contract.offer;
 import org.eclipse.edc.connector.contract.spi.offer.store.ContractDefinitionStore;
 import org.eclipse.edc.connector.contract.spi.types.offer.ContractDefinition;
 import org.eclipse.edc.connector.policy.spi.PolicyDefinition;
+import org.eclipse.edc.connector.policy.spi.event.PolicyDefinitionUpdated;
 import org.eclipse.edc.connector.policy.spi.store.PolicyDefinitionStore;
 import org.eclipse.edc.policy.engine.spi.PolicyContext;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
+import org.eclipse.edc.policy.model.Action;
+import org.eclipse.edc.policy.model.AtomicConstraint;
+import org.eclipse.edc.policy.model.Duty;
+import org.eclipse.edc.policy.model.LiteralExpression;
+import org.eclipse.edc.policy.model.Operator;
+import org.eclipse.edc.policy.model.Permission;
 import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.spi.agent.ParticipantAgent;
+import org.eclipse.edc.spi.event.EventEnvelope;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.TypeManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Map;
 import java.util.stream.Stream;
 
@@ -41,6 +52,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -135,9 +147,95 @@ class ContractDefinitionResolverImplTest {
         verifyNoInteractions(policyEngine);
     }
 
+    @Test
+    void definitionsFor_shouldEvaluateSharedAccessPolicyOnce() {
+        var agent = new ParticipantAgent(Map.of(), Map.of());
+        var definition = PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).id("access").build();
+        when(policyStore.findById("access")).thenReturn(definition);
+        when(policyEngine.evaluate(any(), any(), isA(PolicyContext.class))).thenReturn(Result.success());
+        when(definitionStore.findAll(any())).thenReturn(Stream.of(createContractDefinition("1"), createContractDefinition("2"), createContractDefinition("3")));
+
+        var definitions = definitionService.definitionsFor(agent);
+
+        assertThat(definitions).hasSize(3);
+        verify(policyStore, times(1)).findById("access");
+        verify(policyEngine, times(1)).evaluate(any(), any(), isA(PolicyContext.class));
+    }
+
+    @Test
+    void definitionsFor_shouldReuseCachedOutcome_acrossRequests() {
+        var cache = new AccessPolicyEvaluationCache(Clock.systemUTC(), Duration.ofMinutes(1), 10, new TypeManager());
+        var cachingService = new ContractDefinitionResolverImpl(mock(Monitor.class), definitionStore, policyEngine, policyStore, cache);
+        var definition = PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).id("access").build();
+        when(policyStore.findById("access")).thenReturn(definition);
+        when(policyEngine.evaluate(any(), any(), isA(PolicyContext.class))).thenReturn(Result.success());
+        when(definitionStore.findAll(any())).thenAnswer(i -> Stream.of(createContractDefinition()));
+
+        assertThat(cachingService.definitionsFor(new ParticipantAgent(Map.of("id", "agent"), Map.of()))).hasSize(1);
+        assertThat(cachingService.definitionsFor(new ParticipantAgent(Map.of("id", "agent"), Map.of()))).hasSize(1);
+        verify(policyEngine, times(1)).evaluate(any(), any(), isA(PolicyContext.class));
+
+        assertThat(cachingService.definitionsFor(new ParticipantAgent(Map.of("id", "other"), Map.of()))).hasSize(1);
+        verify(policyEngine, times(2)).evaluate(any(), any(), isA(PolicyContext.class));
+    }
+
+    @Test
+    void definitionsFor_shouldReuseCachedOutcome_whenStoreReturnsNewEqualPolicy() {
+        var cache = new AccessPolicyEvaluationCache(Clock.systemUTC(), Duration.ofMinutes(1), 10, new TypeManager());
+        var cachingService = new ContractDefinitionResolverImpl(mock(Monitor.class), definitionStore, policyEngine, policyStore, cache);
+        var agent = new ParticipantAgent(Map.of("id", "agent"), Map.of());
+        when(policyStore.findById("access")).thenAnswer(i -> PolicyDefinition.Builder.newInstance().policy(createPolicy("region")).id("access").build());
+        when(policyEngine.evaluate(any(), any(), isA(PolicyContext.class))).thenReturn(Result.success());
+        when(definitionStore.findAll(any())).thenAnswer(i -> Stream.of(createContractDefinition()));
+
+        assertThat(cachingService.definitionsFor(agent)).hasSize(1);
+        assertThat(cachingService.definitionsFor(agent)).hasSize(1);
+        verify(policyEngine, times(1)).evaluate(any(), any(), isA(PolicyContext.class));
+
+        when(policyStore.findById("access")).thenAnswer(i -> PolicyDefinition.Builder.newInstance().policy(createPolicy("country")).id("access").build());
+
+        assertThat(cachingService.definitionsFor(agent)).hasSize(1);
+        verify(policyEngine, times(2)).evaluate(any(), any(), isA(PolicyContext.class));
+    }
+
+    @Test
+    void definitionsFor_shouldEvaluateAgain_whenPolicyDefinitionChanged() {
+        var cache = new AccessPolicyEvaluationCache(Clock.systemUTC(), Duration.ofMinutes(1), 10, new TypeManager());
+        var cachingService = new ContractDefinitionResolverImpl(mock(Monitor.class), definitionStore, policyEngine, policyStore, cache);
+        var agent = new ParticipantAgent(Map.of(), Map.of());
+        var definition = PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).id("access").build();
+        when(policyStore.findById("access")).thenReturn(definition);
+        when(policyEngine.evaluate(any(), any(), isA(PolicyContext.class))).thenReturn(Result.success(), Result.failure("denied"));
+        when(definitionStore.findAll(any())).thenAnswer(i -> Stream.of(createContractDefinition()));
+
+        assertThat(cachingService.definitionsFor(agent)).hasSize(1);
+        cache.on(EventEnvelope.Builder.newInstance().at(System.currentTimeMillis())
+                .payload(PolicyDefinitionUpdated.Builder.newInstance().policyDefinitionId("access").build()).build());
+
+        assertThat(cachingService.definitionsFor(agent)).isEmpty();
+    }
+
+    private Policy createPolicy(String leftOperand) {
+        var constraint = AtomicConstraint.Builder.newInstance()
+                .leftExpression(new LiteralExpression(leftOperand))
+                .operator(Operator.EQ)
+                .rightExpression(new LiteralExpression("eu"))
+                .build();
+        var permission = Permission.Builder.newInstance()
+                .action(Action.Builder.newInstance().type("use").build())
+                .constraint(constraint)
+                .duty(Duty.Builder.newInstance().action(Action.Builder.newInstance().type("notify").build()).build())
+                .build();
+        return Policy.Builder.newInstance().permission(permission).build();
+    }
+
     private ContractDefinition createContractDefinition() {
+        return createContractDefinition("1");
+    }
+
+    private ContractDefinition createContractDefinition(String id) {
         return ContractDefinition.Builder.newInstance()
-                .id("1")
+                .id(id)
                 .accessPolicyId("access")
                 .contractPolicyId("contract")
                 .build();
@@ -20,11 +20,15 @@ import org.eclipse.edc.catalog.spi.DataServiceRegistry;
 import org.eclipse.edc.catalog.spi.Dataset;
 import org.eclipse.edc.catalog.spi.DatasetResolver;
 import org.eclipse.edc.connector.spi.catalog.CatalogProtocolService;
+import org.eclipse.edc.connector.spi.catalog.StreamingCatalog;
 import org.eclipse.edc.service.spi.result.ServiceResult;
 import org.eclipse.edc.spi.agent.ParticipantAgentService;
 import org.eclipse.edc.spi.iam.ClaimToken;
+import org.eclipse.edc.spi.query.QuerySpec;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
+
 import static java.lang.String.format;
 import static java.util.stream.Collectors.toList;
 import static org.eclipse.edc.spi.CoreConstants.EDC_NAMESPACE;
@@ -65,6 +69,21 @@ public class CatalogProtocolServiceImpl implements CatalogProtocolService {
         }
     }
 
+    @Override
+    @NotNull
+    public ServiceResult<StreamingCatalog> getStreamingCatalog(CatalogRequestMessage message, ClaimToken claimToken) {
+        var agent = participantAgentService.createFor(claimToken);
+        var querySpec = message.getQuerySpec();
+
+        var catalog = Catalog.Builder.newInstance()
+                .dataServices(dataServiceRegistry.getDataServices())
+                .datasets(List.of())
+                .property(EDC_NAMESPACE + PARTICIPANT_ID_PROPERTY_KEY, participantId)
+                .build();
+
+        return ServiceResult.success(new StreamingCatalog(catalog, datasetResolver.query(agent, withLookahead(querySpec)), querySpec));
+    }
+
     @Override
     public @NotNull ServiceResult<Dataset> getDataset(String datasetId, ClaimToken claimToken) {
         var agent = participantAgentService.createFor(claimToken);
@@ -77,4 +96,23 @@ public class CatalogProtocolServiceImpl implements CatalogProtocolService {
 
         return ServiceResult.success(dataset);
     }
+
+    /**
+     * Extends the limit of the query spec by one, so that the first dataset of the next page, if any, tells that there
+     * are more datasets.
+     */
+    private QuerySpec withLookahead(QuerySpec querySpec) {
+        if ((long) querySpec.getOffset() + querySpec.getLimit() >= Integer.MAX_VALUE) {
+            return querySpec;
+        }
+
+        return QuerySpec.Builder.newInstance()
+                .filter(querySpec.getFilterExpression())
+                .sortField(querySpec.getSortField())
+                .sortOrder(querySpec.getSortOrder())
+                .offset(querySpec.getOffset())
+                .cursor(querySpec.getCursor())
+                .limit(querySpec.getLimit() + 1)
+                .build();
+    }
 }
@@ -28,6 +28,7 @@ import org.eclipse.edc.spi.iam.ClaimToken;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Stream;
@@ -37,8 +38,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.eclipse.edc.service.spi.result.ServiceFailure.Reason.NOT_FOUND;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.only;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -71,6 +74,61 @@ class CatalogProtocolServiceImplTest {
         verify(participantAgentService).createFor(token);
     }
 
+    @Test
+    void getStreamingCatalog_shouldReturnCatalogWithLazyDatasets_queryingOneMoreDatasetThanTheLimit() {
+        var querySpec = QuerySpec.Builder.newInstance().offset(10).limit(5).build();
+        var message = CatalogRequestMessage.Builder.newInstance().protocol("protocol").querySpec(querySpec).build();
+        var participantAgent = createParticipantAgent();
+        var dataService = DataService.Builder.newInstance().build();
+        when(dataServiceRegistry.getDataServices()).thenReturn(List.of(dataService));
+        when(participantAgentService.createFor(any())).thenReturn(participantAgent);
+        when(datasetResolver.query(any(), any())).thenReturn(Stream.of(createDataset(), createDataset()));
+
+        var result = service.getStreamingCatalog(message, createToken());
+
+        assertThat(result).isSucceeded().satisfies(streamingCatalog -> {
+            assertThat(streamingCatalog.catalog().getDataServices()).hasSize(1).first().isSameAs(dataService);
+            assertThat(streamingCatalog.catalog().getDatasets()).isEmpty();
+            assertThat(streamingCatalog.datasets()).hasSize(2);
+            assertThat(streamingCatalog.querySpec()).isSameAs(querySpec);
+        });
+        verify(datasetResolver, only()).query(eq(participantAgent), argThat(it -> it.getOffset() == 10 && it.getLimit() == 6));
+    }
+
+    @Test
+    void getStreamingCatalog_shouldTellThatThereIsANextPage_whenMoreDatasetsThanTheLimitAreResolved() {
+        var querySpec = QuerySpec.Builder.newInstance().offset(0).limit(2).build();
+        var message = CatalogRequestMessage.Builder.newInstance().protocol("protocol").querySpec(querySpec).build();
+        when(dataServiceRegistry.getDataServices()).thenReturn(List.of());
+        when(participantAgentService.createFor(any())).thenReturn(createParticipantAgent());
+        when(datasetResolver.query(any(), any())).thenReturn(Stream.of(createDataset(), createDataset(), createDataset()));
+
+        var result = service.getStreamingCatalog(message, createToken());
+
+        assertThat(result).isSucceeded().satisfies(streamingCatalog -> {
+            var written = new ArrayList<Dataset>();
+            assertThat(streamingCatalog.forEachDataset(written::add)).isTrue();
+            assertThat(written).hasSize(2);
+        });
+    }
+
+    @Test
+    void getStreamingCatalog_shouldNotHaveNextPage_whenNoDatasetFollowsThePage() {
+        var querySpec = QuerySpec.Builder.newInstance().offset(0).limit(5).build();
+        var message = CatalogRequestMessage.Builder.newInstance().protocol("protocol").querySpec(querySpec).build();
+        when(dataServiceRegistry.getDataServices()).thenReturn(List.of());
+        when(participantAgentService.createFor(any())).thenReturn(createParticipantAgent());
+        when(datasetResolver.query(any(), any())).thenReturn(Stream.of(createDataset()));
+
+        var result = service.getStreamingCatalog(message, createToken());
+
+        assertThat(result).isSucceeded().satisfies(streamingCatalog -> {
+            var written = new ArrayList<Dataset>();
+            assertThat(streamingCatalog.forEachDataset(written::add)).isFalse();
+            assertThat(written).hasSize(1);
+        });
+    }
+
     @Test
     void getDataset_shouldReturnDataset() {
         var claimToken = createToken();
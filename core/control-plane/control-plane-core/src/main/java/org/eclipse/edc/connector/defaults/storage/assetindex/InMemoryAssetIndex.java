@@ -29,60 +29,71 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
 
 /**
- * An ephemeral asset index, that is also a DataAddressResolver
+ * An ephemeral asset index, that is also a DataAddressResolver.
+ * <p>
+ * Reads do not take any lock: assets are looked up by id in a hash map and queries iterate over a weakly consistent
+ * view of the stored assets, while writers are serialized. Optionally, hash indexes can be kept for some properties,
+ * which are then used to select the candidate assets of queries containing an equality criterion on one of them.
+ * Indexed properties must be asset properties or private properties, not fields of the {@link Asset} class.
+ * <p>
+ * As in the SQL asset index, keyset pagination orders the assets by id, the sort field is not taken into account.
  */
 public class InMemoryAssetIndex implements AssetIndex {
     private final Map<String, Asset> cache = new ConcurrentHashMap<>();
     private final Map<String, DataAddress> dataAddresses = new ConcurrentHashMap<>();
     private final CriterionToAssetPredicateConverterImpl predicateConverter = new CriterionToAssetPredicateConverterImpl();
-    private final ReentrantReadWriteLock lock;
+    private final Map<String, PropertyIndex> propertyIndexes;
+    private final ReentrantLock writeLock = new ReentrantLock();
 
     public InMemoryAssetIndex() {
-        // fair locks guarantee strong consistency since all waiting threads are processed in order of waiting time
-        lock = new ReentrantReadWriteLock(true);
+        this(Set.of());
+    }
+
+    /**
+     * Creates an index that keeps a hash index for each of the given properties.
+     */
+    public InMemoryAssetIndex(Set<String> indexedProperties) {
+        propertyIndexes = indexedProperties.stream().collect(toMap(identity(), PropertyIndex::new));
     }
 
     @Override
     public Stream<Asset> queryAssets(QuerySpec querySpec) {
-        lock.readLock().lock();
-        try {
-            var comparator = querySpec.getSortField() == null
-                    ? (Comparator<Asset>) (o1, o2) -> 0
-                    : new AssetComparator(querySpec.getSortField(), querySpec.getSortOrder());
-
+        if (querySpec.isKeysetPagination()) {
+            var cursor = querySpec.getPageCursor();
             return filterBy(querySpec.getFilterExpression())
-                    .sorted(comparator)
-                    .skip(querySpec.getOffset()).limit(querySpec.getLimit());
-
-        } finally {
-            lock.readLock().unlock();
+                    .filter(asset -> cursor == null || asset.getId().compareTo(cursor.getId()) > 0)
+                    .sorted(Comparator.comparing(Asset::getId))
+                    .limit(querySpec.getLimit());
         }
+
+        var comparator = querySpec.getSortField() == null
+                ? (Comparator<Asset>) (o1, o2) -> 0
+                : new AssetComparator(querySpec.getSortField(), querySpec.getSortOrder());
+
+        return filterBy(querySpec.getFilterExpression())
+                .sorted(comparator)
+                .skip(querySpec.getOffset()).limit(querySpec.getLimit());
     }
 
     @Override
     public Asset findById(String assetId) {
-        lock.readLock().lock();
-        try {
-            return cache.values().stream()
-                    .filter(asset -> asset.getId().equals(assetId))
-                    .findFirst()
-                    .orElse(null);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return cache.get(assetId);
     }
 
     @Override
     public StoreResult<Void> create(Asset asset) {
-        lock.writeLock().lock();
+        writeLock.lock();
         try {
             var id = asset.getId();
             if (cache.containsKey(id)) {
@@ -90,20 +101,20 @@ public class InMemoryAssetIndex implements AssetIndex {
             }
             add(asset, asset.getDataAddress());
         } finally {
-            lock.writeLock().unlock();
+            writeLock.unlock();
         }
         return StoreResult.success();
     }
 
     @Override
     public StoreResult<Asset> deleteById(String assetId) {
-        lock.writeLock().lock();
+        writeLock.lock();
         try {
             return Optional.ofNullable(delete(assetId))
                     .map(StoreResult::success)
                     .orElse(StoreResult.notFound(format(ASSET_NOT_FOUND_TEMPLATE, assetId)));
         } finally {
-            lock.writeLock().unlock();
+            writeLock.unlock();
         }
     }
 
@@ -114,24 +125,29 @@ public class InMemoryAssetIndex implements AssetIndex {
 
     @Override
     public StoreResult<Asset> updateAsset(Asset asset) {
-        lock.writeLock().lock();
+        writeLock.lock();
         try {
             var id = asset.getId();
             Objects.requireNonNull(asset, "asset");
             Objects.requireNonNull(id, "assetId");
-            if (cache.containsKey(id)) {
+            var existing = cache.get(id);
+            if (existing != null) {
+                // reads are lock-free: the new keys are indexed before the asset is replaced and the stale ones are
+                // removed afterwards, so that the asset is never missing from the index of the version in the cache
+                propertyIndexes.values().forEach(index -> index.add(asset));
                 cache.put(id, asset);
+                propertyIndexes.values().forEach(index -> index.removeStale(existing, asset));
                 return StoreResult.success(asset);
             }
             return StoreResult.notFound(format(ASSET_NOT_FOUND_TEMPLATE, id));
         } finally {
-            lock.writeLock().unlock();
+            writeLock.unlock();
         }
     }
 
     @Override
     public StoreResult<DataAddress> updateDataAddress(String assetId, DataAddress dataAddress) {
-        lock.writeLock().lock();
+        writeLock.lock();
         try {
             Objects.requireNonNull(dataAddress, "dataAddress");
             Objects.requireNonNull(assetId, "asset.getId()");
@@ -141,19 +157,14 @@ public class InMemoryAssetIndex implements AssetIndex {
             }
             return StoreResult.notFound(format(DATA_ADDRESS_NOT_FOUND_TEMPLATE, assetId));
         } finally {
-            lock.writeLock().unlock();
+            writeLock.unlock();
         }
     }
 
     @Override
     public DataAddress resolveForAsset(String assetId) {
         Objects.requireNonNull(assetId, "assetId");
-        lock.readLock().lock();
-        try {
-            return dataAddresses.get(assetId);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return dataAddresses.get(assetId);
     }
 
     private Stream<Asset> filterBy(List<Criterion> criteria) {
@@ -161,13 +172,33 @@ public class InMemoryAssetIndex implements AssetIndex {
                 .map(predicateConverter::convert)
                 .reduce(x -> true, Predicate::and);
 
-        return cache.values().stream()
+        return candidates(criteria)
                 .filter(predicate);
     }
 
+    /**
+     * Returns the assets that can satisfy the criteria, using a property index when one of them is an equality on an
+     * indexed property. The returned assets still need to be tested against all the criteria.
+     */
+    private Stream<Asset> candidates(List<Criterion> criteria) {
+        for (var criterion : criteria) {
+            if ("=".equals(criterion.getOperator()) && criterion.getOperandLeft() instanceof String property && criterion.getOperandRight() instanceof String value) {
+                var index = propertyIndexes.get(property);
+                if (index != null) {
+                    return index.candidates(value).map(cache::get).filter(Objects::nonNull);
+                }
+            }
+        }
+        return cache.values().stream();
+    }
+
     private Asset delete(String assetId) {
         dataAddresses.remove(assetId);
-        return cache.remove(assetId);
+        var asset = cache.remove(assetId);
+        if (asset != null) {
+            propertyIndexes.values().forEach(index -> index.remove(asset));
+        }
+        return asset;
     }
 
     /**
@@ -179,6 +210,103 @@ public class InMemoryAssetIndex implements AssetIndex {
         Objects.requireNonNull(id, "asset.getId()");
         cache.put(id, asset);
         dataAddresses.put(id, address);
+        propertyIndexes.values().forEach(index -> index.add(asset));
+    }
+
+    /**
+     * Hash index of the assets by the value of a property. String values and lists of strings are indexed by value,
+     * assets with values of other types are always returned as candidates, as they could satisfy an equality
+     * criterion with a string (e.g. enums). Assets without the property are never candidates.
+     */
+    private static class PropertyIndex {
+        private final String property;
+        private final Map<String, Set<String>> idsByValue = new ConcurrentHashMap<>();
+        private final Set<String> unindexedIds = ConcurrentHashMap.newKeySet();
+
+        PropertyIndex(String property) {
+            this.property = property;
+        }
+
+        Stream<String> candidates(String value) {
+            return Stream.concat(idsByValue.getOrDefault(value, Set.of()).stream(), unindexedIds.stream());
+        }
+
+        void add(Asset asset) {
+            var value = value(asset);
+            if (value == null) {
+                return;
+            }
+            var keys = keys(value);
+            if (keys == null) {
+                unindexedIds.add(asset.getId());
+            } else {
+                keys.forEach(key -> idsByValue.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(asset.getId()));
+            }
+        }
+
+        void remove(Asset asset) {
+            var value = value(asset);
+            if (value == null) {
+                return;
+            }
+            var keys = keys(value);
+            if (keys == null) {
+                unindexedIds.remove(asset.getId());
+            } else {
+                keys.forEach(key -> removeKey(key, asset.getId()));
+            }
+        }
+
+        /**
+         * Removes the entries of the previous version of an asset that are not entries of the current one.
+         */
+        void removeStale(Asset previous, Asset current) {
+            var previousValue = value(previous);
+            if (previousValue == null) {
+                return;
+            }
+            var value = value(current);
+            var previousKeys = keys(previousValue);
+            var keys = value == null ? null : keys(value);
+            if (previousKeys == null) {
+                if (value == null || keys != null) {
+                    unindexedIds.remove(previous.getId());
+                }
+            } else {
+                previousKeys.stream()
+                        .filter(key -> keys == null || !keys.contains(key))
+                        .forEach(key -> removeKey(key, previous.getId()));
+            }
+        }
+
+        private void removeKey(String key, String id) {
+            idsByValue.computeIfPresent(key, (k, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+
+        @Nullable
+        private Object value(Asset asset) {
+            if (asset.getProperties().containsKey(property)) {
+                return asset.getProperty(property);
+            }
+            return asset.getPrivateProperties().containsKey(property) ? asset.getPrivateProperty(property) : null;
+        }
+
+        /**
+         * Returns the index keys of a value, or null if the value cannot be indexed.
+         */
+        @Nullable
+        private List<String> keys(Object value) {
+            if (value instanceof String string) {
+                return List.of(string);
+            }
+            if (value instanceof List<?> list && list.stream().allMatch(String.class::isInstance)) {
+                return list.stream().map(String.class::cast).toList();
+            }
+            return null;
+        }
     }
 
     private record AssetComparator(String sortField, SortOrder sortOrder) implements Comparator<Asset> {
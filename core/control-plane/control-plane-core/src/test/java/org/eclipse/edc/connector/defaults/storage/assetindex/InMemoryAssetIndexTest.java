@@ -16,11 +16,24 @@ package org.eclipse.edc.connector.defaults.storage.assetindex;
 
 
 import org.eclipse.edc.spi.asset.AssetIndex;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
 import org.eclipse.edc.spi.testfixtures.asset.AssetIndexTestBase;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.spi.types.domain.asset.Asset;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
 
 class InMemoryAssetIndexTest extends AssetIndexTestBase {
 
+    private static final String TYPE = "asset:prop:type";
+
     private InMemoryAssetIndex index;
 
     @BeforeEach
@@ -28,9 +41,89 @@ class InMemoryAssetIndexTest extends AssetIndexTestBase {
         index = new InMemoryAssetIndex();
     }
 
+    @Test
+    void queryAssets_shouldUsePropertyIndex() {
+        var indexed = new InMemoryAssetIndex(Set.of(TYPE));
+        indexed.create(asset("id1", "typeA"));
+        indexed.create(asset("id2", "typeB"));
+        indexed.create(asset("id3", List.of("typeA", "typeC")));
+
+        var result = indexed.queryAssets(typeEquals("typeA"));
+
+        assertThat(result).map(Asset::getId).containsExactlyInAnyOrder("id1", "id3");
+    }
+
+    @Test
+    void queryAssets_shouldReturnAssetsWithUnindexableValues() {
+        var indexed = new InMemoryAssetIndex(Set.of(TYPE));
+        indexed.create(asset("id1", "typeA"));
+        indexed.create(asset("id2", SortOrder.ASC));
+
+        var result = indexed.queryAssets(typeEquals("ASC"));
+
+        assertThat(result).map(Asset::getId).containsExactly("id2");
+    }
+
+    @Test
+    void queryAssets_shouldReflectUpdateAndDelete_whenPropertyIsIndexed() {
+        var indexed = new InMemoryAssetIndex(Set.of(TYPE));
+        indexed.create(asset("id1", "typeA"));
+        indexed.create(asset("id2", "typeA"));
+
+        indexed.updateAsset(asset("id1", "typeB"));
+        indexed.deleteById("id2");
+
+        assertThat(indexed.queryAssets(typeEquals("typeA"))).isEmpty();
+        assertThat(indexed.queryAssets(typeEquals("typeB"))).map(Asset::getId).containsExactly("id1");
+    }
+
+    @Test
+    void queryAssets_shouldKeepUnchangedIndexEntries_whenAssetIsUpdated() {
+        var indexed = new InMemoryAssetIndex(Set.of(TYPE));
+        indexed.create(asset("id1", List.of("typeA", "typeB")));
+        indexed.create(asset("id2", SortOrder.ASC));
+
+        indexed.updateAsset(asset("id1", List.of("typeA", "typeC")));
+        indexed.updateAsset(asset("id2", SortOrder.DESC));
+
+        assertThat(indexed.queryAssets(typeEquals("typeA"))).map(Asset::getId).containsExactly("id1");
+        assertThat(indexed.queryAssets(typeEquals("typeB"))).isEmpty();
+        assertThat(indexed.queryAssets(typeEquals("typeC"))).map(Asset::getId).containsExactly("id1");
+        assertThat(indexed.queryAssets(typeEquals("DESC"))).map(Asset::getId).containsExactly("id2");
+    }
+
+    @Test
+    void queryAssets_shouldAlwaysFindAsset_whenUpdatedConcurrently() throws InterruptedException {
+        var indexed = new InMemoryAssetIndex(Set.of(TYPE));
+        indexed.create(asset("id1", List.of("typeA", "typeB")));
+        var updater = new Thread(() -> {
+            for (var i = 0; i < 10_000; i++) {
+                indexed.updateAsset(asset("id1", List.of("typeA", i % 2 == 0 ? "typeC" : "typeB")));
+            }
+        });
+
+        updater.start();
+        while (updater.isAlive()) {
+            assertThat(indexed.queryAssets(typeEquals("typeA"))).map(Asset::getId).containsExactly("id1");
+        }
+        updater.join();
+    }
+
     @Override
     protected AssetIndex getAssetIndex() {
         return index;
     }
 
+    private QuerySpec typeEquals(String type) {
+        return QuerySpec.Builder.newInstance().filter(criterion(TYPE, "=", type)).build();
+    }
+
+    private Asset asset(String id, Object type) {
+        return Asset.Builder.newInstance()
+                .id(id)
+                .property(TYPE, type)
+                .dataAddress(DataAddress.Builder.newInstance().type("test").build())
+                .build();
+    }
+
 }
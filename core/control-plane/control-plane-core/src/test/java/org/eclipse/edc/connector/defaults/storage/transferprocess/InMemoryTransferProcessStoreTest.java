@@ -16,14 +16,61 @@ package org.eclipse.edc.connector.defaults.storage.transferprocess;
 
 import org.eclipse.edc.connector.transfer.spi.store.TransferProcessStore;
 import org.eclipse.edc.connector.transfer.spi.testfixtures.store.TransferProcessStoreTestBase;
+import org.eclipse.edc.connector.transfer.spi.types.TransferProcess;
+import org.junit.jupiter.api.Test;
 
 import java.time.Clock;
 import java.time.Duration;
 
+import static java.util.stream.IntStream.range;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.transfer.spi.testfixtures.store.TestFunctions.createTransferProcessBuilder;
+import static org.eclipse.edc.connector.transfer.spi.types.TransferProcessStates.COMPLETED;
+import static org.eclipse.edc.connector.transfer.spi.types.TransferProcessStates.STARTED;
+import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
+
 class InMemoryTransferProcessStoreTest extends TransferProcessStoreTestBase {
 
     private final InMemoryTransferProcessStore store = new InMemoryTransferProcessStore(CONNECTOR_NAME, Clock.systemUTC());
 
+    @Test
+    void nextNotLeased_shouldReturnOldestInState_whenManyEntitiesInOtherStates() {
+        range(0, 100_000).forEach(i -> store.save(createTransferProcessBuilder("id" + i)
+                .state(i % 10 == 0 ? STARTED.code() : COMPLETED.code())
+                .stateTimestamp(100_000 - i)
+                .build()));
+
+        var result = store.nextNotLeased(3, hasState(STARTED.code()));
+
+        assertThat(result).extracting(TransferProcess::getId).containsExactly("id99990", "id99980", "id99970");
+        assertThat(store.nextNotLeased(3, hasState(STARTED.code()))).extracting(TransferProcess::getId)
+                .containsExactly("id99960", "id99950", "id99940");
+    }
+
+    @Test
+    void nextNotLeased_shouldFollowStateChanges() {
+        store.save(createTransferProcessBuilder("id").state(STARTED.code()).stateTimestamp(1).build());
+        store.save(createTransferProcessBuilder("id").state(COMPLETED.code()).stateTimestamp(2).build());
+
+        assertThat(store.nextNotLeased(10, hasState(STARTED.code()))).isEmpty();
+        assertThat(store.nextNotLeased(10, hasState(COMPLETED.code()))).extracting(TransferProcess::getId).containsExactly("id");
+    }
+
+    @Test
+    void findByIdAndLease_shouldReturnCopy_andSaveShouldMoveEntityToNewState() {
+        store.save(createTransferProcessBuilder("id").state(STARTED.code()).stateTimestamp(1).build());
+
+        var leased = store.findByIdAndLease("id").getContent();
+        leased.transitionCompleted();
+
+        assertThat(store.findById("id").getState()).isEqualTo(STARTED.code());
+
+        store.save(leased);
+
+        assertThat(store.nextNotLeased(10, hasState(STARTED.code()))).isEmpty();
+        assertThat(store.nextNotLeased(10, hasState(COMPLETED.code()))).extracting(TransferProcess::getId).containsExactly("id");
+    }
+
     @Override
     protected TransferProcessStore getTransferProcessStore() {
         return store;
@@ -15,6 +15,7 @@
 
 package org.eclipse.edc.connector.transfer;
 
+import org.eclipse.edc.connector.core.entity.StateEntityManagerWakeUpSubscriber;
 import org.eclipse.edc.connector.policy.spi.store.PolicyArchive;
 import org.eclipse.edc.connector.transfer.command.handlers.AddProvisionedResourceCommandHandler;
 import org.eclipse.edc.connector.transfer.command.handlers.DeprovisionCompleteCommandHandler;
@@ -27,6 +28,7 @@ import org.eclipse.edc.connector.transfer.provision.ProvisionResponsesHandler;
 import org.eclipse.edc.connector.transfer.spi.TransferProcessManager;
 import org.eclipse.edc.connector.transfer.spi.TransferProcessPendingGuard;
 import org.eclipse.edc.connector.transfer.spi.edr.EndpointDataReferenceReceiverRegistry;
+import org.eclipse.edc.connector.transfer.spi.event.TransferProcessEvent;
 import org.eclipse.edc.connector.transfer.spi.event.TransferProcessStarted;
 import org.eclipse.edc.connector.transfer.spi.flow.DataFlowManager;
 import org.eclipse.edc.connector.transfer.spi.observe.TransferProcessObservable;
@@ -48,6 +50,7 @@ import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.protocol.ProtocolWebhook;
 import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
+import org.eclipse.edc.spi.retry.WaitStrategy;
 import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
@@ -59,9 +62,12 @@ import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
+import java.util.function.Supplier;
 
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_BATCH_SIZE;
+import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_DEDICATED_PROCESSOR_THREADS;
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_ITERATION_WAIT;
+import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_PROCESSOR_PARALLELISM;
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_SEND_RETRY_BASE_DELAY;
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_SEND_RETRY_LIMIT;
 
@@ -81,6 +87,12 @@ public class TransferCoreExtension implements ServiceExtension {
     @Setting(value = "the batch size in the transfer process state machine. Default value " + DEFAULT_BATCH_SIZE, type = "int")
     private static final String TRANSFER_STATE_MACHINE_BATCH_SIZE = "edc.transfer.state-machine.batch-size";
 
+    @Setting(value = "if true, every processor of the transfer process state machine runs on a dedicated thread. Default value " + DEFAULT_DEDICATED_PROCESSOR_THREADS, type = "boolean")
+    private static final String TRANSFER_STATE_MACHINE_DEDICATED_PROCESSOR_THREADS = "edc.transfer.state-machine.dedicated-processor-threads";
+
+    @Setting(value = "the maximum number of entities of a batch processed concurrently in the transfer process state machine. Default value " + DEFAULT_PROCESSOR_PARALLELISM, type = "int")
+    private static final String TRANSFER_STATE_MACHINE_PROCESSOR_PARALLELISM = "edc.transfer.state-machine.processor-parallelism";
+
     @Setting(value = "how many times a specific operation must be tried before terminating the transfer with error", type = "int", defaultValue = DEFAULT_SEND_RETRY_LIMIT + "")
     private static final String TRANSFER_SEND_RETRY_LIMIT = "edc.transfer.send.retry.limit";
 
@@ -155,7 +167,7 @@ public class TransferCoreExtension implements ServiceExtension {
         registerTypes(typeManager);
 
         var iterationWaitMillis = context.getSetting(TRANSFER_STATE_MACHINE_ITERATION_WAIT_MILLIS, DEFAULT_ITERATION_WAIT);
-        var waitStrategy = context.hasService(TransferWaitStrategy.class) ? context.getService(TransferWaitStrategy.class) : new ExponentialWaitStrategy(iterationWaitMillis);
+        Supplier<WaitStrategy> waitStrategy = context.hasService(TransferWaitStrategy.class) ? () -> context.getService(TransferWaitStrategy.class) : () -> new ExponentialWaitStrategy(iterationWaitMillis);
 
         typeTransformerRegistry.register(new DataAddressToEndpointDataReferenceTransformer());
 
@@ -171,7 +183,7 @@ public class TransferCoreExtension implements ServiceExtension {
         var deprovisionResponsesHandler = new DeprovisionResponsesHandler(observable, monitor, vault);
 
         processManager = TransferProcessManagerImpl.Builder.newInstance()
-                .waitStrategy(waitStrategy)
+                .waitStrategySupplier(waitStrategy)
                 .manifestGenerator(resourceManifestGenerator)
                 .dataFlowManager(dataFlowManager)
                 .provisionManager(provisionManager)
@@ -185,6 +197,8 @@ public class TransferCoreExtension implements ServiceExtension {
                 .store(transferProcessStore)
                 .policyArchive(policyArchive)
                 .batchSize(context.getSetting(TRANSFER_STATE_MACHINE_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .dedicatedProcessorThreads(context.getSetting(TRANSFER_STATE_MACHINE_DEDICATED_PROCESSOR_THREADS, DEFAULT_DEDICATED_PROCESSOR_THREADS))
+                .processorParallelism(context.getSetting(TRANSFER_STATE_MACHINE_PROCESSOR_PARALLELISM, DEFAULT_PROCESSOR_PARALLELISM))
                 .addressResolver(addressResolver)
                 .entityRetryProcessConfiguration(entityRetryProcessConfiguration)
                 .protocolWebhook(protocolWebhook)
@@ -193,6 +207,8 @@ public class TransferCoreExtension implements ServiceExtension {
                 .pendingGuard(pendingGuard)
                 .build();
 
+        eventRouter.register(TransferProcessEvent.class, new StateEntityManagerWakeUpSubscriber(processManager));
+
         context.registerService(TransferProcessManager.class, processManager);
 
         registry.register(new AddProvisionedResourceCommandHandler(transferProcessStore, provisionResponsesHandler));
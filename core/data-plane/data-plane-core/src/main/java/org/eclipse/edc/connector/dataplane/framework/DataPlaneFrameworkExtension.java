@@ -41,7 +41,9 @@ import java.time.Clock;
 import java.util.concurrent.Executors;
 
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_BATCH_SIZE;
+import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_DEDICATED_PROCESSOR_THREADS;
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_ITERATION_WAIT;
+import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_PROCESSOR_PARALLELISM;
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_SEND_RETRY_BASE_DELAY;
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_SEND_RETRY_LIMIT;
 
@@ -59,6 +61,12 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
     @Setting(value = "the batch size in the data plane state machine. Default value " + DEFAULT_BATCH_SIZE, type = "int")
     private static final String DATAPLANE_MACHINE_BATCH_SIZE = "edc.dataplane.state-machine.batch-size";
 
+    @Setting(value = "if true, every processor of the data plane state machine runs on a dedicated thread. Default value " + DEFAULT_DEDICATED_PROCESSOR_THREADS, type = "boolean")
+    private static final String DATAPLANE_MACHINE_DEDICATED_PROCESSOR_THREADS = "edc.dataplane.state-machine.dedicated-processor-threads";
+
+    @Setting(value = "the maximum number of entities of a batch processed concurrently in the data plane state machine. Default value " + DEFAULT_PROCESSOR_PARALLELISM, type = "int")
+    private static final String DATAPLANE_MACHINE_PROCESSOR_PARALLELISM = "edc.dataplane.state-machine.processor-parallelism";
+
     @Setting(value = "how many times a specific operation must be tried before terminating the dataplane with error", type = "int", defaultValue = DEFAULT_SEND_RETRY_LIMIT + "")
     private static final String DATAPLANE_SEND_RETRY_LIMIT = "edc.dataplane.send.retry.limit";
 
@@ -112,15 +120,17 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
         context.registerService(TransferServiceRegistry.class, transferServiceRegistry);
 
         var iterationWaitMillis = context.getSetting(DATAPLANE_MACHINE_ITERATION_WAIT_MILLIS, DEFAULT_ITERATION_WAIT);
-        var waitStrategy = new ExponentialWaitStrategy(iterationWaitMillis);
 
         dataPlaneManager = DataPlaneManagerImpl.Builder.newInstance()
-                .waitStrategy(waitStrategy)
+                .waitStrategySupplier(() -> new ExponentialWaitStrategy(iterationWaitMillis))
                 .batchSize(context.getSetting(DATAPLANE_MACHINE_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .dedicatedProcessorThreads(context.getSetting(DATAPLANE_MACHINE_DEDICATED_PROCESSOR_THREADS, DEFAULT_DEDICATED_PROCESSOR_THREADS))
+                .processorParallelism(context.getSetting(DATAPLANE_MACHINE_PROCESSOR_PARALLELISM, DEFAULT_PROCESSOR_PARALLELISM))
                 .clock(clock)
                 .entityRetryProcessConfiguration(getEntityRetryProcessConfiguration(context))
                 .executorInstrumentation(executorInstrumentation)
                 .transferServiceRegistry(transferServiceRegistry)
+                .pipelineService(pipelineService)
                 .store(store)
                 .transferProcessClient(transferProcessApiClient)
                 .monitor(monitor)
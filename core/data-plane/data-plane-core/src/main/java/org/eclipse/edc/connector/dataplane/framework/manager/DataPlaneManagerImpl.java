@@ -19,6 +19,8 @@ import org.eclipse.edc.connector.core.entity.AbstractStateEntityManager;
 import org.eclipse.edc.connector.dataplane.spi.DataFlow;
 import org.eclipse.edc.connector.dataplane.spi.DataFlowStates;
 import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSink;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.connector.dataplane.spi.registry.TransferServiceRegistry;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
@@ -29,7 +31,6 @@ import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
 import org.eclipse.edc.statemachine.Processor;
-import org.eclipse.edc.statemachine.ProcessorImpl;
 import org.eclipse.edc.statemachine.StateMachineManager;
 
 import java.util.Objects;
@@ -50,6 +51,7 @@ import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
 public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, DataPlaneStore> implements DataPlaneManager {
 
     private TransferServiceRegistry transferServiceRegistry;
+    private PipelineService pipelineService;
     private TransferProcessApiClient transferProcessClient;
 
     private DataPlaneManagerImpl() {
@@ -98,6 +100,14 @@ public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, D
         return transferService.transfer(request);
     }
 
+    @Override
+    public CompletableFuture<StreamResult<Object>> transfer(DataSink sink, DataFlowRequest request) {
+        if (pipelineService == null) {
+            return CompletableFuture.failedFuture(new EdcException("No PipelineService available for request " + request.getProcessId()));
+        }
+        return pipelineService.transfer(request, sink);
+    }
+
     @Override
     public DataFlowStates transferState(String processId) {
         return Optional.ofNullable(store.findById(processId)).map(StatefulEntity::getState)
@@ -184,7 +194,7 @@ public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, D
 
     private Processor processDataFlowInState(DataFlowStates state, Function<DataFlow, Boolean> function) {
         var filter = new Criterion[]{ hasState(state.code()) };
-        return ProcessorImpl.Builder.newInstance(() -> store.nextNotLeased(batchSize, filter))
+        return processor(() -> store.nextNotLeased(batchSize, filter))
                 .process(telemetry.contextPropagationMiddleware(function))
                 .onNotProcessed(this::breakLease)
                 .build();
@@ -210,6 +220,11 @@ public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, D
             return this;
         }
 
+        public Builder pipelineService(PipelineService pipelineService) {
+            manager.pipelineService = pipelineService;
+            return this;
+        }
+
         public Builder transferProcessClient(TransferProcessApiClient transferProcessClient) {
             manager.transferProcessClient = transferProcessClient;
             return this;
@@ -16,6 +16,7 @@ package org.eclipse.edc.connector.dataplane.framework.pipeline;
 
 import io.opentelemetry.instrumentation.annotations.WithSpan;
 import org.eclipse.edc.connector.dataplane.spi.DataFlow;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSink;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSinkFactory;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSourceFactory;
@@ -117,6 +118,20 @@ public class PipelineServiceImpl implements PipelineService {
         }
     }
 
+    @WithSpan
+    @Override
+    public CompletableFuture<StreamResult<Object>> transfer(DataFlowRequest request, DataSink sink) {
+        var sourceFactory = getSourceFactory(request);
+        if (sourceFactory == null) {
+            return noSourceFactory(request);
+        }
+        var source = sourceFactory.createSource(request);
+        sources.put(request.getProcessId(), source);
+
+        monitor.debug(() -> format("Transferring from %s to custom sink.", request.getSourceDataAddress().getType()));
+        return sink.transfer(source);
+    }
+
     @Override
     public void registerFactory(DataSourceFactory factory) {
         sourceFactories.add(factory);
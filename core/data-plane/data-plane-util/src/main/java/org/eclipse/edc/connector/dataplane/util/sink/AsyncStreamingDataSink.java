@@ -38,10 +38,10 @@ import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.fail
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.success;
 import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
 import static org.eclipse.edc.spi.response.StatusResult.failure;
-import static org.eclipse.edc.util.async.AsyncUtils.asyncAllOf;
 
 /**
- * Asynchronously streams data to a response client.
+ * Asynchronously streams data to a response client. Since the response can be written only once, only sources with a
+ * single part are supported.
  */
 public class AsyncStreamingDataSink implements DataSink {
 
@@ -58,6 +58,17 @@ public class AsyncStreamingDataSink implements DataSink {
          * @return true if the callback was successfully registered
          */
         boolean register(Consumer<OutputStream> consumer);
+
+        /**
+         * Registers a callback when an output stream is available for writing data with the given media type.
+         *
+         * @param consumer the callback
+         * @param mediaType the media type of the data
+         * @return true if the callback was successfully registered
+         */
+        default boolean register(Consumer<OutputStream> consumer, String mediaType) {
+            return register(consumer);
+        }
     }
 
     private final AsyncResponseContext asyncContext;
@@ -77,10 +88,18 @@ public class AsyncStreamingDataSink implements DataSink {
             return completedFuture(failure(streamResult.getFailure()));
         }
         var partStream = streamResult.getContent();
-        return partStream
-                .map(part -> supplyAsync(() -> transferPart(part), executorService))
-                .collect(asyncAllOf())
-                .thenApply(r -> processResults(r, partStream));
+        // the response can be resumed only once, so a single part can be written to it
+        var parts = partStream.iterator();
+        if (!parts.hasNext()) {
+            return completedFuture(processResults(List.of(), partStream));
+        }
+        var part = parts.next();
+        if (parts.hasNext()) {
+            close(partStream);
+            return completedFuture(error("Cannot stream a source with more than one part to the response"));
+        }
+        return supplyAsync(() -> transferPart(part), executorService)
+                .thenApply(r -> processResults(List.of(r), partStream));
     }
 
     @NotNull
@@ -95,12 +114,12 @@ public class AsyncStreamingDataSink implements DataSink {
     @NotNull
     private StatusResult<?> transferPart(DataSource.Part part) {
         var result = asyncContext.register(outputStream -> {
-            try {
-                part.openStream().transferTo(outputStream);
+            try (var inputStream = part.openStream()) {
+                inputStream.transferTo(outputStream);
             } catch (IOException e) {
                 throw new EdcException(e);
             }
-        });
+        }, part.mediaType());
         return result ? StatusResult.success() : failure(FATAL_ERROR, "Could not resume output stream write");
     }
 
@@ -21,20 +21,23 @@ import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.AbstractResult;
 import org.eclipse.edc.spi.telemetry.Telemetry;
+import org.eclipse.edc.spi.telemetry.TraceCarrier;
 import org.eclipse.edc.util.stream.PartitionIterator;
-import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
-import java.util.function.Supplier;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static java.lang.String.format;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.concurrent.CompletableFuture.supplyAsync;
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.failure;
-import static org.eclipse.edc.util.async.AsyncUtils.asyncAllOf;
 
 /**
  * Writes data in parallel.
@@ -42,6 +45,7 @@ import static org.eclipse.edc.util.async.AsyncUtils.asyncAllOf;
 public abstract class ParallelSink implements DataSink {
     protected String requestId;
     protected int partitionSize = 5;
+    protected int maxConcurrency = Integer.MAX_VALUE;
     protected ExecutorService executorService;
     protected Monitor monitor;
     protected Telemetry telemetry;
@@ -55,16 +59,25 @@ public abstract class ParallelSink implements DataSink {
                 return completedFuture(failure(streamResult.getFailure()));
             }
 
-            try (var partStream = streamResult.getContent()) {
-                return PartitionIterator.streamOf(partStream, partitionSize)
-                        .map(this::processPartsAsync)
-                        .collect(asyncAllOf())
-                        .thenApply(results -> results.stream()
+            var partStream = streamResult.getContent();
+            try {
+                var partitions = new Partitions(PartitionIterator.streamOf(partStream, partitionSize).iterator(), telemetry.getTraceCarrierWithCurrentContext());
+                var lanes = new ArrayList<CompletableFuture<Void>>();
+                while (lanes.size() < maxConcurrency && partitions.hasNext()) {
+                    lanes.add(partitions.processRemaining());
+                }
+
+                return CompletableFuture.allOf(lanes.toArray(CompletableFuture[]::new))
+                        .whenComplete((v, throwable) -> partStream.close())
+                        .thenApply(v -> partitions.results.stream()
                                 .filter(AbstractResult::failed)
                                 .findFirst()
                                 .map(r -> StreamResult.<Object>error(String.join(",", r.getFailureMessages())))
                                 .orElseGet(this::complete))
                         .exceptionally(throwable -> StreamResult.error("Unhandled exception raised when transferring data: " + throwable.getMessage()));
+            } catch (Exception e) {
+                partStream.close();
+                throw e;
             }
         } catch (Exception e) {
             var errorMessage = format("Error processing data transfer request - Request ID: %s", requestId);
@@ -73,15 +86,6 @@ public abstract class ParallelSink implements DataSink {
         }
     }
 
-    @NotNull
-    private CompletableFuture<StreamResult<Object>> processPartsAsync(List<DataSource.Part> parts) {
-        return supplyAsync(transfer(parts), executorService);
-    }
-
-    private Supplier<StreamResult<Object>> transfer(List<DataSource.Part> parts) {
-        return telemetry.contextPropagationMiddleware(() -> transferParts(parts), telemetry.getTraceCarrierWithCurrentContext());
-    }
-
     protected abstract StreamResult<Object> transferParts(List<DataSource.Part> parts);
 
     /**
@@ -95,6 +99,45 @@ public abstract class ParallelSink implements DataSink {
         return StreamResult.success();
     }
 
+    /**
+     * The partitions of a single transfer. Partitions are taken one after the other by a bounded number of chains,
+     * each of them stopping when there are no more partitions or a transfer has failed, so that at most
+     * {@link #maxConcurrency} partitions are in flight at the same time.
+     */
+    private class Partitions {
+        private final Iterator<List<DataSource.Part>> iterator;
+        private final TraceCarrier traceCarrier;
+        private final Queue<StreamResult<Object>> results = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean failed = new AtomicBoolean();
+
+        Partitions(Iterator<List<DataSource.Part>> iterator, TraceCarrier traceCarrier) {
+            this.iterator = iterator;
+            this.traceCarrier = traceCarrier;
+        }
+
+        synchronized boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        CompletableFuture<Void> processRemaining() {
+            List<DataSource.Part> parts;
+            synchronized (this) {
+                if (failed.get() || !iterator.hasNext()) {
+                    return completedFuture(null);
+                }
+                parts = iterator.next();
+            }
+            var transfer = telemetry.contextPropagationMiddleware(() -> transferParts(parts), traceCarrier);
+            return supplyAsync(transfer, executorService).thenCompose(result -> {
+                results.add(result);
+                if (result.failed()) {
+                    failed.set(true);
+                }
+                return processRemaining();
+            });
+        }
+    }
+
     protected abstract static class Builder<B extends Builder<B, T>, T extends ParallelSink> {
         protected T sink;
 
@@ -113,6 +156,14 @@ public abstract class ParallelSink implements DataSink {
             return self();
         }
 
+        /**
+         * Maximum number of partitions transferred concurrently for a single transfer. Unbounded by default.
+         */
+        public B maxConcurrency(int maxConcurrency) {
+            sink.maxConcurrency = maxConcurrency > 0 ? maxConcurrency : Integer.MAX_VALUE;
+            return self();
+        }
+
         public B executorService(ExecutorService executorService) {
             sink.executorService = executorService;
             return self();
@@ -35,10 +35,13 @@ import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.success;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class AsyncStreamingDataSinkTest {
@@ -61,7 +64,7 @@ class AsyncStreamingDataSinkTest {
         var outputStream = new ByteArrayOutputStream();
 
         //noinspection unchecked
-        when(asyncContext.register(isA(Consumer.class))).thenAnswer((Answer<Boolean>) invocation -> {
+        when(asyncContext.register(isA(Consumer.class), any())).thenAnswer((Answer<Boolean>) invocation -> {
             @SuppressWarnings("rawtypes") var consumer = (Consumer) invocation.getArgument(0);
             //noinspection unchecked
             consumer.accept(outputStream);
@@ -77,6 +80,46 @@ class AsyncStreamingDataSinkTest {
         assertThat(outputStream.toByteArray()).isEqualTo(TEST_CONTENT);
     }
 
+    @Test
+    void verify_streamingWithPartMediaType() throws Exception {
+        var part = mock(DataSource.Part.class);
+        when(part.openStream()).thenReturn(new ByteArrayInputStream(TEST_CONTENT));
+        when(part.mediaType()).thenReturn("text/plain");
+
+        var dataSource = mock(DataSource.class);
+        when(dataSource.openPartStream()).thenReturn(success(Stream.of(part)));
+
+        var dataSink = new AsyncStreamingDataSink(asyncContext, executorService, monitor);
+
+        var outputStream = new ByteArrayOutputStream();
+
+        //noinspection unchecked
+        when(asyncContext.register(isA(Consumer.class), eq("text/plain"))).thenAnswer((Answer<Boolean>) invocation -> {
+            @SuppressWarnings("rawtypes") var consumer = (Consumer) invocation.getArgument(0);
+            //noinspection unchecked
+            consumer.accept(outputStream);
+            return true;
+        });
+
+        var result = dataSink.transfer(dataSource).get(2000, MILLISECONDS);
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(outputStream.toByteArray()).isEqualTo(TEST_CONTENT);
+    }
+
+    @Test
+    void verify_failsWithoutWriting_whenSourceHasMoreThanOnePart() throws Exception {
+        var dataSource = mock(DataSource.class);
+        when(dataSource.openPartStream()).thenReturn(success(Stream.of(mock(DataSource.Part.class), mock(DataSource.Part.class))));
+
+        var dataSink = new AsyncStreamingDataSink(asyncContext, executorService, monitor);
+
+        var result = dataSink.transfer(dataSource).get(2000, MILLISECONDS);
+
+        assertThat(result.failed()).isTrue();
+        verifyNoInteractions(asyncContext);
+    }
+
     @Test
     void verify_exceptionThrown() throws Exception {
         var part = mock(DataSource.Part.class);
@@ -94,7 +137,7 @@ class AsyncStreamingDataSinkTest {
         doThrow(testException).when(outputStream).write(isA(byte[].class), anyInt(), anyInt());
 
         //noinspection unchecked
-        when(asyncContext.register(isA(Consumer.class))).thenAnswer((Answer<Boolean>) invocation -> {
+        when(asyncContext.register(isA(Consumer.class), any())).thenAnswer((Answer<Boolean>) invocation -> {
             @SuppressWarnings("rawtypes") var consumer = (Consumer) invocation.getArgument(0);
             //noinspection unchecked
             consumer.accept(outputStream);
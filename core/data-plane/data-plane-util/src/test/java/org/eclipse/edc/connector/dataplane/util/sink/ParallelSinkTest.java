@@ -29,7 +29,9 @@ import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 import static java.lang.String.format;
 import static java.util.UUID.randomUUID;
@@ -116,6 +118,33 @@ class ParallelSinkTest {
         assertThat(fakeSink.complete).isEqualTo(0);
     }
 
+    @Test
+    void transfer_shouldNotExceedMaxConcurrency() {
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+        var transferred = new AtomicInteger();
+        fakeSink.partitionSize = 1;
+        fakeSink.maxConcurrency = 1;
+        fakeSink.transferResultSupplier = () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            transferred.incrementAndGet();
+            running.decrementAndGet();
+            return StreamResult.success();
+        };
+        var parts = IntStream.range(0, 10)
+                .mapToObj(i -> (DataSource.Part) new InputStreamDataSource("part" + i, new ByteArrayInputStream(new byte[0])))
+                .toList();
+        var multiPartSource = mock(DataSource.class);
+        when(multiPartSource.openPartStream()).thenReturn(StreamResult.success(parts.stream()));
+
+        assertThat(fakeSink.transfer(multiPartSource)).succeedsWithin(500, TimeUnit.MILLISECONDS)
+                .satisfies(transferResult -> assertThat(transferResult.succeeded()).isTrue());
+
+        assertThat(transferred).hasValue(10);
+        assertThat(maxRunning).hasValue(1);
+        assertThat(fakeSink.complete).isEqualTo(1);
+    }
+
     private static class FakeParallelSink extends ParallelSink {
 
         List<DataSource.Part> parts;
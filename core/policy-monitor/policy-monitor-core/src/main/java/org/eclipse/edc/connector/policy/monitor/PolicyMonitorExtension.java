@@ -40,7 +40,9 @@ import org.eclipse.edc.spi.telemetry.Telemetry;
 import java.time.Clock;
 
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_BATCH_SIZE;
+import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_DEDICATED_PROCESSOR_THREADS;
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_ITERATION_WAIT;
+import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_PROCESSOR_PARALLELISM;
 import static org.eclipse.edc.connector.core.policy.ContractExpiryCheckFunction.CONTRACT_EXPIRY_EVALUATION_KEY;
 import static org.eclipse.edc.connector.policy.monitor.PolicyMonitorExtension.NAME;
 import static org.eclipse.edc.policy.model.OdrlNamespace.ODRL_SCHEMA;
@@ -57,6 +59,12 @@ public class PolicyMonitorExtension implements ServiceExtension {
     @Setting(value = "the batch size in the policy monitor state machine. Default value " + DEFAULT_BATCH_SIZE, type = "int")
     private static final String POLICY_MONITOR_BATCH_SIZE = "edc.policy.monitor.state-machine.batch-size";
 
+    @Setting(value = "if true, every processor of the policy monitor state machine runs on a dedicated thread. Default value " + DEFAULT_DEDICATED_PROCESSOR_THREADS, type = "boolean")
+    private static final String POLICY_MONITOR_DEDICATED_PROCESSOR_THREADS = "edc.policy.monitor.state-machine.dedicated-processor-threads";
+
+    @Setting(value = "the maximum number of entities of a batch processed concurrently in the policy monitor state machine. Default value " + DEFAULT_PROCESSOR_PARALLELISM, type = "int")
+    private static final String POLICY_MONITOR_PROCESSOR_PARALLELISM = "edc.policy.monitor.state-machine.processor-parallelism";
+
     @PolicyScope
     public static final String POLICY_MONITOR_SCOPE = "policy.monitor";
 
@@ -92,7 +100,6 @@ public class PolicyMonitorExtension implements ServiceExtension {
     @Override
     public void initialize(ServiceExtensionContext context) {
         var iterationWaitMillis = context.getSetting(POLICY_MONITOR_ITERATION_WAIT_MILLIS, DEFAULT_ITERATION_WAIT);
-        var waitStrategy = new ExponentialWaitStrategy(iterationWaitMillis);
 
         ruleBindingRegistry.bind(ODRL_SCHEMA + "use", POLICY_MONITOR_SCOPE);
         ruleBindingRegistry.bind(CONTRACT_EXPIRY_EVALUATION_KEY, POLICY_MONITOR_SCOPE);
@@ -101,7 +108,9 @@ public class PolicyMonitorExtension implements ServiceExtension {
         manager = PolicyMonitorManagerImpl.Builder.newInstance()
                 .clock(clock)
                 .batchSize(context.getSetting(POLICY_MONITOR_BATCH_SIZE, DEFAULT_BATCH_SIZE))
-                .waitStrategy(waitStrategy)
+                .dedicatedProcessorThreads(context.getSetting(POLICY_MONITOR_DEDICATED_PROCESSOR_THREADS, DEFAULT_DEDICATED_PROCESSOR_THREADS))
+                .processorParallelism(context.getSetting(POLICY_MONITOR_PROCESSOR_PARALLELISM, DEFAULT_PROCESSOR_PARALLELISM))
+                .waitStrategySupplier(() -> new ExponentialWaitStrategy(iterationWaitMillis))
                 .executorInstrumentation(executorInstrumentation)
                 .monitor(context.getMonitor())
                 .telemetry(telemetry)
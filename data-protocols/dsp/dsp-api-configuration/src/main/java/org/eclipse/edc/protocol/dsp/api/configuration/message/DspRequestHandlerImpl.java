@@ -124,6 +124,11 @@ public class DspRequestHandlerImpl implements DspRequestHandler {
 
         var resource = serviceResult.getContent();
 
+        var responseMapper = request.getResponseMapper();
+        if (responseMapper != null) {
+            return responseMapper.apply(resource);
+        }
+
         var outputTransformation = transformerRegistry.transform(resource, JsonObject.class);
         if (outputTransformation.failed()) {
             var errorCode = UUID.randomUUID();
@@ -16,6 +16,7 @@ package org.eclipse.edc.protocol.dsp.api.configuration.message;
 
 import jakarta.json.Json;
 import jakarta.json.JsonObject;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.protocol.dsp.spi.message.GetDspRequest;
 import org.eclipse.edc.protocol.dsp.spi.message.PostDspRequest;
 import org.eclipse.edc.service.spi.result.ServiceResult;
@@ -45,6 +46,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -167,6 +169,28 @@ class DspRequestHandlerImplTest {
             verify(transformerRegistry).transform(content, JsonObject.class);
         }
 
+        @Test
+        void shouldMapResponse_whenResponseMapperIsSet() {
+            var content = new Object();
+            var response = Response.ok("body").build();
+            when(identityService.verifyJwtToken(any(), any())).thenReturn(Result.success(claimToken()));
+            when(validatorRegistry.validate(any(), any())).thenReturn(ValidationResult.success());
+            when(transformerRegistry.transform(any(), eq(TestMessage.class))).thenReturn(Result.success(mock(TestMessage.class)));
+            var request = PostDspRequest.Builder.newInstance(TestMessage.class, Object.class)
+                    .token("token")
+                    .expectedMessageType("expected-message-type")
+                    .message(Json.createObjectBuilder().build())
+                    .serviceCall((m, t) -> ServiceResult.success(content))
+                    .responseMapper(resource -> resource == content ? response : null)
+                    .errorType("errorType")
+                    .build();
+
+            var result = handler.createResource(request);
+
+            assertThat(result).isSameAs(response);
+            verify(transformerRegistry, never()).transform(any(), eq(JsonObject.class));
+        }
+
         @Test
         void shouldFail_whenTokenIsNotValid() {
             when(identityService.verifyJwtToken(any(), any())).thenReturn(Result.failure("error"));
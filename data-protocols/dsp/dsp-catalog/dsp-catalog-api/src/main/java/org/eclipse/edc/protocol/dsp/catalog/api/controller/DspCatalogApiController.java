@@ -22,22 +22,35 @@ import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.Response;
-import org.eclipse.edc.catalog.spi.Catalog;
+import jakarta.ws.rs.core.UriInfo;
 import org.eclipse.edc.catalog.spi.CatalogRequestMessage;
 import org.eclipse.edc.catalog.spi.Dataset;
 import org.eclipse.edc.connector.spi.catalog.CatalogProtocolService;
+import org.eclipse.edc.connector.spi.catalog.StreamingCatalog;
+import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.protocol.dsp.spi.message.DspRequestHandler;
 import org.eclipse.edc.protocol.dsp.spi.message.GetDspRequest;
 import org.eclipse.edc.protocol.dsp.spi.message.PostDspRequest;
+import org.eclipse.edc.service.spi.result.ServiceResult;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+import org.jetbrains.annotations.Nullable;
+
+import java.net.URI;
 
 import static jakarta.ws.rs.core.HttpHeaders.AUTHORIZATION;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
+import static java.lang.String.format;
 import static org.eclipse.edc.protocol.dsp.catalog.api.CatalogApiPaths.BASE_PATH;
 import static org.eclipse.edc.protocol.dsp.catalog.api.CatalogApiPaths.CATALOG_REQUEST;
 import static org.eclipse.edc.protocol.dsp.catalog.api.CatalogApiPaths.DATASET_REQUEST;
 import static org.eclipse.edc.protocol.dsp.type.DspCatalogPropertyAndTypeNames.DSPACE_TYPE_CATALOG_ERROR;
 import static org.eclipse.edc.protocol.dsp.type.DspCatalogPropertyAndTypeNames.DSPACE_TYPE_CATALOG_REQUEST_MESSAGE;
+import static org.eclipse.edc.protocol.dsp.type.DspConstants.DSP_SCOPE;
 
 /**
  * Provides the HTTP endpoint for receiving catalog requests.
@@ -49,20 +62,36 @@ public class DspCatalogApiController {
 
     private final CatalogProtocolService service;
     private final DspRequestHandler dspRequestHandler;
+    private final TypeTransformerRegistry transformerRegistry;
+    private final JsonLd jsonLd;
+    private final Monitor monitor;
 
-    public DspCatalogApiController(CatalogProtocolService service, DspRequestHandler dspRequestHandler) {
+    public DspCatalogApiController(CatalogProtocolService service, DspRequestHandler dspRequestHandler,
+                                   TypeTransformerRegistry transformerRegistry, JsonLd jsonLd, Monitor monitor) {
         this.service = service;
         this.dspRequestHandler = dspRequestHandler;
+        this.transformerRegistry = transformerRegistry;
+        this.jsonLd = jsonLd;
+        this.monitor = monitor;
     }
 
+    /**
+     * Returns a page of the catalog, whose datasets are written while they are resolved. The {@code offset} and
+     * {@code limit} query parameters override the ones of the query spec of the request message. If there are more
+     * datasets, the catalog has a {@code dspace:nextPage} property with the URI of the next page, that is requested
+     * with the same message.
+     */
     @POST
     @Path(CATALOG_REQUEST)
-    public Response requestCatalog(JsonObject jsonObject, @HeaderParam(AUTHORIZATION) String token) {
-        var request = PostDspRequest.Builder.newInstance(CatalogRequestMessage.class, Catalog.class)
+    public Response requestCatalog(JsonObject jsonObject, @HeaderParam(AUTHORIZATION) String token,
+                                   @QueryParam("offset") Integer offset, @QueryParam("limit") Integer limit,
+                                   @Context UriInfo uriInfo) {
+        var request = PostDspRequest.Builder.newInstance(CatalogRequestMessage.class, StreamingCatalog.class)
                 .token(token)
                 .expectedMessageType(DSPACE_TYPE_CATALOG_REQUEST_MESSAGE)
                 .message(jsonObject)
-                .serviceCall(service::getCatalog)
+                .serviceCall((message, claimToken) -> page(message, offset, limit).compose(paged -> service.getStreamingCatalog(paged, claimToken)))
+                .responseMapper(catalog -> createResponse(catalog, uriInfo))
                 .errorType(DSPACE_TYPE_CATALOG_ERROR)
                 .build();
 
@@ -82,4 +111,48 @@ public class DspCatalogApiController {
         return dspRequestHandler.getResource(request);
     }
 
+    private Response createResponse(StreamingCatalog catalog, UriInfo uriInfo) {
+        var writer = new StreamingCatalogWriter(catalog, nextPage(catalog.querySpec(), uriInfo), transformerRegistry, jsonLd, monitor, DSP_SCOPE);
+        return Response.ok(writer, APPLICATION_JSON).build();
+    }
+
+    /**
+     * The URI of the page that follows the requested one, null if it cannot be addressed by offset.
+     */
+    @Nullable
+    private URI nextPage(QuerySpec querySpec, UriInfo uriInfo) {
+        var nextOffset = (long) querySpec.getOffset() + querySpec.getLimit();
+        if (querySpec.isKeysetPagination() || nextOffset >= Integer.MAX_VALUE) {
+            return null;
+        }
+        return uriInfo.getRequestUriBuilder()
+                .replaceQueryParam("offset", nextOffset)
+                .replaceQueryParam("limit", querySpec.getLimit())
+                .build();
+    }
+
+    private ServiceResult<CatalogRequestMessage> page(CatalogRequestMessage message, Integer offset, Integer limit) {
+        if (offset == null && limit == null) {
+            return ServiceResult.success(message);
+        }
+        var querySpec = message.getQuerySpec();
+        try {
+            var paged = QuerySpec.Builder.newInstance()
+                    .filter(querySpec.getFilterExpression())
+                    .sortField(querySpec.getSortField())
+                    .sortOrder(querySpec.getSortOrder())
+                    .offset(offset != null ? offset : querySpec.getOffset())
+                    .cursor(querySpec.getCursor())
+                    .limit(limit != null ? limit : querySpec.getLimit())
+                    .build();
+            var pagedMessage = CatalogRequestMessage.Builder.newInstance()
+                    .protocol(message.getProtocol())
+                    .counterPartyAddress(message.getCounterPartyAddress())
+                    .querySpec(paged)
+                    .build();
+            return ServiceResult.success(pagedMessage);
+        } catch (IllegalArgumentException e) {
+            return ServiceResult.badRequest(format("Invalid paging parameters: %s", e.getMessage()));
+        }
+    }
 }
@@ -0,0 +1,135 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.protocol.dsp.catalog.api.controller;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.ws.rs.core.StreamingOutput;
+import org.eclipse.edc.catalog.spi.Dataset;
+import org.eclipse.edc.connector.spi.catalog.StreamingCatalog;
+import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.OutputStream;
+import java.net.URI;
+
+import static java.lang.String.format;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.CONTEXT;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
+import static org.eclipse.edc.jsonld.spi.PropertyAndTypeNames.DCAT_DATASET_ATTRIBUTE;
+import static org.eclipse.edc.protocol.dsp.type.DspCatalogPropertyAndTypeNames.DSPACE_PROPERTY_NEXT_PAGE;
+
+/**
+ * Writes a {@link StreamingCatalog} as compacted JSON-LD, one dataset at a time: the catalog is compacted without its
+ * datasets and written first, then each dataset is transformed, compacted and written while the dataset stream is
+ * consumed, so that only one dataset is held in memory and the first bytes are sent before all datasets are resolved.
+ * <p>
+ * The datasets are compacted with the same scope as the catalog, so they share the {@code @context} of the catalog that
+ * is written only once. Unlike the compaction of the whole catalog, the datasets are always written as an array, even
+ * if there is only one.
+ * <p>
+ * As the response status and headers are sent before the datasets are resolved, whether there is a next page is only
+ * known once they have been written: in that case the URI of the next page is written in the body, after the
+ * datasets, as {@code dspace:nextPage}.
+ */
+public class StreamingCatalogWriter implements StreamingOutput {
+
+    private final StreamingCatalog catalog;
+    private final URI nextPage;
+    private final TypeTransformerRegistry transformerRegistry;
+    private final JsonLd jsonLd;
+    private final Monitor monitor;
+    private final String scope;
+
+    /**
+     * Creates the writer.
+     *
+     * @param catalog the catalog to be written.
+     * @param nextPage the URI of the next page, written if there are more datasets, null if it cannot be linked.
+     * @param transformerRegistry the transformer registry.
+     * @param jsonLd the JSON-LD service.
+     * @param monitor the monitor.
+     * @param scope the JSON-LD scope used for compaction.
+     */
+    public StreamingCatalogWriter(StreamingCatalog catalog, @Nullable URI nextPage, TypeTransformerRegistry transformerRegistry, JsonLd jsonLd, Monitor monitor, String scope) {
+        this.catalog = catalog;
+        this.nextPage = nextPage;
+        this.transformerRegistry = transformerRegistry;
+        this.jsonLd = jsonLd;
+        this.monitor = monitor;
+        this.scope = scope;
+    }
+
+    @Override
+    public void write(OutputStream output) {
+        try (var datasets = catalog.datasets(); var generator = Json.createGenerator(output)) {
+            var json = transformerRegistry.transform(catalog.catalog(), JsonObject.class)
+                    .orElseThrow(failure -> new EdcException(format("Failed to transform catalog: %s", failure.getFailureDetail())));
+            // the datasets are written afterwards under the dataset key
+            var envelope = compact(Json.createObjectBuilder(json).remove(DCAT_DATASET_ATTRIBUTE).build());
+
+            generator.writeStartObject();
+            envelope.forEach(generator::write);
+            generator.writeStartArray(compactedKey(DCAT_DATASET_ATTRIBUTE, Json.createArrayBuilder().add(Json.createObjectBuilder().add(ID, "probe")).build()));
+            generator.flush();
+
+            var hasNextPage = catalog.forEachDataset(dataset -> writeDataset(generator, dataset));
+
+            generator.writeEnd();
+            if (hasNextPage && nextPage != null) {
+                generator.write(compactedKey(DSPACE_PROPERTY_NEXT_PAGE, Json.createValue(nextPage.toString())), nextPage.toString());
+            }
+            generator.writeEnd();
+        } catch (RuntimeException e) {
+            // the status has already been sent when the first datasets are written, the response can only be aborted
+            monitor.severe(format("Failed to write catalog %s", catalog.catalog().getId()), e);
+            throw e instanceof EdcException ? e : new EdcException(e);
+        }
+    }
+
+    private void writeDataset(JsonGenerator generator, Dataset dataset) {
+        var json = transformerRegistry.transform(dataset, JsonObject.class)
+                .orElseThrow(failure -> new EdcException(format("Failed to transform dataset %s: %s", dataset.getId(), failure.getFailureDetail())));
+        var compacted = compact(json);
+        generator.writeStartObject();
+        compacted.forEach((key, value) -> {
+            if (!CONTEXT.equals(key)) {
+                generator.write(key, value);
+            }
+        });
+        generator.writeEnd();
+    }
+
+    private JsonObject compact(JsonObject json) {
+        return jsonLd.compact(json, scope)
+                .orElseThrow(failure -> new EdcException(format("Failed to compact JSON-LD: %s", failure.getFailureDetail())));
+    }
+
+    /**
+     * The compacted name of a property, e.g. {@code dcat:dataset}, as the compaction of the catalog would produce it
+     * with the context of the scope for a value like the passed one.
+     */
+    private String compactedKey(String property, JsonValue value) {
+        var probe = Json.createObjectBuilder().add(property, value).build();
+        return jsonLd.compact(probe, scope)
+                .map(compacted -> compacted.keySet().stream().filter(key -> !CONTEXT.equals(key)).findFirst().orElse(property))
+                .orElse(failure -> property);
+    }
+}
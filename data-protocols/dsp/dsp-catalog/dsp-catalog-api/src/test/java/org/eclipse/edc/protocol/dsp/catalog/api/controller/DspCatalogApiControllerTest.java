@@ -22,32 +22,53 @@ import org.eclipse.edc.catalog.spi.Catalog;
 import org.eclipse.edc.catalog.spi.CatalogRequestMessage;
 import org.eclipse.edc.catalog.spi.Dataset;
 import org.eclipse.edc.connector.spi.catalog.CatalogProtocolService;
+import org.eclipse.edc.connector.spi.catalog.StreamingCatalog;
+import org.eclipse.edc.jsonld.TitaniumJsonLd;
+import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.jsonld.spi.JsonLdKeywords;
 import org.eclipse.edc.junit.annotations.ApiTest;
 import org.eclipse.edc.protocol.dsp.spi.message.DspRequestHandler;
 import org.eclipse.edc.protocol.dsp.spi.message.GetDspRequest;
 import org.eclipse.edc.protocol.dsp.spi.message.PostDspRequest;
+import org.eclipse.edc.service.spi.result.ServiceResult;
+import org.eclipse.edc.spi.iam.ClaimToken;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.web.jersey.testfixtures.RestControllerTestBase;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
+import java.util.stream.Stream;
+
 import static io.restassured.RestAssured.given;
 import static io.restassured.http.ContentType.JSON;
 import static jakarta.json.Json.createObjectBuilder;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DCAT_PREFIX;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DCAT_SCHEMA;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DSPACE_PREFIX;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DSPACE_SCHEMA;
 import static org.eclipse.edc.protocol.dsp.catalog.api.CatalogApiPaths.BASE_PATH;
 import static org.eclipse.edc.protocol.dsp.catalog.api.CatalogApiPaths.CATALOG_REQUEST;
 import static org.eclipse.edc.protocol.dsp.catalog.api.CatalogApiPaths.DATASET_REQUEST;
 import static org.eclipse.edc.protocol.dsp.type.DspCatalogPropertyAndTypeNames.DSPACE_TYPE_CATALOG_REQUEST_MESSAGE;
+import static org.eclipse.edc.protocol.dsp.type.DspConstants.DSP_SCOPE;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ApiTest
@@ -56,6 +77,7 @@ class DspCatalogApiControllerTest extends RestControllerTestBase {
     private final TypeTransformerRegistry transformerRegistry = mock();
     private final CatalogProtocolService service = mock();
     private final DspRequestHandler dspRequestHandler = mock();
+    private final JsonLd jsonLd = new TitaniumJsonLd(mock(Monitor.class));
 
     @Test
     void requestCatalog_shouldCreateResource() {
@@ -77,11 +99,87 @@ class DspCatalogApiControllerTest extends RestControllerTestBase {
         verify(dspRequestHandler).createResource(captor.capture());
         var request = captor.getValue();
         assertThat(request.getInputClass()).isEqualTo(CatalogRequestMessage.class);
-        assertThat(request.getResultClass()).isEqualTo(Catalog.class);
+        assertThat(request.getResultClass()).isEqualTo(StreamingCatalog.class);
         assertThat(request.getExpectedMessageType()).isEqualTo(DSPACE_TYPE_CATALOG_REQUEST_MESSAGE);
         assertThat(request.getProcessId()).isNull();
         assertThat(request.getToken()).isEqualTo("auth");
         assertThat(request.getMessage()).isEqualTo(requestBody);
+        assertThat(request.getResponseMapper()).isNotNull();
+    }
+
+    @Test
+    void requestCatalog_shouldStreamDatasetsAndLinkNextPage() {
+        jsonLd.registerNamespace(DCAT_PREFIX, DCAT_SCHEMA, DSP_SCOPE);
+        jsonLd.registerNamespace(DSPACE_PREFIX, DSPACE_SCHEMA, DSP_SCOPE);
+        var querySpec = QuerySpec.Builder.newInstance().offset(2).limit(2).build();
+        var datasets = Stream.of("dataset-1", "dataset-2", "dataset-3").map(id -> Dataset.Builder.newInstance().id(id).build());
+        var streamingCatalog = new StreamingCatalog(Catalog.Builder.newInstance().id("catalog").build(), datasets, querySpec);
+        var message = CatalogRequestMessage.Builder.newInstance().protocol("protocol").build();
+        when(service.getStreamingCatalog(any(), any())).thenReturn(ServiceResult.success(streamingCatalog));
+        when(transformerRegistry.transform(any(Catalog.class), eq(JsonObject.class)))
+                .thenAnswer(a -> Result.success(createObjectBuilder().add(ID, a.getArgument(0, Catalog.class).getId()).add(TYPE, DCAT_SCHEMA + "Catalog").build()));
+        when(transformerRegistry.transform(any(Dataset.class), eq(JsonObject.class)))
+                .thenAnswer(a -> Result.success(createObjectBuilder().add(ID, a.getArgument(0, Dataset.class).getId()).add(TYPE, DCAT_SCHEMA + "Dataset").build()));
+        when(dspRequestHandler.createResource(any())).thenAnswer(a -> handle(a.getArgument(0), message));
+
+        baseRequest()
+                .contentType(JSON)
+                .queryParam("offset", 2)
+                .queryParam("limit", 2)
+                .body(createObjectBuilder().add(TYPE, DSPACE_TYPE_CATALOG_REQUEST_MESSAGE).build())
+                .post(CATALOG_REQUEST)
+                .then()
+                .statusCode(200)
+                .contentType(JSON)
+                .body("'@id'", equalTo("catalog"))
+                .body("'@type'", equalTo("dcat:Catalog"))
+                .body("'dcat:dataset'.'@id'", contains("dataset-1", "dataset-2"))
+                .body("'dcat:dataset'[0].'@context'", nullValue())
+                .body("'dspace:nextPage'", containsString("offset=4"))
+                .body("'dspace:nextPage'", containsString("limit=2"));
+
+        verify(service).getStreamingCatalog(argThat(m -> m.getQuerySpec().getOffset() == 2 && m.getQuerySpec().getLimit() == 2), any());
+    }
+
+    @Test
+    void requestCatalog_shouldNotLinkNextPage_whenLastPage() {
+        jsonLd.registerNamespace(DSPACE_PREFIX, DSPACE_SCHEMA, DSP_SCOPE);
+        var streamingCatalog = new StreamingCatalog(Catalog.Builder.newInstance().id("catalog").build(), Stream.empty(), QuerySpec.none());
+        var message = CatalogRequestMessage.Builder.newInstance().protocol("protocol").build();
+        when(service.getStreamingCatalog(any(), any())).thenReturn(ServiceResult.success(streamingCatalog));
+        when(transformerRegistry.transform(any(Catalog.class), eq(JsonObject.class)))
+                .thenReturn(Result.success(createObjectBuilder().add(ID, "catalog").build()));
+        when(dspRequestHandler.createResource(any())).thenAnswer(a -> handle(a.getArgument(0), message));
+
+        baseRequest()
+                .contentType(JSON)
+                .body(createObjectBuilder().add(TYPE, DSPACE_TYPE_CATALOG_REQUEST_MESSAGE).build())
+                .post(CATALOG_REQUEST)
+                .then()
+                .statusCode(200)
+                .body("'dspace:nextPage'", nullValue());
+
+        verify(service).getStreamingCatalog(eq(message), any());
+    }
+
+    @Test
+    void requestCatalog_shouldFail_whenPagingParametersAreInvalid() {
+        var message = CatalogRequestMessage.Builder.newInstance().protocol("protocol").build();
+        when(dspRequestHandler.createResource(any())).thenAnswer(a -> {
+            PostDspRequest<CatalogRequestMessage, StreamingCatalog> request = a.getArgument(0);
+            var result = request.getServiceCall().apply(message, ClaimToken.Builder.newInstance().build());
+            return Response.status(result.succeeded() ? 200 : 400).build();
+        });
+
+        baseRequest()
+                .contentType(JSON)
+                .queryParam("limit", 0)
+                .body(createObjectBuilder().add(TYPE, DSPACE_TYPE_CATALOG_REQUEST_MESSAGE).build())
+                .post(CATALOG_REQUEST)
+                .then()
+                .statusCode(400);
+
+        verifyNoInteractions(service);
     }
 
     @Test
@@ -105,7 +203,16 @@ class DspCatalogApiControllerTest extends RestControllerTestBase {
 
     @Override
     protected Object controller() {
-        return new DspCatalogApiController(service, dspRequestHandler);
+        return new DspCatalogApiController(service, dspRequestHandler, transformerRegistry, jsonLd, mock());
+    }
+
+    /**
+     * Runs the service call and the response mapper like the {@link DspRequestHandler} does once the message is
+     * validated and transformed.
+     */
+    private Response handle(PostDspRequest<CatalogRequestMessage, StreamingCatalog> request, CatalogRequestMessage message) {
+        var result = request.getServiceCall().apply(message, ClaimToken.Builder.newInstance().build());
+        return request.getResponseMapper().apply(result.getContent());
     }
 
     private RequestSpecification baseRequest() {
@@ -0,0 +1,167 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.protocol.dsp.catalog.api.controller;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import org.eclipse.edc.catalog.spi.Catalog;
+import org.eclipse.edc.catalog.spi.Dataset;
+import org.eclipse.edc.connector.spi.catalog.StreamingCatalog;
+import org.eclipse.edc.jsonld.TitaniumJsonLd;
+import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static jakarta.json.Json.createObjectBuilder;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.CONTEXT;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DCAT_PREFIX;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DCAT_SCHEMA;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DSPACE_PREFIX;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DSPACE_SCHEMA;
+import static org.eclipse.edc.jsonld.spi.PropertyAndTypeNames.DCAT_DATASET_ATTRIBUTE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StreamingCatalogWriterTest {
+
+    private static final String SCOPE = "test-scope";
+    private static final URI NEXT_PAGE = URI.create("http://provider/catalog/request?offset=2&limit=2");
+
+    private final TypeTransformerRegistry transformerRegistry = mock();
+    private final Monitor monitor = mock();
+    private final JsonLd jsonLd = new TitaniumJsonLd(mock(Monitor.class));
+
+    @BeforeEach
+    void setUp() {
+        jsonLd.registerNamespace(DCAT_PREFIX, DCAT_SCHEMA, SCOPE);
+        jsonLd.registerNamespace(DSPACE_PREFIX, DSPACE_SCHEMA, SCOPE);
+        when(transformerRegistry.transform(any(Catalog.class), eq(JsonObject.class))).thenAnswer(a -> Result.success(createObjectBuilder()
+                .add(ID, a.getArgument(0, Catalog.class).getId())
+                .add(TYPE, DCAT_SCHEMA + "Catalog")
+                .add(DCAT_DATASET_ATTRIBUTE, Json.createArrayBuilder())
+                .build()));
+        when(transformerRegistry.transform(any(Dataset.class), eq(JsonObject.class))).thenAnswer(a -> Result.success(createObjectBuilder()
+                .add(ID, a.getArgument(0, Dataset.class).getId())
+                .add(TYPE, DCAT_SCHEMA + "Dataset")
+                .build()));
+    }
+
+    @Test
+    void write_shouldWriteCompactedCatalogWithDatasets() {
+        var datasets = Stream.of(dataset("dataset-1"), dataset("dataset-2"));
+        var writer = new StreamingCatalogWriter(streamingCatalog(datasets), null, transformerRegistry, jsonLd, monitor, SCOPE);
+
+        var json = write(writer);
+
+        assertThat(json.getString(ID)).isEqualTo("catalog");
+        assertThat(json.getString(TYPE)).isEqualTo("dcat:Catalog");
+        assertThat(json.getJsonObject(CONTEXT).getString(DCAT_PREFIX)).isEqualTo(DCAT_SCHEMA);
+        assertThat(json.getJsonArray("dcat:dataset")).hasSize(2).allSatisfy(dataset -> {
+            assertThat(dataset.asJsonObject().getString(TYPE)).isEqualTo("dcat:Dataset");
+            assertThat(dataset.asJsonObject()).doesNotContainKey(CONTEXT);
+        });
+        assertThat(json.getJsonArray("dcat:dataset").getJsonObject(0).getString(ID)).isEqualTo("dataset-1");
+    }
+
+    @Test
+    void write_shouldWriteEmptyArray_whenNoDatasets() {
+        var writer = new StreamingCatalogWriter(streamingCatalog(Stream.empty()), null, transformerRegistry, jsonLd, monitor, SCOPE);
+
+        var json = write(writer);
+
+        assertThat(json.getJsonArray("dcat:dataset")).isEmpty();
+    }
+
+    @Test
+    void write_shouldWriteNextPage_whenThereAreMoreDatasetsThanTheLimit() {
+        var datasets = Stream.of(dataset("dataset-1"), dataset("dataset-2"), dataset("dataset-3"));
+        var catalog = new StreamingCatalog(Catalog.Builder.newInstance().id("catalog").build(), datasets, QuerySpec.Builder.newInstance().limit(2).build());
+        var writer = new StreamingCatalogWriter(catalog, NEXT_PAGE, transformerRegistry, jsonLd, monitor, SCOPE);
+
+        var json = write(writer);
+
+        assertThat(json.getJsonArray("dcat:dataset")).hasSize(2);
+        assertThat(json.getString("dspace:nextPage")).isEqualTo(NEXT_PAGE.toString());
+    }
+
+    @Test
+    void write_shouldNotWriteNextPage_whenLastPage() {
+        var datasets = Stream.of(dataset("dataset-1"), dataset("dataset-2"));
+        var catalog = new StreamingCatalog(Catalog.Builder.newInstance().id("catalog").build(), datasets, QuerySpec.Builder.newInstance().limit(2).build());
+        var writer = new StreamingCatalogWriter(catalog, NEXT_PAGE, transformerRegistry, jsonLd, monitor, SCOPE);
+
+        var json = write(writer);
+
+        assertThat(json.getJsonArray("dcat:dataset")).hasSize(2);
+        assertThat(json).doesNotContainKey("dspace:nextPage");
+    }
+
+    @Test
+    void write_shouldCloseDatasets() {
+        var closed = new AtomicBoolean();
+        var datasets = Stream.of(dataset("dataset-1")).onClose(() -> closed.set(true));
+        var writer = new StreamingCatalogWriter(streamingCatalog(datasets), null, transformerRegistry, jsonLd, monitor, SCOPE);
+
+        write(writer);
+
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void write_shouldThrowAndCloseDatasets_whenDatasetTransformationFails() {
+        var closed = new AtomicBoolean();
+        var datasets = Stream.of(dataset("dataset-1")).onClose(() -> closed.set(true));
+        when(transformerRegistry.transform(any(Dataset.class), eq(JsonObject.class))).thenReturn(Result.failure("error"));
+        var writer = new StreamingCatalogWriter(streamingCatalog(datasets), null, transformerRegistry, jsonLd, monitor, SCOPE);
+
+        assertThatThrownBy(() -> writer.write(new ByteArrayOutputStream())).isInstanceOf(EdcException.class);
+        assertThat(closed).isTrue();
+        verify(monitor).severe(any(String.class), any(EdcException.class));
+    }
+
+    private JsonObject write(StreamingCatalogWriter writer) {
+        var output = new ByteArrayOutputStream();
+        writer.write(output);
+        try (var reader = Json.createReader(new ByteArrayInputStream(output.toByteArray()))) {
+            return reader.readObject();
+        }
+    }
+
+    private StreamingCatalog streamingCatalog(Stream<Dataset> datasets) {
+        return new StreamingCatalog(Catalog.Builder.newInstance().id("catalog").build(), datasets, QuerySpec.none());
+    }
+
+    private Dataset dataset(String id) {
+        return Dataset.Builder.newInstance().id(id).build();
+    }
+}
@@ -15,7 +15,11 @@
 package org.eclipse.edc.protocol.dsp.spi.message;
 
 import jakarta.json.JsonObject;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.spi.types.domain.message.RemoteMessage;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Function;
 
 /**
  * Defines an incoming DSP message as a remote message type.
@@ -25,6 +29,7 @@ public class PostDspRequest<I extends RemoteMessage, R> extends DspRequest<I, R>
     private JsonObject message;
     private String processId;
     private String expectedMessageType;
+    private Function<R, Response> responseMapper;
 
     private PostDspRequest(Class<I> messageClass, Class<R> resultClass) {
         super(messageClass, resultClass);
@@ -42,6 +47,15 @@ public class PostDspRequest<I extends RemoteMessage, R> extends DspRequest<I, R>
         return expectedMessageType;
     }
 
+    /**
+     * Maps the created resource to the response. If null, the resource is transformed to a {@link JsonObject} that
+     * becomes the response body.
+     */
+    @Nullable
+    public Function<R, Response> getResponseMapper() {
+        return responseMapper;
+    }
+
     public static class Builder<I extends RemoteMessage, R> extends DspRequest.Builder<I, R, PostDspRequest<I, R>, Builder<I, R>> {
 
         public static <I extends RemoteMessage, R> Builder<I, R> newInstance(Class<I> inputClass, Class<R> resultClass) {
@@ -67,6 +81,11 @@ public class PostDspRequest<I extends RemoteMessage, R> extends DspRequest<I, R>
             return this;
         }
 
+        public Builder<I, R> responseMapper(Function<R, Response> responseMapper) {
+            super.message.responseMapper = responseMapper;
+            return this;
+        }
+
         @Override
         protected Builder<I, R> self() {
             return this;
@@ -25,5 +25,6 @@ public interface DspCatalogPropertyAndTypeNames {
 
     String DSPACE_TYPE_CATALOG_ERROR = DSPACE_SCHEMA + "CatalogError";
     String DSPACE_PROPERTY_FILTER = DSPACE_SCHEMA + "filter";
+    String DSPACE_PROPERTY_NEXT_PAGE = DSPACE_SCHEMA + "nextPage";
 
 }
@@ -53,6 +53,9 @@ public interface ApiCoreSchema {
             int limit,
             SortOrder sortOrder,
             String sortField,
+            @Schema(description = "Cursor for keyset pagination, can not be combined with an offset. An empty value requests the first page, " +
+                    "the cursor of the following page is returned in the Edc-Next-Cursor response header")
+            String cursor,
             List<CriterionSchema> filterExpression
     ) {
         public static final String QUERY_SPEC_EXAMPLE = """
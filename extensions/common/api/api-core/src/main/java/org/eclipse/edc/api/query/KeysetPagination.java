@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.api.query;
+
+import jakarta.ws.rs.core.Response;
+import org.eclipse.edc.spi.entity.Entity;
+import org.eclipse.edc.spi.query.PageCursor;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.util.reflection.PropertyPath;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Support for keyset pagination in query endpoints: when the {@link QuerySpec} contains a cursor and the page is full,
+ * the cursor of the next page is returned in the {@link #NEXT_CURSOR_HEADER} response header.
+ */
+public final class KeysetPagination {
+
+    public static final String NEXT_CURSOR_HEADER = "Edc-Next-Cursor";
+
+    private KeysetPagination() {
+    }
+
+    /**
+     * Creates a successful response with the given body, adding the cursor of the next page if needed.
+     *
+     * @param body      the response body.
+     * @param querySpec the query.
+     * @param page      the entities returned by the query.
+     * @param position  function that returns the position of an entity, see {@link #bySortField(QuerySpec)} and
+     *                  {@link #byId()}.
+     * @return the response.
+     */
+    public static <T> Response response(Object body, QuerySpec querySpec, List<T> page, Function<T, PageCursor> position) {
+        var response = Response.ok(body);
+        if (querySpec.isKeysetPagination() && !page.isEmpty() && page.size() >= querySpec.getLimit()) {
+            response.header(NEXT_CURSOR_HEADER, position.apply(page.get(page.size() - 1)).encode());
+        }
+        return response.build();
+    }
+
+    /**
+     * Position of entities in a query that is sorted by the sort field of the {@link QuerySpec} and by id.
+     */
+    public static <T extends Entity> Function<T, PageCursor> bySortField(QuerySpec querySpec) {
+        if (querySpec.getSortField() == null) {
+            return byId();
+        }
+        var path = PropertyPath.parse(querySpec.getSortField());
+        return entity -> PageCursor.of(path.getValue(entity), entity.getId());
+    }
+
+    /**
+     * Position of entities in a query that is sorted by id only.
+     */
+    public static <T extends Entity> Function<T, PageCursor> byId() {
+        return entity -> PageCursor.of(null, entity.getId());
+    }
+}
@@ -15,7 +15,6 @@
 package org.eclipse.edc.connector.api.management.configuration.transform;
 
 import org.eclipse.edc.core.transform.TypeTransformerRegistryImpl;
-import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.transform.spi.TypeTransformer;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.jetbrains.annotations.NotNull;
@@ -31,10 +30,7 @@ public class ManagementApiTypeTransformerRegistryImpl extends TypeTransformerReg
 
     @Override
     public @NotNull <INPUT, OUTPUT> TypeTransformer<INPUT, OUTPUT> transformerFor(@NotNull INPUT input, @NotNull Class<OUTPUT> outputType) {
-        try {
-            return super.transformerFor(input, outputType);
-        } catch (EdcException exception) {
-            return fallback.transformerFor(input, outputType);
-        }
+        return findTransformer(input, outputType)
+                .orElseGet(() -> fallback.transformerFor(input, outputType));
     }
 }
@@ -0,0 +1,274 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.jsonld;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import org.eclipse.edc.jsonld.PrefixContext.UnsupportedStructureException;
+import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.spi.result.Result;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static jakarta.json.Json.createArrayBuilder;
+import static jakarta.json.Json.createObjectBuilder;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.CONTEXT;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.VALUE;
+import static org.eclipse.edc.spi.CoreConstants.EDC_NAMESPACE;
+
+/**
+ * {@link JsonLd} decorator that expands and compacts documents whose context only defines prefixes, like the DSP
+ * messages exchanged between connectors, with the precomputed term mappings of a {@link PrefixContext} instead of
+ * running the full JSON-LD algorithms. Any other document is handed to the delegate, usually a {@link TitaniumJsonLd}.
+ * <p>
+ * The fast path covers node objects with {@code @id}, {@code @type}, properties with plain values, value objects that
+ * only have a {@code @value}, nested node objects and arrays of them. Remote contexts, nested contexts, lists,
+ * language-tagged or typed values, blank node identifiers and the other keywords fall back to the delegate. Compaction
+ * takes the fast path only for scopes that have no registered context URLs.
+ */
+public class FastPathJsonLd implements JsonLd {
+
+    private final JsonLd delegate;
+    private final Map<String, Map<String, String>> scopedNamespaces = new HashMap<>();
+    private final Map<String, Set<String>> scopedContexts = new HashMap<>();
+    private final Map<String, Optional<ScopeContext>> scopeContexts = new ConcurrentHashMap<>();
+
+    public FastPathJsonLd(JsonLd delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Result<JsonObject> expand(JsonObject json) {
+        if (json.get(CONTEXT) instanceof JsonObject contextObject) {
+            var context = PrefixContext.of(contextObject, EDC_NAMESPACE);
+            if (context != null) {
+                try {
+                    return Result.success(expandNode(json, context, true));
+                } catch (UnsupportedStructureException e) {
+                    // fall back to the full expansion
+                }
+            }
+        }
+        return delegate.expand(json);
+    }
+
+    @Override
+    public Result<JsonObject> compact(JsonObject json, String scope) {
+        var scopeContext = scopeContexts.computeIfAbsent(scope, this::createScopeContext);
+        if (scopeContext.isPresent() && !json.containsKey(CONTEXT)) {
+            try {
+                // input documents are not necessarily in expanded form, so they are expanded again like the full compaction does
+                var expanded = expandNode(json, PrefixContext.EMPTY, true);
+                var compacted = compactNode(expanded, scopeContext.get().context(), createObjectBuilder().add(CONTEXT, scopeContext.get().json()));
+                return Result.success(compacted);
+            } catch (UnsupportedStructureException e) {
+                // fall back to the full compaction
+            }
+        }
+        return delegate.compact(json, scope);
+    }
+
+    @Override
+    public void registerNamespace(String prefix, String contextIri, String scope) {
+        scopedNamespaces.computeIfAbsent(scope, k -> new LinkedHashMap<>()).put(prefix, contextIri);
+        scopeContexts.clear();
+        delegate.registerNamespace(prefix, contextIri, scope);
+    }
+
+    @Override
+    public void registerContext(String contextIri, String scope) {
+        scopedContexts.computeIfAbsent(scope, k -> new LinkedHashSet<>()).add(contextIri);
+        scopeContexts.clear();
+        delegate.registerContext(contextIri, scope);
+    }
+
+    @Override
+    public void registerCachedDocument(String url, URI uri) {
+        delegate.registerCachedDocument(url, uri);
+    }
+
+    private JsonObject expandNode(JsonObject node, PrefixContext context, boolean topLevel) {
+        var builder = createObjectBuilder();
+        var properties = new HashSet<String>();
+        for (var entry : node.entrySet()) {
+            var key = entry.getKey();
+            var value = entry.getValue();
+            switch (key) {
+                case CONTEXT -> {
+                    if (!topLevel) {
+                        throw UnsupportedStructureException.INSTANCE;
+                    }
+                }
+                case ID -> builder.add(ID, context.expandIri(string(value), false));
+                case TYPE -> builder.add(TYPE, expandTypes(value, context));
+                default -> {
+                    var property = context.expandIri(key, true);
+                    if (!properties.add(property)) {
+                        throw UnsupportedStructureException.INSTANCE;
+                    }
+                    if (value.getValueType() != JsonValue.ValueType.NULL) {
+                        builder.add(property, expandValues(value, context));
+                    }
+                }
+            }
+        }
+
+        var expanded = builder.build();
+        // empty nodes and, at top level, nodes that only have an @id are dropped by the full expansion
+        if (expanded.isEmpty() || topLevel && expanded.size() == 1 && expanded.containsKey(ID)) {
+            throw UnsupportedStructureException.INSTANCE;
+        }
+        return expanded;
+    }
+
+    private JsonArray expandTypes(JsonValue value, PrefixContext context) {
+        var builder = createArrayBuilder();
+        if (value instanceof JsonArray array) {
+            if (array.isEmpty()) {
+                throw UnsupportedStructureException.INSTANCE;
+            }
+            array.forEach(type -> builder.add(context.expandIri(string(type), true)));
+        } else {
+            builder.add(context.expandIri(string(value), true));
+        }
+        return builder.build();
+    }
+
+    private JsonArray expandValues(JsonValue value, PrefixContext context) {
+        var builder = createArrayBuilder();
+        if (value instanceof JsonArray array) {
+            for (var item : array) {
+                if (item.getValueType() == JsonValue.ValueType.ARRAY) {
+                    throw UnsupportedStructureException.INSTANCE;
+                }
+                builder.add(expandValue(item, context));
+            }
+        } else {
+            builder.add(expandValue(value, context));
+        }
+        return builder.build();
+    }
+
+    private JsonObject expandValue(JsonValue value, PrefixContext context) {
+        return switch (value.getValueType()) {
+            case STRING, NUMBER, TRUE, FALSE -> createObjectBuilder().add(VALUE, value).build();
+            case OBJECT -> {
+                var object = value.asJsonObject();
+                if (object.containsKey(VALUE)) {
+                    if (object.size() != 1 || !isScalar(object.get(VALUE))) {
+                        throw UnsupportedStructureException.INSTANCE;
+                    }
+                    yield object;
+                }
+                yield expandNode(object, context, false);
+            }
+            default -> throw UnsupportedStructureException.INSTANCE;
+        };
+    }
+
+    private JsonObject compactNode(JsonObject node, PrefixContext context, JsonObjectBuilder builder) {
+        var keys = new HashSet<String>();
+        for (var entry : node.entrySet()) {
+            var key = entry.getKey();
+            var value = entry.getValue();
+            switch (key) {
+                case ID -> builder.add(ID, context.compactIri(string(value), false));
+                case TYPE -> {
+                    var types = value.asJsonArray();
+                    if (types.size() == 1) {
+                        builder.add(TYPE, context.compactIri(string(types.get(0)), true));
+                    } else {
+                        var typesBuilder = createArrayBuilder();
+                        types.forEach(type -> typesBuilder.add(context.compactIri(string(type), true)));
+                        builder.add(TYPE, typesBuilder);
+                    }
+                }
+                default -> {
+                    var property = context.compactIri(key, true);
+                    if (!keys.add(property)) {
+                        throw UnsupportedStructureException.INSTANCE;
+                    }
+                    var values = value.asJsonArray();
+                    if (values.size() == 1) {
+                        builder.add(property, compactValue(values.get(0), context));
+                    } else {
+                        var valuesBuilder = createArrayBuilder();
+                        values.forEach(item -> valuesBuilder.add(compactValue(item, context)));
+                        builder.add(property, valuesBuilder);
+                    }
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    private JsonValue compactValue(JsonValue value, PrefixContext context) {
+        var object = value.asJsonObject();
+        if (object.containsKey(VALUE)) {
+            return object.get(VALUE);
+        }
+        return compactNode(object, context, createObjectBuilder());
+    }
+
+    private Optional<ScopeContext> createScopeContext(String scope) {
+        if (!scopedContexts.getOrDefault(DEFAULT_SCOPE, Set.of()).isEmpty() || !scopedContexts.getOrDefault(scope, Set.of()).isEmpty()) {
+            return Optional.empty();
+        }
+        // same precedence as the context built by the TitaniumJsonLd: the namespaces of the scope override the default ones
+        var namespaces = new LinkedHashMap<String, String>();
+        namespaces.putAll(scopedNamespaces.getOrDefault(DEFAULT_SCOPE, Map.of()));
+        namespaces.putAll(scopedNamespaces.getOrDefault(scope, Map.of()));
+        var context = namespaces.isEmpty() ? null : PrefixContext.of(namespaces);
+        if (context == null) {
+            return Optional.empty();
+        }
+        var json = createObjectBuilder();
+        namespaces.forEach(json::add);
+        return Optional.of(new ScopeContext(context, json.build()));
+    }
+
+    private static String string(JsonValue value) {
+        if (value instanceof JsonString string) {
+            return string.getString();
+        }
+        throw UnsupportedStructureException.INSTANCE;
+    }
+
+    private static boolean isScalar(JsonValue value) {
+        return switch (value.getValueType()) {
+            case STRING, NUMBER, TRUE, FALSE -> true;
+            default -> false;
+        };
+    }
+
+    /**
+     * The prefix context of a compaction scope, and the {@code @context} object that is added to the compacted documents.
+     */
+    private record ScopeContext(PrefixContext context, JsonObject json) {
+    }
+}
@@ -62,6 +62,9 @@ public class JsonLdExtension implements ServiceExtension {
     private static final String DEFAULT_AVOID_VOCAB_CONTEXT = "false";
     @Setting(value = "If true disable the @vocab context definition. This could be used to avoid api breaking changes", type = "boolean", defaultValue = DEFAULT_AVOID_VOCAB_CONTEXT)
     private static final String AVOID_VOCAB_CONTEXT = "edc.jsonld.vocab.disable";
+    private static final boolean DEFAULT_FAST_PATH = false;
+    @Setting(value = "If true, documents whose context only defines prefixes, like DSP messages, are expanded and compacted without the full JSON-LD processor", type = "boolean", defaultValue = DEFAULT_FAST_PATH + "")
+    private static final String FAST_PATH_SETTING = "edc.jsonld.fastpath.enabled";
     @Inject
     private TypeManager typeManager;
 
@@ -83,7 +86,8 @@ public class JsonLdExtension implements ServiceExtension {
                 .httpsEnabled(config.getBoolean(HTTPS_ENABLE_SETTING, DEFAULT_HTTP_HTTPS_RESOLUTION))
                 .build();
         var monitor = context.getMonitor();
-        var service = new TitaniumJsonLd(monitor, configuration);
+        var titaniumJsonLd = new TitaniumJsonLd(monitor, configuration);
+        JsonLd service = config.getBoolean(FAST_PATH_SETTING, DEFAULT_FAST_PATH) ? new FastPathJsonLd(titaniumJsonLd) : titaniumJsonLd;
         if (!config.getBoolean(AVOID_VOCAB_CONTEXT, Boolean.valueOf(DEFAULT_AVOID_VOCAB_CONTEXT))) {
             service.registerNamespace(VOCAB, EDC_NAMESPACE);
         }
@@ -98,7 +102,7 @@ public class JsonLdExtension implements ServiceExtension {
         return service;
     }
 
-    private void registerCachedDocumentsFromConfig(ServiceExtensionContext context, TitaniumJsonLd service) {
+    private void registerCachedDocumentsFromConfig(ServiceExtensionContext context, JsonLd service) {
         context.getConfig()
                 .getConfig(EDC_JSONLD_DOCUMENT_PREFIX)
                 .partition()
@@ -0,0 +1,216 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.jsonld;
+
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.VOCAB;
+
+/**
+ * JSON-LD context that only defines prefixes (simple terms mapped to namespace IRIs) and optionally a vocabulary
+ * mapping, e.g. {@code {"@vocab": "https://w3id.org/edc/v0.0.1/ns/", "dspace": "https://w3id.org/dspace/v0.8/"}}.
+ * For such a context the IRI expansion and compaction rules of the JSON-LD algorithms reduce to string operations on
+ * the term mappings, see {@link #expandIri(String, boolean)} and {@link #compactIri(String, boolean)}.
+ * <p>
+ * IRIs that would need the parts of the algorithms that are not implemented here make the methods throw
+ * {@link UnsupportedStructureException}, so that the caller can fall back to the full JSON-LD processor.
+ */
+class PrefixContext {
+
+    /**
+     * The context used to re-expand documents that are already expanded: it has no terms and no vocabulary mapping.
+     */
+    static final PrefixContext EMPTY = new PrefixContext(Map.of(), null);
+
+    private static final Pattern SCHEME = Pattern.compile("[A-Za-z][A-Za-z0-9+.-]*");
+    private static final String GEN_DELIMS = ":/?#[]@";
+
+    private final Map<String, String> terms;
+    private final String vocab;
+
+    private PrefixContext(Map<String, String> terms, @Nullable String vocab) {
+        this.terms = terms;
+        this.vocab = vocab;
+    }
+
+    /**
+     * Creates the context out of an inline {@code @context} object.
+     *
+     * @param context      the context object.
+     * @param defaultVocab the vocabulary mapping to use if the context does not define one.
+     * @return the context, null if the object defines anything but prefixes and a vocabulary mapping.
+     */
+    @Nullable
+    static PrefixContext of(JsonObject context, String defaultVocab) {
+        var definitions = new HashMap<String, String>();
+        for (var entry : context.entrySet()) {
+            if (!(entry.getValue() instanceof JsonString value)) {
+                return null;
+            }
+            definitions.put(entry.getKey(), value.getString());
+        }
+        definitions.putIfAbsent(VOCAB, defaultVocab);
+        return of(definitions);
+    }
+
+    /**
+     * Creates the context out of the registered namespaces.
+     *
+     * @param namespaces the namespace IRIs by prefix, {@code @vocab} defines the vocabulary mapping.
+     * @return the context, null if the namespaces are not all valid prefix definitions.
+     */
+    @Nullable
+    static PrefixContext of(Map<String, String> namespaces) {
+        var terms = new HashMap<String, String>();
+        String vocab = null;
+        for (var entry : namespaces.entrySet()) {
+            var term = entry.getKey();
+            var iri = entry.getValue();
+            if (!isAbsoluteIri(iri)) {
+                return null;
+            }
+            if (VOCAB.equals(term)) {
+                vocab = iri;
+            } else if (isPrefix(term, iri)) {
+                terms.put(term, iri);
+            } else {
+                return null;
+            }
+        }
+        return new PrefixContext(Map.copyOf(terms), vocab);
+    }
+
+    /**
+     * Expands a property name or {@code @type} value ({@code vocab = true}), or an {@code @id} value
+     * ({@code vocab = false}). Since documents are expanded without base IRI, relative {@code @id} values are
+     * kept as they are.
+     */
+    String expandIri(String value, boolean vocab) {
+        if (value.isEmpty() || value.startsWith("@")) {
+            throw UnsupportedStructureException.INSTANCE;
+        }
+        if (vocab) {
+            var iri = terms.get(value);
+            if (iri != null) {
+                return iri;
+            }
+        }
+
+        var colon = value.indexOf(':');
+        if (colon == 0) {
+            throw UnsupportedStructureException.INSTANCE;
+        }
+        if (colon > 0) {
+            var prefix = value.substring(0, colon);
+            var suffix = value.substring(colon + 1);
+            if ("_".equals(prefix)) {
+                throw UnsupportedStructureException.INSTANCE;
+            }
+            if (!suffix.startsWith("//")) {
+                var namespace = terms.get(prefix);
+                if (namespace != null) {
+                    return namespace + suffix;
+                }
+            }
+            if (!SCHEME.matcher(prefix).matches()) {
+                throw UnsupportedStructureException.INSTANCE;
+            }
+            return value;
+        }
+
+        if (vocab) {
+            if (this.vocab == null) {
+                throw UnsupportedStructureException.INSTANCE;
+            }
+            return this.vocab + value;
+        }
+        return value;
+    }
+
+    /**
+     * Compacts an expanded property name or {@code @type} value ({@code vocab = true}), or an {@code @id} value
+     * ({@code vocab = false}): a suffix of the vocabulary mapping is preferred over the shortest compact IRI.
+     */
+    String compactIri(String iri, boolean vocab) {
+        if (vocab) {
+            if (terms.containsValue(iri)) {
+                // would need the term selection of the full algorithm
+                throw UnsupportedStructureException.INSTANCE;
+            }
+            if (this.vocab != null && iri.length() > this.vocab.length() && iri.startsWith(this.vocab)) {
+                var suffix = iri.substring(this.vocab.length());
+                if (suffix.indexOf(':') >= 0 || suffix.startsWith("@")) {
+                    throw UnsupportedStructureException.INSTANCE;
+                }
+                if (!terms.containsKey(suffix)) {
+                    return suffix;
+                }
+            }
+        }
+
+        String compactIri = null;
+        for (var entry : terms.entrySet()) {
+            var namespace = entry.getValue();
+            if (iri.length() > namespace.length() && iri.startsWith(namespace)) {
+                var candidate = entry.getKey() + ":" + iri.substring(namespace.length());
+                if (compactIri == null || candidate.length() < compactIri.length() ||
+                        (candidate.length() == compactIri.length() && candidate.compareTo(compactIri) < 0)) {
+                    compactIri = candidate;
+                }
+            }
+        }
+        if (compactIri != null) {
+            return compactIri;
+        }
+
+        var colon = iri.indexOf(':');
+        if (colon > 0 && terms.containsKey(iri.substring(0, colon)) && !iri.startsWith("//", colon + 1)) {
+            // the IRI would be confused with a compact IRI
+            throw UnsupportedStructureException.INSTANCE;
+        }
+        return iri;
+    }
+
+    private static boolean isAbsoluteIri(String iri) {
+        var colon = iri.indexOf(':');
+        return colon > 0 && SCHEME.matcher(iri.substring(0, colon)).matches();
+    }
+
+    /**
+     * A term can be used as prefix if it is a simple term whose IRI ends with a generic delimiter.
+     */
+    private static boolean isPrefix(String term, String iri) {
+        return !term.isEmpty() && !term.startsWith("@") && term.indexOf(':') < 0 && term.indexOf('/') < 0 &&
+                GEN_DELIMS.indexOf(iri.charAt(iri.length() - 1)) >= 0;
+    }
+
+    /**
+     * Thrown when a document or an IRI cannot be processed with a prefix context.
+     */
+    static final class UnsupportedStructureException extends RuntimeException {
+
+        static final UnsupportedStructureException INSTANCE = new UnsupportedStructureException();
+
+        private UnsupportedStructureException() {
+            super("Unsupported JSON-LD structure", null, false, false);
+        }
+    }
+}
@@ -36,15 +36,14 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static jakarta.json.Json.createArrayBuilder;
 import static jakarta.json.Json.createBuilderFactory;
 import static jakarta.json.Json.createObjectBuilder;
-import static java.util.Optional.ofNullable;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.CONTEXT;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.VOCAB;
 import static org.eclipse.edc.spi.CoreConstants.EDC_NAMESPACE;
@@ -60,6 +59,7 @@ public class TitaniumJsonLd implements JsonLd {
     private final Monitor monitor;
     private final Map<String, Map<String, String>> scopedNamespaces = new HashMap<>();
     private final Map<String, Set<String>> scopedContexts = new HashMap<>();
+    private final Map<String, JsonDocument> contextDocuments = new ConcurrentHashMap<>();
     private final CachedDocumentLoader documentLoader;
 
     public TitaniumJsonLd(Monitor monitor) {
@@ -92,10 +92,7 @@ public class TitaniumJsonLd implements JsonLd {
     public Result<JsonObject> compact(JsonObject json, String scope) {
         try {
             var document = JsonDocument.of(json);
-            var jsonFactory = createBuilderFactory(Map.of());
-            var contextDocument = JsonDocument.of(jsonFactory.createObjectBuilder()
-                    .add(CONTEXT, createContext(scope))
-                    .build());
+            var contextDocument = contextDocuments.computeIfAbsent(scope, this::createContextDocument);
             var compacted = com.apicatalog.jsonld.JsonLd.compact(document, contextDocument)
                     .options(new JsonLdOptions(documentLoader))
                     .get();
@@ -110,12 +107,14 @@ public class TitaniumJsonLd implements JsonLd {
     public void registerNamespace(String prefix, String contextIri, String scope) {
         var namespaces = scopedNamespaces.computeIfAbsent(scope, k -> new LinkedHashMap<>());
         namespaces.put(prefix, contextIri);
+        contextDocuments.clear();
     }
 
     @Override
     public void registerContext(String contextIri, String scope) {
         var contexts = scopedContexts.computeIfAbsent(scope, k -> new LinkedHashSet<>());
         contexts.add(contextIri);
+        contextDocuments.clear();
     }
 
     @Override
@@ -124,20 +123,24 @@ public class TitaniumJsonLd implements JsonLd {
     }
 
     private JsonObject injectVocab(JsonObject json) {
-        var jsonObjectBuilder = createObjectBuilder(json);
-
         //only inject the vocab if the @context is an object, not a URL
-        if (json.get(CONTEXT) instanceof JsonObject) {
-            var contextObject = ofNullable(json.getJsonObject(CONTEXT)).orElseGet(() -> createObjectBuilder().build());
-            var contextBuilder = createObjectBuilder(contextObject);
-            if (!contextObject.containsKey(VOCAB)) {
-                var newContextObject = contextBuilder
-                        .add(VOCAB, EDC_NAMESPACE)
-                        .build();
-                jsonObjectBuilder.add(CONTEXT, newContextObject);
-            }
+        if (json.get(CONTEXT) instanceof JsonObject contextObject && !contextObject.containsKey(VOCAB)) {
+            var newContextObject = createObjectBuilder(contextObject)
+                    .add(VOCAB, EDC_NAMESPACE)
+                    .build();
+            return createObjectBuilder(json).add(CONTEXT, newContextObject).build();
         }
-        return jsonObjectBuilder.build();
+        return json;
+    }
+
+    /**
+     * Creates the document holding the compaction context of a scope. Documents are cached by scope until another
+     * namespace or context gets registered.
+     */
+    private JsonDocument createContextDocument(String scope) {
+        return JsonDocument.of(createBuilderFactory(Map.of()).createObjectBuilder()
+                .add(CONTEXT, createContext(scope))
+                .build());
     }
 
     private JsonValue createContext(String scope) {
@@ -175,9 +178,14 @@ public class TitaniumJsonLd implements JsonLd {
         return scopedContexts.getOrDefault(scope, EMPTY_CONTEXTS).stream();
     }
 
+    /**
+     * Resolves the registered context URLs to their cached documents. Registered documents are static, so they are
+     * loaded and parsed only once and kept in memory.
+     */
     private static class CachedDocumentLoader implements DocumentLoader {
 
-        private final Map<String, URI> cache = new HashMap<>();
+        private final Map<String, URI> cache = new ConcurrentHashMap<>();
+        private final Map<String, Document> documents = new ConcurrentHashMap<>();
         private final DocumentLoader loader;
 
         CachedDocumentLoader(JsonLdConfiguration configuration) {
@@ -190,15 +198,23 @@ public class TitaniumJsonLd implements JsonLd {
 
         @Override
         public Document loadDocument(URI url, DocumentLoaderOptions options) throws JsonLdError {
-            var uri = Optional.of(url.toString())
-                    .map(cache::get)
-                    .orElse(url);
+            var contextUrl = url.toString();
+            var uri = cache.get(contextUrl);
+            if (uri == null) {
+                return loader.loadDocument(url, options);
+            }
 
-            return loader.loadDocument(uri, options);
+            var document = documents.get(contextUrl);
+            if (document == null) {
+                document = loader.loadDocument(uri, options);
+                documents.put(contextUrl, document);
+            }
+            return document;
         }
 
         public void register(String contextUrl, URI uri) {
             cache.put(contextUrl, uri);
+            documents.remove(contextUrl);
         }
 
     }
@@ -0,0 +1,278 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.jsonld;
+
+import jakarta.json.JsonObject;
+import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.util.stream.Stream;
+
+import static jakarta.json.Json.createArrayBuilder;
+import static jakarta.json.Json.createObjectBuilder;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.CONTEXT;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.LANGUAGE;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.LIST;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.VALUE;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.VOCAB;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DCAT_PREFIX;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DCAT_SCHEMA;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DCT_PREFIX;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DCT_SCHEMA;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DSPACE_PREFIX;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DSPACE_SCHEMA;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.eclipse.edc.spi.CoreConstants.EDC_NAMESPACE;
+import static org.eclipse.edc.spi.CoreConstants.EDC_PREFIX;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class FastPathJsonLdTest {
+
+    private static final String DSP_SCOPE = "DSP";
+    private static final String ODRL_PREFIX = "odrl";
+    private static final String ODRL_SCHEMA = "http://www.w3.org/ns/odrl/2/";
+
+    private final TitaniumJsonLd titaniumJsonLd = new TitaniumJsonLd(mock());
+    private final FastPathJsonLd fastPathJsonLd = new FastPathJsonLd(new TitaniumJsonLd(mock()));
+
+    @BeforeEach
+    void setUp() {
+        Stream.of(titaniumJsonLd, fastPathJsonLd).forEach(FastPathJsonLdTest::registerNamespaces);
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(Messages.class)
+    void expand_shouldBeEquivalentToTitanium(JsonObject message) {
+        var expected = titaniumJsonLd.expand(message);
+
+        var expanded = fastPathJsonLd.expand(message);
+
+        assertThat(expanded).isSucceeded().isEqualTo(expected.getContent());
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(Messages.class)
+    void compact_shouldBeEquivalentToTitanium(JsonObject message) {
+        var expanded = titaniumJsonLd.expand(message).getContent();
+
+        assertThat(fastPathJsonLd.compact(expanded, DSP_SCOPE)).isSucceeded().isEqualTo(titaniumJsonLd.compact(expanded, DSP_SCOPE).getContent());
+        assertThat(fastPathJsonLd.compact(expanded)).isSucceeded().isEqualTo(titaniumJsonLd.compact(expanded).getContent());
+    }
+
+    @Test
+    void compact_shouldBeEquivalentToTitanium_whenInputIsNotInExpandedForm() {
+        var json = createObjectBuilder()
+                .add(ID, "asset-id")
+                .add(TYPE, EDC_NAMESPACE + "Asset")
+                .add(EDC_NAMESPACE + "properties", createObjectBuilder()
+                        .add(EDC_NAMESPACE + "name", "name")
+                        .add(EDC_NAMESPACE + "size", 1024)
+                        .add(EDC_NAMESPACE + "public", true)
+                        .add(EDC_NAMESPACE + "tags", createArrayBuilder().add("tag1").add("tag2")))
+                .add(DCT_SCHEMA + "format", createObjectBuilder().add(VALUE, "HttpData-PUSH"))
+                .build();
+
+        assertThat(fastPathJsonLd.compact(json, DSP_SCOPE)).isSucceeded().isEqualTo(titaniumJsonLd.compact(json, DSP_SCOPE).getContent());
+    }
+
+    @Test
+    void expand_shouldNotUseDelegate_whenContextOnlyDefinesPrefixes() {
+        var delegate = mock(JsonLd.class);
+        var jsonLd = new FastPathJsonLd(delegate);
+
+        var expanded = jsonLd.expand(contractRequestMessage());
+
+        assertThat(expanded).isSucceeded();
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    void expand_shouldUseDelegate_whenContextIsRemote() {
+        var delegate = mock(JsonLd.class);
+        when(delegate.expand(any())).thenReturn(Result.success(createObjectBuilder().build()));
+        var jsonLd = new FastPathJsonLd(delegate);
+        var message = createObjectBuilder()
+                .add(CONTEXT, "https://w3id.org/dspace/v0.8/context.json")
+                .add(TYPE, "dspace:CatalogRequestMessage")
+                .build();
+
+        jsonLd.expand(message);
+
+        verify(delegate).expand(message);
+    }
+
+    @Test
+    void compact_shouldUseDelegate_whenScopeHasContexts() {
+        var delegate = mock(JsonLd.class);
+        when(delegate.compact(any(), anyString())).thenReturn(Result.success(createObjectBuilder().build()));
+        var jsonLd = new FastPathJsonLd(delegate);
+        registerNamespaces(jsonLd);
+        jsonLd.registerContext("https://w3id.org/dspace/v0.8/context.json", DSP_SCOPE);
+        var expanded = titaniumJsonLd.expand(contractRequestMessage()).getContent();
+
+        jsonLd.compact(expanded, DSP_SCOPE);
+
+        verify(delegate).compact(expanded, DSP_SCOPE);
+    }
+
+    private static void registerNamespaces(JsonLd jsonLd) {
+        jsonLd.registerNamespace(VOCAB, EDC_NAMESPACE);
+        jsonLd.registerNamespace(EDC_PREFIX, EDC_NAMESPACE);
+        jsonLd.registerNamespace(DCAT_PREFIX, DCAT_SCHEMA, DSP_SCOPE);
+        jsonLd.registerNamespace(DCT_PREFIX, DCT_SCHEMA, DSP_SCOPE);
+        jsonLd.registerNamespace(ODRL_PREFIX, ODRL_SCHEMA, DSP_SCOPE);
+        jsonLd.registerNamespace(DSPACE_PREFIX, DSPACE_SCHEMA, DSP_SCOPE);
+    }
+
+    private static JsonObject dspContext() {
+        return createObjectBuilder()
+                .add(VOCAB, EDC_NAMESPACE)
+                .add(EDC_PREFIX, EDC_NAMESPACE)
+                .add(DCAT_PREFIX, DCAT_SCHEMA)
+                .add(DCT_PREFIX, DCT_SCHEMA)
+                .add(ODRL_PREFIX, ODRL_SCHEMA)
+                .add(DSPACE_PREFIX, DSPACE_SCHEMA)
+                .build();
+    }
+
+    private static JsonObject contractRequestMessage() {
+        return createObjectBuilder()
+                .add(CONTEXT, dspContext())
+                .add(ID, "urn:uuid:2d6c7e6a-4cd4-4b3a-9f5e-6a5c0f4a8f1e")
+                .add(TYPE, "dspace:ContractRequestMessage")
+                .add("dspace:consumerPid", "consumer-pid")
+                .add("dspace:callbackAddress", "http://consumer/protocol")
+                .add("dspace:offer", createObjectBuilder()
+                        .add(ID, "offer-id")
+                        .add(TYPE, "odrl:Offer")
+                        .add("odrl:permission", createArrayBuilder().add(createObjectBuilder()
+                                .add("odrl:action", createObjectBuilder().add(ID, "odrl:use"))
+                                .add("odrl:constraint", createObjectBuilder()
+                                        .add("odrl:leftOperand", "edc:inForceDate")
+                                        .add("odrl:operator", createObjectBuilder().add(ID, "odrl:gteq"))
+                                        .add("odrl:rightOperand", "2023-01-01T00:00:00Z"))))
+                        .add("odrl:prohibition", createArrayBuilder())
+                        .add("odrl:obligation", createArrayBuilder())
+                        .add("odrl:target", createObjectBuilder().add(ID, "asset-id")))
+                .build();
+    }
+
+    private static class Messages implements ArgumentsProvider {
+
+        @Override
+        public Stream<? extends Arguments> provideArguments(ExtensionContext context) {
+            var transferRequestMessage = createObjectBuilder()
+                    .add(CONTEXT, dspContext())
+                    .add(ID, "transfer-request-id")
+                    .add(TYPE, "dspace:TransferRequestMessage")
+                    .add("dspace:agreementId", "agreement-id")
+                    .add("dct:format", "HttpData-PULL")
+                    .add("dspace:callbackAddress", "http://consumer/protocol")
+                    .add("dspace:dataAddress", createObjectBuilder()
+                            .add(TYPE, "dspace:DataAddress")
+                            .add("dspace:endpointType", "https://w3id.org/idsa/v4.1/HTTP")
+                            .add("dspace:endpoint", "http://consumer/data"))
+                    .build();
+
+            var catalogRequestMessage = createObjectBuilder()
+                    .add(CONTEXT, createObjectBuilder().add(DSPACE_PREFIX, DSPACE_SCHEMA))
+                    .add(TYPE, "dspace:CatalogRequestMessage")
+                    .add("dspace:filter", createObjectBuilder()
+                            .add(TYPE, "QuerySpec")
+                            .add("offset", 0)
+                            .add("limit", 50)
+                            .add("filterExpression", createArrayBuilder().add(createObjectBuilder()
+                                    .add("operandLeft", "id")
+                                    .add("operator", "=")
+                                    .add("operandRight", "asset-id"))))
+                    .build();
+
+            var catalog = createObjectBuilder()
+                    .add(CONTEXT, dspContext())
+                    .add(ID, "catalog-id")
+                    .add(TYPE, "dcat:Catalog")
+                    .add("dcat:dataset", createArrayBuilder()
+                            .add(dataset("dataset-1"))
+                            .add(dataset("dataset-2")))
+                    .add("dcat:service", createObjectBuilder()
+                            .add(ID, "service-id")
+                            .add(TYPE, "dcat:DataService")
+                            .add("dct:terms", "connector")
+                            .add("dct:endpointUrl", "http://provider/protocol"))
+                    .add("dspace:participantId", "provider")
+                    .build();
+
+            var querySpec = createObjectBuilder()
+                    .add(CONTEXT, createObjectBuilder().add(VOCAB, EDC_NAMESPACE))
+                    .add(TYPE, "QuerySpec")
+                    .add("offset", 5)
+                    .add("limit", 10)
+                    .add("sortOrder", "DESC")
+                    .add("sortField", "createdAt")
+                    .add("filterExpression", createArrayBuilder())
+                    .build();
+
+            var withList = createObjectBuilder()
+                    .add(CONTEXT, dspContext())
+                    .add(TYPE, "dspace:CatalogRequestMessage")
+                    .add("dspace:items", createObjectBuilder().add(LIST, createArrayBuilder().add("a").add("b")))
+                    .build();
+
+            var withLanguage = createObjectBuilder()
+                    .add(CONTEXT, dspContext())
+                    .add(TYPE, "dcat:Dataset")
+                    .add("dct:description", createObjectBuilder().add(VALUE, "description").add(LANGUAGE, "en"))
+                    .build();
+
+            return Stream.of(contractRequestMessage(), transferRequestMessage, catalogRequestMessage, catalog, querySpec,
+                    withList, withLanguage).map(Arguments::of);
+        }
+
+        private JsonObject dataset(String id) {
+            return createObjectBuilder()
+                    .add(ID, id)
+                    .add(TYPE, "dcat:Dataset")
+                    .add("odrl:hasPolicy", createObjectBuilder()
+                            .add(ID, id + "-offer")
+                            .add(TYPE, "odrl:Offer")
+                            .add("odrl:permission", createArrayBuilder())
+                            .add("odrl:target", createObjectBuilder().add(ID, id)))
+                    .add("dcat:distribution", createArrayBuilder()
+                            .add(createObjectBuilder()
+                                    .add(TYPE, "dcat:Distribution")
+                                    .add("dct:format", createObjectBuilder().add(ID, "HttpData-PULL"))
+                                    .add("dcat:accessService", "service-id")))
+                    .add("name", id)
+                    .add("version", 2)
+                    .add("contenttype", "application/json")
+                    .build();
+        }
+    }
+}
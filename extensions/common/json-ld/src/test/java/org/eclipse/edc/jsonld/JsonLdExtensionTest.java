@@ -39,6 +39,15 @@ class JsonLdExtensionTest {
         assertThat(service).isNotNull();
     }
 
+    @Test
+    void createService_shouldDecorateWithFastPath_whenEnabled(ServiceExtensionContext context, JsonLdExtension extension) {
+        when(context.getConfig()).thenReturn(ConfigFactory.fromMap(Map.of("edc.jsonld.fastpath.enabled", "true")));
+
+        var service = extension.createJsonLdService(context);
+
+        assertThat(service).isInstanceOf(FastPathJsonLd.class);
+    }
+
     @Test
     void verifyCachedDocsFromConfig_oneValidEntry(ServiceExtensionContext context, JsonLdExtension extension) throws URISyntaxException {
         var config = ConfigFactory.fromMap(Map.of(
@@ -20,9 +20,13 @@ import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockserver.integration.ClientAndServer;
 
+import java.io.IOException;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 import static jakarta.json.Json.createArrayBuilder;
 import static jakarta.json.Json.createObjectBuilder;
@@ -30,10 +34,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.CONTEXT;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.VALUE;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.VOCAB;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.eclipse.edc.junit.testfixtures.TestUtils.getFileFromResourceName;
 import static org.eclipse.edc.junit.testfixtures.TestUtils.getFreePort;
 import static org.eclipse.edc.junit.testfixtures.TestUtils.getResourceFileContentAsString;
+import static org.eclipse.edc.spi.CoreConstants.EDC_NAMESPACE;
 import static org.mockito.Mockito.mock;
 import static org.mockserver.integration.ClientAndServer.startClientAndServer;
 import static org.mockserver.model.HttpRequest.request;
@@ -100,6 +106,30 @@ class TitaniumJsonLdTest {
                 .contains("@value\":\"value2\"");
     }
 
+    @Test
+    void expand_shouldInjectEdcVocab_whenContextObjectHasNoVocab() {
+        var jsonObject = createObjectBuilder()
+                .add(CONTEXT, createObjectBuilder().add("custom", "https://custom.namespace.org/schema/").build())
+                .add("key", "value")
+                .build();
+
+        var expanded = defaultService().expand(jsonObject);
+
+        assertThat(expanded).isSucceeded().satisfies(result -> assertThat(result).containsKey(EDC_NAMESPACE + "key"));
+    }
+
+    @Test
+    void expand_shouldKeepVocab_whenDefinedInContextObject() {
+        var jsonObject = createObjectBuilder()
+                .add(CONTEXT, createObjectBuilder().add(VOCAB, "https://custom.namespace.org/schema/").build())
+                .add("key", "value")
+                .build();
+
+        var expanded = defaultService().expand(jsonObject);
+
+        assertThat(expanded).isSucceeded().satisfies(result -> assertThat(result).containsKey("https://custom.namespace.org/schema/key"));
+    }
+
     @Test
     void compact() {
         var ns = "https://test.org/schema/";
@@ -141,6 +171,23 @@ class TitaniumJsonLdTest {
         });
     }
 
+    @Test
+    void compact_shouldUseRegisteredNamespace_whenRegisteredAfterCompaction() {
+        var ns = "https://test.org/schema/";
+        var prefix = "customContext";
+        var expanded = createObjectBuilder()
+                .add(ns + "key1", createArrayBuilder().add(createObjectBuilder().add(VALUE, "value1").build()).build())
+                .build();
+        var service = defaultService();
+
+        var first = service.compact(expanded);
+        service.registerNamespace(prefix, ns);
+        var second = service.compact(expanded);
+
+        assertThat(first).isSucceeded().satisfies(c -> assertThat(c.getString(ns + "key1")).isEqualTo("value1"));
+        assertThat(second).isSucceeded().satisfies(c -> assertThat(c.getString(prefix + ":key1")).isEqualTo("value1"));
+    }
+
     @Test
     void expandAndCompact_withCustomContext() {
         var context = "http://schema.org/";
@@ -255,6 +302,26 @@ class TitaniumJsonLdTest {
         });
     }
 
+    @Test
+    void documentResolution_shouldLoadRegisteredDocumentOnce(@TempDir Path tempDir) throws IOException {
+        var contextUrl = "http://localhost:" + port;
+        var jsonObject = createObjectBuilder()
+                .add(CONTEXT, contextUrl)
+                .add("test:key", "value")
+                .build();
+        var contextFile = tempDir.resolve("test-context.jsonld");
+        Files.copy(getFileFromResourceName("test-context.jsonld").toPath(), contextFile);
+        var service = defaultService();
+        service.registerCachedDocument(contextUrl, contextFile.toUri());
+
+        var first = service.expand(jsonObject);
+        Files.delete(contextFile);
+        var second = service.expand(jsonObject);
+
+        assertThat(first).isSucceeded();
+        assertThat(second).isSucceeded().isEqualTo(first.getContent());
+    }
+
     @Test
     void documentResolution_shouldFailByDefault_whenContextIsNotRegisteredAndHttpIsNotEnabled() {
         server.when(request()).respond(response(getResourceFileContentAsString("test-context.jsonld")));
@@ -40,4 +40,14 @@ public class PostgresDialect {
         return "::json";
     }
 
+    /**
+     * Returns the locking clause that locks the selected rows of a table and skips the rows already locked by other
+     * transactions ({@code FOR UPDATE OF table SKIP LOCKED}).
+     *
+     * @param tableName the table whose rows are locked.
+     */
+    public static String getSkipLockedClause(String tableName) {
+        return format("FOR UPDATE OF %s SKIP LOCKED", tableName);
+    }
+
 }
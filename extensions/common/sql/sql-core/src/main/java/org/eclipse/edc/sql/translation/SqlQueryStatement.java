@@ -15,9 +15,11 @@
 package org.eclipse.edc.sql.translation;
 
 import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.PageCursor;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -31,6 +33,10 @@ import static java.util.stream.Collectors.joining;
  * Maps a {@link QuerySpec} to a single SQL {@code SELECT ... FROM ... WHERE ...} statement. The {@code SELECT ...} part
  * is passed in through the constructor, and the rest of the query is assembled dynamically, based on the
  * {@link QuerySpec} and the {@link TranslationMapping}.
+ * <p>
+ * When the {@link QuerySpec} requests keyset pagination (see {@link PageCursor}), the results are ordered by the sort
+ * field and the id, and only the rows after the cursor are selected, so the database does not need to read and
+ * discard the rows of the previous pages.
  */
 public class SqlQueryStatement {
 
@@ -38,12 +44,15 @@ public class SqlQueryStatement {
     private static final String OFFSET = "OFFSET ?";
 
     private static final String ORDER_BY_TOKEN = "ORDER BY %s %s";
+    private static final String ORDER_BY_WITH_ID_TOKEN = "ORDER BY %s %s, %s %s";
+    private static final String ID_FIELD = "id";
 
     private final String selectStatement;
     private final List<String> whereClauses = new ArrayList<>();
     private final List<Object> parameters = new ArrayList<>();
 
     private String orderByClause = "";
+    private String lockingClause = "";
     private final int limit;
     private final int offset;
 
@@ -86,6 +95,7 @@ public class SqlQueryStatement {
                 orderByClause +
                 LIMIT +
                 OFFSET +
+                lockingClause +
                 ";";
     }
 
@@ -114,6 +124,33 @@ public class SqlQueryStatement {
         return this;
     }
 
+    /**
+     * Applies keyset pagination by id to a statement that was not created from a {@link QuerySpec} with a
+     * {@link TranslationMapping}: the results are ordered by the id column and, if the cursor is not empty, only the
+     * rows after it are selected.
+     *
+     * @param cursor   the cursor, see {@link QuerySpec#getCursor()}. If null, the statement is not changed.
+     * @param idColumn the id column.
+     * @return self.
+     */
+    public SqlQueryStatement withKeyset(@Nullable String cursor, String idColumn) {
+        if (cursor != null) {
+            applyKeyset(cursor.isEmpty() ? null : PageCursor.decode(cursor), null, SortOrder.ASC, idColumn);
+        }
+        return this;
+    }
+
+    /**
+     * Set a locking clause that is appended at the end of the query, e.g. {@code FOR UPDATE SKIP LOCKED}.
+     *
+     * @param clause the SQL locking clause, if null or blank no locking clause will be added.
+     * @return self.
+     */
+    public SqlQueryStatement withLockingClause(String clause) {
+        lockingClause = clause == null || clause.isBlank() ? "" : " " + clause;
+        return this;
+    }
+
     /**
      * Add where clause. If it contains multiple clauses better wrap it with parenthesis
      *
@@ -147,6 +184,48 @@ public class SqlQueryStatement {
                 });
 
         orderByClause = parseSortField(query, rootModel);
+
+        if (query.isKeysetPagination()) {
+            var idColumn = rootModel.getStatement(ID_FIELD, String.class);
+            if (idColumn == null) {
+                throw new IllegalArgumentException("Cannot use a cursor because the id field does not exist");
+            }
+            var sortColumn = query.getSortField() == null ? null : rootModel.getStatement(query.getSortField(), String.class);
+            applyKeyset(query.getPageCursor(), sortColumn, query.getSortOrder(), idColumn);
+        }
+    }
+
+    /**
+     * Orders by the sort column (if any) and the id column, so that rows with the same sort value are always returned
+     * in the same order, and selects the rows after the cursor. Rows with a null sort value are sorted as in
+     * PostgreSQL: last in ascending order, first in descending order.
+     */
+    private void applyKeyset(@Nullable PageCursor cursor, @Nullable String sortColumn, SortOrder sortOrder, String idColumn) {
+        var ascending = sortOrder == SortOrder.ASC;
+        var order = ascending ? "ASC" : "DESC";
+        var comparison = ascending ? ">" : "<";
+
+        if (sortColumn == null) {
+            orderByClause = format(ORDER_BY_TOKEN + " ", idColumn, order);
+            if (cursor != null) {
+                addWhereClause(format("%s %s ?", idColumn, comparison), cursor.getId());
+            }
+            return;
+        }
+
+        orderByClause = format(ORDER_BY_WITH_ID_TOKEN + " ", sortColumn, order, idColumn, order);
+        if (cursor == null) {
+            return;
+        }
+
+        if (cursor.getSortValue() == null) {
+            var afterNull = format("%s IS NULL AND %s %s ?", sortColumn, idColumn, comparison);
+            addWhereClause(ascending ? "(" + afterNull + ")" : format("((%s) OR %s IS NOT NULL)", afterNull, sortColumn), cursor.getId());
+        } else if (ascending) {
+            addWhereClause(format("((%s, %s) > (?, ?) OR %s IS NULL)", sortColumn, idColumn, sortColumn), cursor.getSortValue(), cursor.getId());
+        } else {
+            addWhereClause(format("(%s, %s) < (?, ?)", sortColumn, idColumn), cursor.getSortValue(), cursor.getId());
+        }
     }
 
     private String parseSortField(QuerySpec query, TranslationMapping rootModel) {
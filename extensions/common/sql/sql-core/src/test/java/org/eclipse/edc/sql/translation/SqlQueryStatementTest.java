@@ -15,6 +15,7 @@
 package org.eclipse.edc.sql.translation;
 
 import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.PageCursor;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
 import org.junit.jupiter.api.Test;
@@ -36,6 +37,15 @@ class SqlQueryStatementTest {
         assertThat(statement.getParameters()).containsOnly(80, 20);
     }
 
+    @Test
+    void withLockingClause_shouldAppendItAfterLimitAndOffset() {
+        var statement = new SqlQueryStatement(SELECT_STATEMENT, 80, 20)
+                .withLockingClause("FOR UPDATE SKIP LOCKED");
+
+        assertThat(statement.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " LIMIT ? OFFSET ? FOR UPDATE SKIP LOCKED;");
+        assertThat(statement.getParameters()).containsOnly(80, 20);
+    }
+
     @Test
     void singleExpression_equalsOperator() {
         var criterion = new Criterion("field1", "=", "testid1");
@@ -130,6 +140,55 @@ class SqlQueryStatementTest {
         assertThat(t.getParameters()).containsExactly("testid1", customParameter, 50, 0);
     }
 
+    @Test
+    void keyset_firstPage_shouldOrderBySortFieldAndId() {
+        var query = queryBuilder().sortField("description").cursor("").limit(10).build();
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new TestMapping());
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " ORDER BY edc_description ASC, edc_id ASC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly(10, 0);
+    }
+
+    @Test
+    void keyset_shouldSelectRowsAfterCursor() {
+        var cursor = PageCursor.of("some description", "id-1").encode();
+        var query = queryBuilder(new Criterion("field1", "=", "testid1")).sortField("description").cursor(cursor).limit(10).build();
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new TestMapping());
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT +
+                " WHERE edc_field_1 = ? AND ((edc_description, edc_id) > (?, ?) OR edc_description IS NULL) ORDER BY edc_description ASC, edc_id ASC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("testid1", "some description", "id-1", 10, 0);
+    }
+
+    @Test
+    void keyset_shouldSelectRowsBeforeCursor_whenDescending() {
+        var cursor = PageCursor.of(42, "id-1").encode();
+        var query = queryBuilder().sortField("description").sortOrder(SortOrder.DESC).cursor(cursor).build();
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new TestMapping());
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT +
+                " WHERE (edc_description, edc_id) < (?, ?) ORDER BY edc_description DESC, edc_id DESC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly(42L, "id-1", 50, 0);
+    }
+
+    @Test
+    void keyset_shouldOrderById_whenNoSortField() {
+        var cursor = PageCursor.of(null, "id-1").encode();
+        var t = new SqlQueryStatement(SELECT_STATEMENT, queryBuilder().cursor(cursor).build(), new TestMapping());
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE edc_id > ? ORDER BY edc_id ASC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("id-1", 50, 0);
+    }
+
+    @Test
+    void withKeyset_shouldOrderByIdColumn() {
+        var cursor = PageCursor.of(null, "id-1").encode();
+        var t = new SqlQueryStatement(SELECT_STATEMENT, 10, 0).withKeyset(cursor, "a.id");
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE a.id > ? ORDER BY a.id ASC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("id-1", 10, 0);
+    }
+
     private QuerySpec.Builder queryBuilder(Criterion... criterion) {
         return QuerySpec.Builder.newInstance().filter(List.of(criterion));
     }
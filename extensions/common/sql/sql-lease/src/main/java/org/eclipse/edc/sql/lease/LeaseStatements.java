@@ -15,6 +15,9 @@
 package org.eclipse.edc.sql.lease;
 
 import org.eclipse.edc.sql.statement.SqlStatements;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
 
 import static java.lang.String.format;
 
@@ -30,12 +33,104 @@ public interface LeaseStatements extends SqlStatements {
 
     String getFindLeaseByEntityTemplate();
 
+    /**
+     * The name of the table that contains the leased entities. Together with {@link #getLeasedEntityIdColumn()} it
+     * permits to lease multiple entities with a constant number of statements: when null, as by default, the entities
+     * are leased one by one.
+     *
+     * @return the table name, null by default.
+     */
+    @Nullable
+    default String getLeasedEntityTableName() {
+        return null;
+    }
+
+    /**
+     * The id column of the table that contains the leased entities, see {@link #getLeasedEntityTableName()}.
+     *
+     * @return the column name, null by default.
+     */
+    @Nullable
+    default String getLeasedEntityIdColumn() {
+        return null;
+    }
+
+    /**
+     * Deletes the expired leases of multiple entities. Parameters are the current timestamp followed by the entity ids.
+     *
+     * @param count the number of entities.
+     * @return the statement.
+     */
+    default String getDeleteExpiredLeasesTemplate(int count) {
+        return format("DELETE FROM %s WHERE ? > (%s + %s) AND %s IN (SELECT %s FROM %s WHERE %s IN (%s))",
+                getLeaseTableName(), getLeasedAtColumn(), getLeaseDurationColumn(), getLeaseIdColumn(),
+                getLeaseIdColumn(), getLeasedEntityTableName(), getLeasedEntityIdColumn(), placeholders(count));
+    }
+
+    /**
+     * Inserts multiple leases in a single statement. Parameters are lease id, leased by, leased at and lease duration
+     * for every lease.
+     *
+     * @param count the number of leases.
+     * @return the statement.
+     */
+    default String getInsertLeasesTemplate(int count) {
+        var values = String.join(", ", Collections.nCopies(count, "(?, ?, ?, ?)"));
+        return format("INSERT INTO %s (%s, %s, %s, %s) VALUES %s",
+                getLeaseTableName(), getLeaseIdColumn(), getLeasedByColumn(), getLeasedAtColumn(), getLeaseDurationColumn(), values);
+    }
+
+    /**
+     * Sets the lease id on multiple entities that are not leased. Parameters are entity id and lease id for every
+     * entity, followed by the entity ids.
+     *
+     * @param count the number of entities.
+     * @return the statement.
+     */
+    default String getUpdateLeasesTemplate(int count) {
+        var cases = String.join(" ", Collections.nCopies(count, "WHEN ? THEN ?"));
+        return format("UPDATE %s SET %s = CASE %s %s END WHERE %s IS NULL AND %s IN (%s)",
+                getLeasedEntityTableName(), getLeaseIdColumn(), getLeasedEntityIdColumn(), cases,
+                getLeaseIdColumn(), getLeasedEntityIdColumn(), placeholders(count));
+    }
+
+    /**
+     * Selects the ids of the entities that hold one of the passed lease ids.
+     *
+     * @param count the number of lease ids.
+     * @return the statement.
+     */
+    default String getFindEntitiesByLeaseTemplate(int count) {
+        return format("SELECT %s FROM %s WHERE %s IN (%s)",
+                getLeasedEntityIdColumn(), getLeasedEntityTableName(), getLeaseIdColumn(), placeholders(count));
+    }
+
+    /**
+     * Deletes multiple leases by their ids.
+     *
+     * @param count the number of lease ids.
+     * @return the statement.
+     */
+    default String getDeleteLeasesTemplate(int count) {
+        return format("DELETE FROM %s WHERE %s IN (%s)", getLeaseTableName(), getLeaseIdColumn(), placeholders(count));
+    }
+
     default String getNotLeasedFilter() {
         return format("(%s IS NULL OR %s IN (SELECT %s FROM %s WHERE (? > (%s + %s))))",
                 getLeaseIdColumn(), getLeaseIdColumn(), getLeaseIdColumn(),
                 getLeaseTableName(), getLeasedAtColumn(), getLeaseDurationColumn());
     }
 
+    /**
+     * Locking clause appended to the query that selects the entities to be leased. When supported by the database,
+     * it permits concurrent replicas to skip the rows that are being claimed by others instead of competing for them.
+     *
+     * @return the locking clause, empty by default.
+     */
+    default String getSkipLockedClause() {
+        return "";
+    }
+
     default String getLeaseTableName() {
         return "edc_lease";
     }
@@ -56,4 +151,8 @@ public interface LeaseStatements extends SqlStatements {
         return "lease_id";
     }
 
+    private String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
 }
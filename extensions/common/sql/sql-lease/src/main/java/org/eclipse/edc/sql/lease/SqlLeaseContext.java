@@ -26,8 +26,15 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * SQL-based implementation of the LeaseContext.
@@ -43,8 +50,9 @@ public class SqlLeaseContext implements LeaseContext {
     private final Clock clock;
     private final Duration leaseDuration;
     private final QueryExecutor queryExecutor;
+    private final SqlLeaseStatistics statistics;
 
-    SqlLeaseContext(TransactionContext trxContext, LeaseStatements statements, String leaseHolder, Clock clock, Duration leaseDuration, Connection connection, QueryExecutor queryExecutor) {
+    SqlLeaseContext(TransactionContext trxContext, LeaseStatements statements, String leaseHolder, Clock clock, Duration leaseDuration, Connection connection, QueryExecutor queryExecutor, SqlLeaseStatistics statistics) {
         this.trxContext = trxContext;
         this.statements = statements;
         this.leaseHolder = leaseHolder;
@@ -52,6 +60,7 @@ public class SqlLeaseContext implements LeaseContext {
         this.leaseDuration = leaseDuration;
         this.connection = connection;
         this.queryExecutor = queryExecutor;
+        this.statistics = statistics;
     }
 
     @Override
@@ -73,13 +82,105 @@ public class SqlLeaseContext implements LeaseContext {
 
     @Override
     public void acquireLease(String entityId) {
-        trxContext.execute(() -> {
+        if (!tryAcquireLease(entityId)) {
+            throw new IllegalStateException("Entity is currently leased!");
+        }
+    }
+
+    /**
+     * Acquires the lease on multiple entities with a constant number of statements, independently of the number of
+     * entities. Entities that are currently leased are skipped instead of failing the whole operation. When the
+     * statements do not define the leased entity table, the entities are leased one by one.
+     *
+     * @param entityIds the ids of the entities to be leased.
+     * @return the ids of the entities on which the lease has been acquired.
+     */
+    public List<String> acquireLeases(List<String> entityIds) {
+        if (entityIds.isEmpty()) {
+            return List.of();
+        }
+
+        if (statements.getLeasedEntityTableName() == null || statements.getLeasedEntityIdColumn() == null) {
+            return entityIds.stream().filter(this::tryAcquireLease).toList();
+        }
+
+        return trxContext.execute(() -> {
+            var now = clock.millis();
+            var count = entityIds.size();
+            var duration = leaseDuration != null ? leaseDuration.toMillis() : DEFAULT_LEASE_DURATION;
+
+            //clean out old leases if present
+            var deleteArguments = new ArrayList<>();
+            deleteArguments.add(now);
+            deleteArguments.addAll(entityIds);
+            queryExecutor.execute(connection, statements.getDeleteExpiredLeasesTemplate(count), deleteArguments.toArray());
+
+            // create new leases in DB
+            var leaseIds = new LinkedHashMap<String, String>();
+            var insertArguments = new ArrayList<>();
+            entityIds.forEach(entityId -> {
+                var id = UUID.randomUUID().toString();
+                leaseIds.put(entityId, id);
+                insertArguments.addAll(List.of(id, leaseHolder, now, duration));
+            });
+            queryExecutor.execute(connection, statements.getInsertLeasesTemplate(count), insertArguments.toArray());
+
+            //update not leased entities with their lease -> effectively lease entities
+            var updateArguments = new ArrayList<>();
+            leaseIds.forEach((entityId, leaseId) -> {
+                updateArguments.add(entityId);
+                updateArguments.add(leaseId);
+            });
+            updateArguments.addAll(entityIds);
+            var updated = queryExecutor.execute(connection, statements.getUpdateLeasesTemplate(count), updateArguments.toArray());
+
+            if (updated == count) {
+                statistics.claimed(count);
+                return entityIds;
+            }
+
+            // some entities were leased in the meantime, the leases created for them must be removed
+            var leasedEntityIds = findEntitiesByLease(leaseIds.values());
+            var orphanLeaseIds = leaseIds.entrySet().stream()
+                    .filter(entry -> !leasedEntityIds.contains(entry.getKey()))
+                    .map(Map.Entry::getValue)
+                    .toList();
+            if (!orphanLeaseIds.isEmpty()) {
+                queryExecutor.execute(connection, statements.getDeleteLeasesTemplate(orphanLeaseIds.size()), orphanLeaseIds.toArray());
+            }
+
+            var leased = entityIds.stream().filter(leasedEntityIds::contains).toList();
+            statistics.claimed(leased.size());
+            statistics.conflicts(count - leased.size());
+            return leased;
+        });
+    }
+
+    /**
+     * Fetches a lease for a particular entity
+     *
+     * @param entityId The leased entity's ID (NOT the leaseID!)
+     * @return The respective lease, or null of entity is not leased.
+     */
+    public @Nullable SqlLease getLease(String entityId) {
+        var stmt = statements.getFindLeaseByEntityTemplate();
+        return queryExecutor.single(connection, false, this::mapLease, stmt, entityId);
+    }
+
+    /**
+     * Acquires the lease on the entity unless it is currently leased, without failing the transaction.
+     *
+     * @return true if the lease has been acquired, false if the entity is currently leased.
+     */
+    private boolean tryAcquireLease(String entityId) {
+        return trxContext.execute(() -> {
             var now = clock.millis();
 
             var lease = getLease(entityId);
 
             if (lease != null && !lease.isExpired(clock)) {
-                throw new IllegalStateException("Entity is currently leased!");
+                statistics.conflicts(1);
+                return false;
             }
 
             //clean out old lease if present
@@ -97,19 +198,16 @@ public class SqlLeaseContext implements LeaseContext {
             //update entity with lease -> effectively lease entity
             var updStmt = statements.getUpdateLeaseTemplate();
             queryExecutor.execute(connection, updStmt, id, entityId);
-
+            statistics.claimed(1);
+            return true;
         });
     }
 
-    /**
-     * Fetches a lease for a particular entity
-     *
-     * @param entityId The leased entity's ID (NOT the leaseID!)
-     * @return The respective lease, or null of entity is not leased.
-     */
-    public @Nullable SqlLease getLease(String entityId) {
-        var stmt = statements.getFindLeaseByEntityTemplate();
-        return queryExecutor.single(connection, false, this::mapLease, stmt, entityId);
+    private Set<String> findEntitiesByLease(Collection<String> leaseIds) {
+        var stmt = statements.getFindEntitiesByLeaseTemplate(leaseIds.size());
+        try (var stream = queryExecutor.query(connection, false, r -> r.getString(statements.getLeasedEntityIdColumn()), stmt, leaseIds.toArray())) {
+            return stream.collect(Collectors.toSet());
+        }
     }
 
     private SqlLease mapLease(ResultSet resultSet) throws SQLException {
@@ -45,6 +45,7 @@ public class SqlLeaseContextBuilder {
     private final LeaseStatements statements;
     private final Clock clock;
     private final QueryExecutor queryExecutor;
+    private final SqlLeaseStatistics statistics = new SqlLeaseStatistics();
     private String leaseHolder;
     private Duration leaseDuration;
 
@@ -86,6 +87,13 @@ public class SqlLeaseContextBuilder {
      */
     public SqlLeaseContext withConnection(Connection connection) {
         Objects.requireNonNull(connection, "connection");
-        return new SqlLeaseContext(trxContext, statements, leaseHolder, clock, leaseDuration, connection, queryExecutor);
+        return new SqlLeaseContext(trxContext, statements, leaseHolder, clock, leaseDuration, connection, queryExecutor, statistics);
+    }
+
+    /**
+     * Returns the claim and conflict counters of all the {@link SqlLeaseContext} created by this builder.
+     */
+    public SqlLeaseStatistics getStatistics() {
+        return statistics;
     }
 }
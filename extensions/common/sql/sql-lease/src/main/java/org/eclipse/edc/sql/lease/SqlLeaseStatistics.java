@@ -0,0 +1,77 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.lease;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+
+/**
+ * Counts the leases claimed by a runtime and the claims that failed because the entity was leased by someone else.
+ * A high number of conflicts indicates that multiple replicas are competing for the same entities.
+ * <p>
+ * Once a monitor has been set with {@link #reportTo(Monitor, String)}, every conflict is reported at debug level
+ * together with the running totals.
+ */
+public class SqlLeaseStatistics {
+
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong conflicts = new AtomicLong();
+    private volatile Monitor monitor;
+    private volatile String entityType;
+
+    /**
+     * Reports the conflicts to the monitor.
+     *
+     * @param monitor the monitor.
+     * @param entityType the type of the leased entities, used in the messages.
+     */
+    public void reportTo(Monitor monitor, String entityType) {
+        this.entityType = entityType;
+        this.monitor = monitor;
+    }
+
+    /**
+     * The number of leases successfully claimed.
+     */
+    public long getClaimed() {
+        return claimed.get();
+    }
+
+    /**
+     * The number of claims that failed because the entity was already leased.
+     */
+    public long getConflicts() {
+        return conflicts.get();
+    }
+
+    void claimed(long count) {
+        claimed.addAndGet(count);
+    }
+
+    void conflicts(long count) {
+        if (count <= 0) {
+            return;
+        }
+        var total = conflicts.addAndGet(count);
+        var monitor = this.monitor;
+        if (monitor != null) {
+            monitor.debug(() -> format("%d %s lease claims conflicted with another lease holder (%d claimed, %d conflicts in total)",
+                    count, entityType, claimed.get(), total));
+        }
+    }
+}
@@ -16,6 +16,7 @@
 package org.eclipse.edc.sql.lease;
 
 import org.eclipse.edc.junit.annotations.ComponentTest;
+import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.sql.ResultSetMapper;
 import org.eclipse.edc.sql.SqlQueryExecutor;
 import org.eclipse.edc.sql.testfixtures.PostgresqlLocalInstance;
@@ -27,6 +28,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -38,11 +40,14 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 import static java.time.ZoneOffset.UTC;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -192,6 +197,85 @@ class PostgresLeaseContextTest {
         verify(preparedStatementReference.get(), times(1)).setString(1, leaseId);
     }
 
+    @Test
+    void acquireLeases(Connection connection) {
+        insertTestEntity("id1", connection);
+        insertTestEntity("id2", connection);
+
+        var leased = leaseContext.acquireLeases(List.of("id1", "id2"));
+
+        assertThat(leased).containsExactly("id1", "id2");
+        assertThat(builder.getStatistics().getClaimed()).isEqualTo(2);
+        assertThat(isLeased("id1", connection)).isTrue();
+        assertThat(isLeased("id2", connection)).isTrue();
+        assertThat(leaseContext.getLease("id1")).isNotNull()
+                .extracting(SqlLease::getLeasedBy).isEqualTo(LEASE_HOLDER);
+        assertThat(leaseContext.getLease("id1").getLeaseId()).isNotEqualTo(leaseContext.getLease("id2").getLeaseId());
+    }
+
+    @Test
+    void acquireLeases_shouldSkipEntitiesLeasedByOther(Connection connection) {
+        insertTestEntity("id1", connection);
+        insertTestEntity("id2", connection);
+        builder.by("someone-else").withConnection(connection).acquireLease("id1");
+        var otherLease = leaseContext.getLease("id1");
+
+        var leased = leaseContext.acquireLeases(List.of("id1", "id2"));
+
+        assertThat(leased).containsExactly("id2");
+        assertThat(leaseContext.getLease("id1")).usingRecursiveComparison().isEqualTo(otherLease);
+        assertThat(leaseContext.getLease("id2")).isNotNull();
+        assertThat(builder.getStatistics().getConflicts()).isEqualTo(1);
+    }
+
+    @Test
+    void acquireLeases_shouldReportConflicts_whenMonitorIsSet(Connection connection) {
+        var monitor = mock(Monitor.class);
+        builder.getStatistics().reportTo(monitor, "TestEntity");
+        insertTestEntity("id1", connection);
+        builder.by("someone-else").withConnection(connection).acquireLease("id1");
+
+        leaseContext.acquireLeases(List.of("id1"));
+
+        verify(monitor).debug(ArgumentMatchers.<Supplier<String>>any());
+    }
+
+    @Test
+    void acquireLeases_shouldLeaseOneByOne_whenLeasedEntityTableIsNotDefined(Connection connection) {
+        insertTestEntity("id1", connection);
+        insertTestEntity("id2", connection);
+        builder.by("someone-else").withConnection(connection).acquireLease("id1");
+        var singleRowContext = SqlLeaseContextBuilder.with(transactionContext, LEASE_HOLDER, new SingleRowTestEntityLeaseStatements(), Clock.fixed(now, UTC), queryExecutor)
+                .withConnection(connection);
+
+        var leased = singleRowContext.acquireLeases(List.of("id1", "id2"));
+
+        assertThat(leased).containsExactly("id2");
+        assertThat(leaseContext.getLease("id1")).isNotNull().extracting(SqlLease::getLeasedBy).isEqualTo("someone-else");
+        assertThat(leaseContext.getLease("id2")).isNotNull().extracting(SqlLease::getLeasedBy).isEqualTo(LEASE_HOLDER);
+    }
+
+    @Test
+    void acquireLeases_whenExpiredLeasePresent_shouldAcquireNewLease(Connection connection) {
+        insertTestEntity("id1", connection);
+        builder.by("someone-else").withConnection(connection).acquireLease("id1");
+        var oldLeaseId = leaseContext.getLease("id1").getLeaseId();
+
+        var twoMinutesAheadClock = Clock.offset(Clock.fixed(now, UTC), Duration.of(2, ChronoUnit.MINUTES));
+        var twoMinutesAheadContext = SqlLeaseContextBuilder.with(transactionContext, LEASE_HOLDER, dialect, twoMinutesAheadClock, queryExecutor)
+                .withConnection(connection);
+        var leased = twoMinutesAheadContext.acquireLeases(List.of("id1"));
+
+        assertThat(leased).containsExactly("id1");
+        assertThat(twoMinutesAheadContext.getLease("id1")).isNotNull()
+                .extracting(SqlLease::getLeaseId).isNotEqualTo(oldLeaseId);
+    }
+
+    @Test
+    void acquireLeases_whenEmpty_shouldReturnEmptyList() {
+        assertThat(leaseContext.acquireLeases(List.of())).isEmpty();
+    }
+
     protected boolean isLeased(String entityId, Connection connection) {
         return transactionContext.execute(() -> {
             var entity = getTestEntity(entityId, connection);
@@ -249,11 +333,37 @@ class PostgresLeaseContextTest {
             return "SELECT * FROM edc_lease WHERE lease_id = (SELECT lease_id FROM " + getEntityTableName() + " WHERE id=?)";
         }
 
+        @Override
+        public String getLeasedEntityTableName() {
+            return getEntityTableName();
+        }
+
+        @Override
+        public String getLeasedEntityIdColumn() {
+            return "id";
+        }
+
         public String getEntityTableName() {
             return "edc_test_entity";
         }
     }
 
+    /**
+     * Statements that do not define the leased entity table, as the ones written before the bulk leasing.
+     */
+    private static class SingleRowTestEntityLeaseStatements extends TestEntityLeaseStatements {
+
+        @Override
+        public String getLeasedEntityTableName() {
+            return null;
+        }
+
+        @Override
+        public String getLeasedEntityIdColumn() {
+            return null;
+        }
+    }
+
     protected static class TestEntity {
         private final String id;
         private final String leaseId;
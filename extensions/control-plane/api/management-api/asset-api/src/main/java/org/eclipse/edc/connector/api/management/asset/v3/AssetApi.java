@@ -16,6 +16,7 @@ package org.eclipse.edc.connector.api.management.asset.v3;
 
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.info.Info;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -23,9 +24,10 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.api.model.ApiCoreSchema;
+import org.eclipse.edc.api.query.KeysetPagination;
 import org.eclipse.edc.connector.api.management.configuration.ManagementApiSchema;
 
 import java.util.Map;
@@ -58,11 +60,12 @@ public interface AssetApi {
             ),
             responses = {
                     @ApiResponse(responseCode = "200", description = "The assets matching the query",
+                            headers = @Header(name = KeysetPagination.NEXT_CURSOR_HEADER, description = "Cursor of the next page, when a cursor was requested and the page is full"),
                             content = @Content(array = @ArraySchema(schema = @Schema(implementation = AssetOutputSchema.class)))),
                     @ApiResponse(responseCode = "400", description = "Request body was malformed",
                             content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiCoreSchema.ApiErrorDetailSchema.class))))
             })
-    JsonArray requestAssets(JsonObject querySpecJson);
+    Response requestAssets(JsonObject querySpecJson);
 
     @Operation(description = "Gets an asset with the given ID",
             responses = {
@@ -14,7 +14,6 @@
 
 package org.eclipse.edc.connector.api.management.asset.v3;
 
-import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DELETE;
@@ -24,7 +23,9 @@ import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.api.model.IdResponse;
+import org.eclipse.edc.api.query.KeysetPagination;
 import org.eclipse.edc.connector.spi.asset.AssetService;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
@@ -37,6 +38,8 @@ import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 import org.eclipse.edc.web.spi.exception.ObjectNotFoundException;
 import org.eclipse.edc.web.spi.exception.ValidationFailureException;
 
+import java.util.List;
+
 import static jakarta.json.stream.JsonCollectors.toJsonArray;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 import static java.util.Optional.of;
@@ -83,7 +86,7 @@ public class AssetApiController implements AssetApi {
     @POST
     @Path("/request")
     @Override
-    public JsonArray requestAssets(JsonObject querySpecJson) {
+    public Response requestAssets(JsonObject querySpecJson) {
         QuerySpec querySpec;
         if (querySpecJson == null) {
             querySpec = QuerySpec.Builder.newInstance().build();
@@ -94,14 +97,20 @@ public class AssetApiController implements AssetApi {
                     .orElseThrow(InvalidRequestException::new);
         }
 
-        try (var assets = service.query(querySpec).orElseThrow(exceptionMapper(QuerySpec.class, null))) {
-            return assets
-                    .map(it -> transformerRegistry.transform(it, JsonObject.class))
-                    .peek(r -> r.onFailure(f -> monitor.warning(f.getFailureDetail())))
-                    .filter(Result::succeeded)
-                    .map(Result::getContent)
-                    .collect(toJsonArray());
+        List<Asset> assets;
+        try (var stream = service.query(querySpec).orElseThrow(exceptionMapper(QuerySpec.class, null))) {
+            assets = stream.toList();
         }
+
+        var body = assets.stream()
+                .map(it -> transformerRegistry.transform(it, JsonObject.class))
+                .peek(r -> r.onFailure(f -> monitor.warning(f.getFailureDetail())))
+                .filter(Result::succeeded)
+                .map(Result::getContent)
+                .collect(toJsonArray());
+
+        // assets are always paged by id, see AssetIndex
+        return KeysetPagination.response(body, querySpec, assets, KeysetPagination.byId());
     }
 
     @GET
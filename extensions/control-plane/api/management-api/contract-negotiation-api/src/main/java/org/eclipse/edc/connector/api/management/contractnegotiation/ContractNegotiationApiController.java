@@ -16,7 +16,6 @@
 
 package org.eclipse.edc.connector.api.management.contractnegotiation;
 
-import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.GET;
@@ -25,7 +24,9 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.api.model.IdResponse;
+import org.eclipse.edc.api.query.KeysetPagination;
 import org.eclipse.edc.connector.api.management.contractnegotiation.model.NegotiationState;
 import org.eclipse.edc.connector.contract.spi.types.command.TerminateNegotiationCommand;
 import org.eclipse.edc.connector.contract.spi.types.negotiation.ContractNegotiation;
@@ -41,6 +42,7 @@ import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 import org.eclipse.edc.web.spi.exception.ObjectNotFoundException;
 import org.eclipse.edc.web.spi.exception.ValidationFailureException;
 
+import java.util.List;
 import java.util.Optional;
 
 import static jakarta.json.stream.JsonCollectors.toJsonArray;
@@ -70,7 +72,7 @@ public class ContractNegotiationApiController implements ContractNegotiationApi
     @POST
     @Path("/request")
     @Override
-    public JsonArray queryNegotiations(JsonObject querySpecJson) {
+    public Response queryNegotiations(JsonObject querySpecJson) {
         QuerySpec querySpec;
         if (querySpecJson == null) {
             querySpec = QuerySpec.Builder.newInstance().build();
@@ -82,14 +84,19 @@ public class ContractNegotiationApiController implements ContractNegotiationApi
                     .orElseThrow(InvalidRequestException::new);
         }
 
+        List<ContractNegotiation> negotiations;
         try (var stream = service.query(querySpec).orElseThrow(exceptionMapper(ContractNegotiation.class, null))) {
-            return stream
-                    .map(it -> transformerRegistry.transform(it, JsonObject.class))
-                    .peek(this::logIfError)
-                    .filter(Result::succeeded)
-                    .map(Result::getContent)
-                    .collect(toJsonArray());
+            negotiations = stream.toList();
         }
+
+        var body = negotiations.stream()
+                .map(it -> transformerRegistry.transform(it, JsonObject.class))
+                .peek(this::logIfError)
+                .filter(Result::succeeded)
+                .map(Result::getContent)
+                .collect(toJsonArray());
+
+        return KeysetPagination.response(body, querySpec, negotiations, KeysetPagination.bySortField(querySpec));
     }
 
     @GET
@@ -14,7 +14,6 @@
 
 package org.eclipse.edc.connector.api.management.transferprocess;
 
-import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.GET;
@@ -22,7 +21,9 @@ import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.api.model.IdResponse;
+import org.eclipse.edc.api.query.KeysetPagination;
 import org.eclipse.edc.connector.api.management.transferprocess.model.TerminateTransfer;
 import org.eclipse.edc.connector.api.management.transferprocess.model.TransferState;
 import org.eclipse.edc.connector.spi.transferprocess.TransferProcessService;
@@ -39,6 +40,7 @@ import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 import org.eclipse.edc.web.spi.exception.ObjectNotFoundException;
 import org.eclipse.edc.web.spi.exception.ValidationFailureException;
 
+import java.util.List;
 import java.util.Optional;
 
 import static jakarta.json.stream.JsonCollectors.toJsonArray;
@@ -71,7 +73,7 @@ public class TransferProcessApiController implements TransferProcessApi {
     @POST
     @Path("request")
     @Override
-    public JsonArray queryTransferProcesses(JsonObject querySpecJson) {
+    public Response queryTransferProcesses(JsonObject querySpecJson) {
         QuerySpec querySpec;
         if (querySpecJson == null) {
             querySpec = QuerySpec.none();
@@ -82,14 +84,19 @@ public class TransferProcessApiController implements TransferProcessApi {
                     .orElseThrow(InvalidRequestException::new);
         }
 
+        List<TransferProcess> transferProcesses;
         try (var stream = service.query(querySpec).orElseThrow(exceptionMapper(TransferProcess.class))) {
-            return stream
-                    .map(transferProcess -> transformerRegistry.transform(transferProcess, JsonObject.class)
-                            .onFailure(f -> monitor.warning(f.getFailureDetail())))
-                    .filter(Result::succeeded)
-                    .map(Result::getContent)
-                    .collect(toJsonArray());
+            transferProcesses = stream.toList();
         }
+
+        var body = transferProcesses.stream()
+                .map(transferProcess -> transformerRegistry.transform(transferProcess, JsonObject.class)
+                        .onFailure(f -> monitor.warning(f.getFailureDetail())))
+                .filter(Result::succeeded)
+                .map(Result::getContent)
+                .collect(toJsonArray());
+
+        return KeysetPagination.response(body, querySpec, transferProcesses, KeysetPagination.bySortField(querySpec));
     }
 
     @GET
@@ -24,6 +24,7 @@ import org.eclipse.edc.connector.transfer.spi.types.TransferRequest;
 import org.eclipse.edc.connector.transfer.spi.types.command.TerminateTransferCommand;
 import org.eclipse.edc.junit.annotations.ApiTest;
 import org.eclipse.edc.service.spi.result.ServiceResult;
+import org.eclipse.edc.spi.query.PageCursor;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
@@ -38,12 +39,14 @@ import java.util.stream.Stream;
 
 import static io.restassured.RestAssured.given;
 import static io.restassured.http.ContentType.JSON;
+import static org.eclipse.edc.api.query.KeysetPagination.NEXT_CURSOR_HEADER;
 import static org.eclipse.edc.connector.api.management.transferprocess.model.TerminateTransfer.TERMINATE_TRANSFER_TYPE;
 import static org.eclipse.edc.connector.transfer.spi.types.TransferRequest.TRANSFER_REQUEST_TYPE;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_TYPE;
 import static org.eclipse.edc.validator.spi.Violation.violation;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
@@ -160,6 +163,43 @@ class TransferProcessApiControllerTest extends RestControllerTestBase {
         verify(transformerRegistry).transform(transferProcess, JsonObject.class);
     }
 
+    @Test
+    void query_shouldReturnNextCursor_whenKeysetPaginationRequestedAndPageIsFull() {
+        var querySpec = QuerySpec.Builder.newInstance().sortField("createdAt").cursor("").limit(1).build();
+        var transferProcess = createTransferProcess().id("id").createdAt(1234L).build();
+        when(validatorRegistry.validate(any(), any())).thenReturn(ValidationResult.success());
+        when(transformerRegistry.transform(any(), eq(QuerySpec.class))).thenReturn(Result.success(querySpec));
+        when(service.query(any())).thenReturn(ServiceResult.success(Stream.of(transferProcess)));
+        when(transformerRegistry.transform(any(), eq(JsonObject.class))).thenReturn(Result.success(Json.createObjectBuilder().build()));
+
+        given()
+                .port(port)
+                .body(Json.createObjectBuilder().build())
+                .contentType(JSON)
+                .post("/v2/transferprocesses/request")
+                .then()
+                .statusCode(200)
+                .header(NEXT_CURSOR_HEADER, is(PageCursor.of(1234L, "id").encode()))
+                .body("size()", is(1));
+    }
+
+    @Test
+    void query_shouldNotReturnNextCursor_whenKeysetPaginationNotRequested() {
+        when(validatorRegistry.validate(any(), any())).thenReturn(ValidationResult.success());
+        when(transformerRegistry.transform(any(), eq(QuerySpec.class))).thenReturn(Result.success(QuerySpec.Builder.newInstance().limit(1).build()));
+        when(service.query(any())).thenReturn(ServiceResult.success(Stream.of(createTransferProcess().id("id").build())));
+        when(transformerRegistry.transform(any(), eq(JsonObject.class))).thenReturn(Result.success(Json.createObjectBuilder().build()));
+
+        given()
+                .port(port)
+                .body(Json.createObjectBuilder().build())
+                .contentType(JSON)
+                .post("/v2/transferprocesses/request")
+                .then()
+                .statusCode(200)
+                .header(NEXT_CURSOR_HEADER, nullValue());
+    }
+
     @Test
     void query_shouldNotReturnError_whenEmptyBody() {
         var querySpec = QuerySpec.none();
@@ -0,0 +1,45 @@
+--
+--  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+--
+--  This program and the accompanying materials are made available under the
+--  terms of the Apache License, Version 2.0 which is available at
+--  https://www.apache.org/licenses/LICENSE-2.0
+--
+--  SPDX-License-Identifier: Apache-2.0
+--
+--  Contributors:
+--       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+--
+
+-- Copies the assets stored with schema.sql into the table created by schema-jsonb.sql, which must be applied first.
+-- The original tables are left untouched, they can be dropped once the connector runs with the jsonb schema.
+
+INSERT INTO edc_asset_jsonb (asset_id, created_at, properties, private_properties, property_types, private_property_types, data_address)
+SELECT a.asset_id,
+       a.created_at,
+       COALESCE((SELECT jsonb_object_agg(p.property_name,
+                                         CASE WHEN p.property_type = 'java.lang.String' THEN to_jsonb(p.property_value)
+                                              ELSE p.property_value::jsonb END)
+                 FROM edc_asset_property p
+                 WHERE p.asset_id_fk = a.asset_id
+                   AND NOT p.property_is_private), '{}'),
+       COALESCE((SELECT jsonb_object_agg(p.property_name,
+                                         CASE WHEN p.property_type = 'java.lang.String' THEN to_jsonb(p.property_value)
+                                              ELSE p.property_value::jsonb END)
+                 FROM edc_asset_property p
+                 WHERE p.asset_id_fk = a.asset_id
+                   AND p.property_is_private), '{}'),
+       COALESCE((SELECT jsonb_object_agg(p.property_name, p.property_type)
+                 FROM edc_asset_property p
+                 WHERE p.asset_id_fk = a.asset_id
+                   AND p.property_type <> 'java.lang.String'
+                   AND NOT p.property_is_private), '{}'),
+       COALESCE((SELECT jsonb_object_agg(p.property_name, p.property_type)
+                 FROM edc_asset_property p
+                 WHERE p.asset_id_fk = a.asset_id
+                   AND p.property_type <> 'java.lang.String'
+                   AND p.property_is_private), '{}'),
+       d.properties::jsonb
+FROM edc_asset a
+         JOIN edc_asset_dataaddress d ON d.asset_id_fk = a.asset_id
+ON CONFLICT (asset_id) DO NOTHING;
@@ -0,0 +1,39 @@
+--
+--  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+--
+--  This program and the accompanying materials are made available under the
+--  terms of the Apache License, Version 2.0 which is available at
+--  https://www.apache.org/licenses/LICENSE-2.0
+--
+--  SPDX-License-Identifier: Apache-2.0
+--
+--  Contributors:
+--       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+--
+
+-- THIS SCHEMA HAS BEEN WRITTEN AND TESTED ONLY FOR POSTGRES
+
+-- table: edc_asset_jsonb
+CREATE TABLE IF NOT EXISTS edc_asset_jsonb
+(
+    asset_id               VARCHAR NOT NULL,
+    created_at             BIGINT  NOT NULL,
+    properties             JSONB   NOT NULL DEFAULT '{}',
+    private_properties     JSONB   NOT NULL DEFAULT '{}',
+    property_types         JSONB   NOT NULL DEFAULT '{}',
+    private_property_types JSONB   NOT NULL DEFAULT '{}',
+    data_address           JSONB   NOT NULL DEFAULT '{}',
+    PRIMARY KEY (asset_id)
+);
+
+COMMENT ON COLUMN edc_asset_jsonb.properties IS 'Asset properties serialized as JSON';
+COMMENT ON COLUMN edc_asset_jsonb.private_properties IS 'Asset private properties serialized as JSON';
+COMMENT ON COLUMN edc_asset_jsonb.property_types IS 'Class names of the non-string property values, by property name';
+COMMENT ON COLUMN edc_asset_jsonb.private_property_types IS 'Class names of the non-string private property values, by property name';
+COMMENT ON COLUMN edc_asset_jsonb.data_address IS 'DataAddress properties serialized as JSON';
+
+CREATE INDEX IF NOT EXISTS idx_edc_asset_jsonb_properties
+    ON edc_asset_jsonb USING GIN (properties jsonb_path_ops);
+
+CREATE INDEX IF NOT EXISTS idx_edc_asset_jsonb_private_properties
+    ON edc_asset_jsonb USING GIN (private_properties jsonb_path_ops);
@@ -28,4 +28,15 @@ public interface ConfigurationKeys {
     @Setting(required = true)
     String DATASOURCE_SETTING_NAME = "edc.datasource.asset.name";
 
+    /**
+     * Schema used to store the assets, either "property" (one row per asset property) or "jsonb" (PostgreSQL only,
+     * one row per asset with JSONB properties).
+     */
+    @Setting(value = "Schema used to store the assets, either 'property' or 'jsonb'", defaultValue = PROPERTY_SCHEMA)
+    String SCHEMA_SETTING_NAME = "edc.datasource.asset.schema";
+
+    String PROPERTY_SCHEMA = "property";
+
+    String JSONB_SCHEMA = "jsonb";
+
 }
@@ -37,15 +37,25 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.AbstractMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
 import static java.util.stream.Collectors.partitioningBy;
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 
 public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
 
+    /**
+     * The maximum number of assets whose properties and data addresses are fetched with a single statement.
+     */
+    private static final int FETCH_BATCH_SIZE = 500;
+
     private final AssetStatements assetStatements;
 
     public SqlAssetIndex(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
@@ -58,16 +68,21 @@ public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
     public Stream<Asset> queryAssets(QuerySpec querySpec) {
         Objects.requireNonNull(querySpec);
 
-        return transactionContext.execute(() -> {
-            try {
+        var rows = transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
                 var statement = assetStatements.createQuery(querySpec);
 
-                return queryExecutor.query(getConnection(), true, this::mapAssetIds, statement.getQueryAsString(), statement.getParameters())
-                        .map(this::findById);
+                try (var stream = queryExecutor.query(connection, false, this::mapAssetRow, statement.getQueryAsString(), statement.getParameters())) {
+                    return stream.toList();
+                }
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
         });
+
+        return IntStream.range(0, (rows.size() + FETCH_BATCH_SIZE - 1) / FETCH_BATCH_SIZE)
+                .mapToObj(i -> rows.subList(i * FETCH_BATCH_SIZE, Math.min(rows.size(), (i + 1) * FETCH_BATCH_SIZE)))
+                .flatMap(batch -> fetchAssets(batch).stream());
     }
 
     @Override
@@ -88,17 +103,8 @@ public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
                         var allPropertiesStream = queryExecutor.query(connection, false, this::mapPropertyResultSet, findPropertyByIdSql, assetId)
                 ) {
                     var createdAt = createdAtStream.findFirst().orElse(0L);
-                    var groupedProperties = allPropertiesStream.collect(partitioningBy(SqlPropertyWrapper::isPrivate));
-                    var assetProperties = groupedProperties.get(false).stream().collect(toMap(SqlPropertyWrapper::getPropertyKey, SqlPropertyWrapper::getPropertyValue));
-                    var assetPrivateProperties = groupedProperties.get(true).stream().collect(toMap(SqlPropertyWrapper::getPropertyKey, SqlPropertyWrapper::getPropertyValue));
                     var dataAddress = resolveForAsset(assetId);
-                    return Asset.Builder.newInstance()
-                            .id(assetId)
-                            .properties(assetProperties)
-                            .privateProperties(assetPrivateProperties)
-                            .createdAt(createdAt)
-                            .dataAddress(dataAddress)
-                            .build();
+                    return toAsset(assetId, createdAt, allPropertiesStream.toList(), dataAddress);
                 }
             });
 
@@ -227,6 +233,61 @@ public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
         });
     }
 
+    /**
+     * Loads the properties and data addresses of a batch of assets with one statement each, and assembles the assets
+     * in the order of the rows. Assets that have been deleted since the rows were queried have neither properties nor
+     * a data address anymore, they are skipped.
+     */
+    private List<Asset> fetchAssets(List<AssetRow> rows) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var ids = rows.stream().map(AssetRow::id).toArray();
+
+                Map<String, List<SqlPropertyWrapper>> properties;
+                try (var stream = queryExecutor.query(connection, false, this::mapAssetPropertyResultSet, assetStatements.getFindPropertiesByIdsTemplate(ids.length), ids)) {
+                    properties = stream.collect(groupingBy(Map.Entry::getKey, mapping(Map.Entry::getValue, toList())));
+                }
+
+                Map<String, DataAddress> dataAddresses;
+                try (var stream = queryExecutor.query(connection, false, this::mapAssetDataAddress, assetStatements.getFindDataAddressesByIdsTemplate(ids.length), ids)) {
+                    dataAddresses = stream.collect(toMap(Map.Entry::getKey, Map.Entry::getValue));
+                }
+
+                return rows.stream()
+                        .filter(row -> properties.containsKey(row.id()) && dataAddresses.containsKey(row.id()))
+                        .map(row -> toAsset(row.id(), row.createdAt(), properties.getOrDefault(row.id(), List.of()), dataAddresses.get(row.id())))
+                        .toList();
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    private Asset toAsset(String assetId, long createdAt, List<SqlPropertyWrapper> properties, DataAddress dataAddress) {
+        var groupedProperties = properties.stream().collect(partitioningBy(SqlPropertyWrapper::isPrivate));
+        var assetProperties = groupedProperties.get(false).stream().collect(toMap(SqlPropertyWrapper::getPropertyKey, SqlPropertyWrapper::getPropertyValue));
+        var assetPrivateProperties = groupedProperties.get(true).stream().collect(toMap(SqlPropertyWrapper::getPropertyKey, SqlPropertyWrapper::getPropertyValue));
+        return Asset.Builder.newInstance()
+                .id(assetId)
+                .properties(assetProperties)
+                .privateProperties(assetPrivateProperties)
+                .createdAt(createdAt)
+                .dataAddress(dataAddress)
+                .build();
+    }
+
+    private AssetRow mapAssetRow(ResultSet resultSet) throws SQLException {
+        return new AssetRow(resultSet.getString(assetStatements.getAssetIdColumn()), resultSet.getLong(assetStatements.getCreatedAtColumn()));
+    }
+
+    private Map.Entry<String, SqlPropertyWrapper> mapAssetPropertyResultSet(ResultSet resultSet) throws SQLException, ClassNotFoundException {
+        return new AbstractMap.SimpleImmutableEntry<>(resultSet.getString(assetStatements.getPropertyAssetIdFkColumn()), mapPropertyResultSet(resultSet));
+    }
+
+    private Map.Entry<String, DataAddress> mapAssetDataAddress(ResultSet resultSet) throws SQLException {
+        return new AbstractMap.SimpleImmutableEntry<>(resultSet.getString(assetStatements.getDataAddressAssetIdFkColumn()), mapDataAddress(resultSet));
+    }
+
     private long mapCreatedAt(ResultSet resultSet) throws SQLException {
         return resultSet.getLong(assetStatements.getCreatedAtColumn());
     }
@@ -269,10 +330,6 @@ public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
                 .build();
     }
 
-    private String mapAssetIds(ResultSet resultSet) throws SQLException {
-        return resultSet.getString(assetStatements.getAssetIdColumn());
-    }
-
     private void insertProperties(Asset asset, String assetId, Connection connection) {
         for (var property : asset.getProperties().entrySet()) {
             queryExecutor.execute(connection,
@@ -294,6 +351,9 @@ public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
         }
     }
 
+    private record AssetRow(String id, long createdAt) {
+    }
+
     private static class SqlPropertyWrapper {
         private final boolean isPrivate;
         private final AbstractMap.SimpleImmutableEntry<String, Object> property;
@@ -16,10 +16,13 @@
 package org.eclipse.edc.connector.store.sql.assetindex;
 
 import org.eclipse.edc.connector.store.sql.assetindex.schema.AssetStatements;
+import org.eclipse.edc.connector.store.sql.assetindex.schema.JsonbAssetStatements;
 import org.eclipse.edc.connector.store.sql.assetindex.schema.postgres.PostgresDialectStatements;
+import org.eclipse.edc.connector.store.sql.assetindex.schema.postgres.PostgresJsonbDialectStatements;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.asset.AssetIndex;
 import org.eclipse.edc.spi.asset.DataAddressResolver;
 import org.eclipse.edc.spi.system.ServiceExtension;
@@ -29,6 +32,8 @@ import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
+import static java.lang.String.format;
+
 @Provides({ AssetIndex.class, DataAddressResolver.class })
 @Extension(value = "SQL asset index")
 public class SqlAssetIndexServiceExtension implements ServiceExtension {
@@ -42,6 +47,9 @@ public class SqlAssetIndexServiceExtension implements ServiceExtension {
     @Inject(required = false)
     private AssetStatements dialect;
 
+    @Inject(required = false)
+    private JsonbAssetStatements jsonbDialect;
+
     @Inject
     private TypeManager typeManager;
 
@@ -52,7 +60,16 @@ public class SqlAssetIndexServiceExtension implements ServiceExtension {
     public void initialize(ServiceExtensionContext context) {
         var dataSourceName = context.getConfig().getString(ConfigurationKeys.DATASOURCE_SETTING_NAME, DataSourceRegistry.DEFAULT_DATASOURCE);
 
-        var sqlAssetLoader = new SqlAssetIndex(dataSourceRegistry, dataSourceName, transactionContext, typeManager.getMapper(), getDialect(), queryExecutor);
+        var schema = context.getConfig().getString(ConfigurationKeys.SCHEMA_SETTING_NAME, ConfigurationKeys.PROPERTY_SCHEMA);
+
+        AssetIndex sqlAssetLoader;
+        if (ConfigurationKeys.JSONB_SCHEMA.equals(schema)) {
+            sqlAssetLoader = new SqlJsonbAssetIndex(dataSourceRegistry, dataSourceName, transactionContext, typeManager.getMapper(), getJsonbDialect(), queryExecutor);
+        } else if (ConfigurationKeys.PROPERTY_SCHEMA.equals(schema)) {
+            sqlAssetLoader = new SqlAssetIndex(dataSourceRegistry, dataSourceName, transactionContext, typeManager.getMapper(), getDialect(), queryExecutor);
+        } else {
+            throw new EdcException(format("Invalid value for %s: %s", ConfigurationKeys.SCHEMA_SETTING_NAME, schema));
+        }
 
         context.registerService(AssetIndex.class, sqlAssetLoader);
         context.registerService(DataAddressResolver.class, sqlAssetLoader);
@@ -61,4 +78,8 @@ public class SqlAssetIndexServiceExtension implements ServiceExtension {
     private AssetStatements getDialect() {
         return dialect != null ? dialect : new PostgresDialectStatements();
     }
+
+    private JsonbAssetStatements getJsonbDialect() {
+        return jsonbDialect != null ? jsonbDialect : new PostgresJsonbDialectStatements();
+    }
 }
@@ -0,0 +1,264 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.store.sql.assetindex;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.connector.store.sql.assetindex.schema.JsonbAssetStatements;
+import org.eclipse.edc.spi.asset.AssetIndex;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.result.StoreResult;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.spi.types.domain.asset.Asset;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.store.AbstractSqlStore;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import static java.lang.String.format;
+
+/**
+ * {@link AssetIndex} that stores every asset in a single row, with properties, private properties and data address
+ * kept in JSONB columns. Compared to {@link SqlAssetIndex}, queries do not need a sub-select per criterion and updates
+ * do not need to delete and re-insert the property rows.
+ * <p>
+ * Property values that are not strings are stored as JSON, and their class names are kept in separate columns, one
+ * for the properties and one for the private properties, so that they are deserialized to the same type they were
+ * stored with.
+ */
+public class SqlJsonbAssetIndex extends AbstractSqlStore implements AssetIndex {
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+    private static final TypeReference<Map<String, String>> TYPES_TYPE = new TypeReference<>() {
+    };
+
+    private final JsonbAssetStatements assetStatements;
+    private final ObjectMapper objectMapper;
+
+    public SqlJsonbAssetIndex(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
+                              ObjectMapper objectMapper, JsonbAssetStatements assetStatements, QueryExecutor queryExecutor) {
+        super(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor);
+        this.assetStatements = Objects.requireNonNull(assetStatements);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Stream<Asset> queryAssets(QuerySpec querySpec) {
+        Objects.requireNonNull(querySpec);
+
+        return transactionContext.execute(() -> {
+            try {
+                var statement = assetStatements.createQuery(querySpec);
+
+                return queryExecutor.query(getConnection(), true, this::mapAsset, statement.getQueryAsString(), statement.getParameters());
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public @Nullable Asset findById(String assetId) {
+        Objects.requireNonNull(assetId);
+
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                return findById(connection, assetId);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public StoreResult<Void> create(Asset asset) {
+        Objects.requireNonNull(asset);
+        var dataAddress = asset.getDataAddress();
+
+        Objects.requireNonNull(dataAddress);
+
+        var assetId = asset.getId();
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                if (existsById(assetId, connection)) {
+                    var msg = format(ASSET_EXISTS_TEMPLATE, assetId);
+                    return StoreResult.alreadyExists(msg);
+                }
+
+                queryExecutor.execute(connection, assetStatements.getInsertAssetTemplate(), assetId, asset.getCreatedAt(),
+                        toJson(asset.getProperties(), MAP_TYPE), toJson(asset.getPrivateProperties(), MAP_TYPE),
+                        toJson(propertyTypes(asset.getProperties()), TYPES_TYPE), toJson(propertyTypes(asset.getPrivateProperties()), TYPES_TYPE),
+                        toJson(dataAddress.getProperties(), MAP_TYPE));
+
+                return StoreResult.success();
+            } catch (Exception e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public StoreResult<Asset> deleteById(String assetId) {
+        Objects.requireNonNull(assetId);
+
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var asset = findById(connection, assetId);
+                if (asset == null) {
+                    return StoreResult.notFound(format(ASSET_NOT_FOUND_TEMPLATE, assetId));
+                }
+
+                queryExecutor.execute(connection, assetStatements.getDeleteAssetByIdTemplate(), assetId);
+
+                return StoreResult.success(asset);
+            } catch (Exception e) {
+                throw new EdcPersistenceException(e.getMessage(), e);
+            }
+        });
+    }
+
+    @Override
+    public long countAssets(List<Criterion> criteria) {
+        try (var connection = getConnection()) {
+            var statement = assetStatements.createQuery(criteria);
+
+            var queryAsString = statement.getQueryAsString().replace("SELECT * ", "SELECT COUNT (*) ");
+
+            return queryExecutor.single(connection, true, r -> r.getLong(1), queryAsString, statement.getParameters());
+        } catch (SQLException e) {
+            throw new EdcPersistenceException(e);
+        }
+    }
+
+    @Override
+    public StoreResult<Asset> updateAsset(Asset asset) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var assetId = asset.getId();
+                if (existsById(assetId, connection)) {
+                    queryExecutor.execute(connection, assetStatements.getUpdateAssetTemplate(),
+                            toJson(asset.getProperties(), MAP_TYPE), toJson(asset.getPrivateProperties(), MAP_TYPE),
+                            toJson(propertyTypes(asset.getProperties()), TYPES_TYPE), toJson(propertyTypes(asset.getPrivateProperties()), TYPES_TYPE),
+                            toJson(asset.getDataAddress().getProperties(), MAP_TYPE), assetId);
+                    return StoreResult.success(asset);
+                }
+                return StoreResult.notFound(format(ASSET_NOT_FOUND_TEMPLATE, assetId));
+
+            } catch (Exception e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public StoreResult<DataAddress> updateDataAddress(String assetId, DataAddress dataAddress) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                if (existsById(assetId, connection)) {
+                    queryExecutor.execute(connection, assetStatements.getUpdateDataAddressTemplate(), toJson(dataAddress.getProperties(), MAP_TYPE), assetId);
+                    return StoreResult.success(dataAddress);
+                }
+                return StoreResult.notFound(format(ASSET_NOT_FOUND_TEMPLATE, assetId));
+
+            } catch (Exception e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public DataAddress resolveForAsset(String assetId) {
+        Objects.requireNonNull(assetId);
+
+        return transactionContext.execute(() -> {
+            var sql = assetStatements.getFindDataAddressByIdTemplate();
+            try {
+                return queryExecutor.single(getConnection(), true, this::mapDataAddress, sql, assetId);
+            } catch (Exception e) {
+                if (e instanceof EdcPersistenceException) {
+                    throw (EdcPersistenceException) e;
+                } else {
+                    throw new EdcPersistenceException(e.getMessage(), e);
+                }
+            }
+        });
+    }
+
+    @Nullable
+    private Asset findById(Connection connection, String assetId) {
+        try (var stream = queryExecutor.query(connection, false, this::mapAsset, assetStatements.getSelectAssetByIdTemplate(), assetId)) {
+            return stream.findFirst().orElse(null);
+        }
+    }
+
+    private boolean existsById(String assetId, Connection connection) {
+        var sql = assetStatements.getCountAssetByIdClause();
+        try (var stream = queryExecutor.query(connection, false, r -> r.getInt(assetStatements.getCountVariableName()), sql, assetId)) {
+            return stream.findFirst().orElse(0) > 0;
+        }
+    }
+
+    private Asset mapAsset(ResultSet resultSet) throws SQLException, ClassNotFoundException {
+        var types = fromJson(resultSet.getString(assetStatements.getPropertyTypesColumn()), TYPES_TYPE);
+        var privateTypes = fromJson(resultSet.getString(assetStatements.getPrivatePropertyTypesColumn()), TYPES_TYPE);
+        return Asset.Builder.newInstance()
+                .id(resultSet.getString(assetStatements.getAssetIdColumn()))
+                .createdAt(resultSet.getLong(assetStatements.getCreatedAtColumn()))
+                .properties(toTypedProperties(fromJson(resultSet.getString(assetStatements.getPropertiesColumn()), MAP_TYPE), types))
+                .privateProperties(toTypedProperties(fromJson(resultSet.getString(assetStatements.getPrivatePropertiesColumn()), MAP_TYPE), privateTypes))
+                .dataAddress(mapDataAddress(resultSet))
+                .build();
+    }
+
+    private DataAddress mapDataAddress(ResultSet resultSet) throws SQLException {
+        return DataAddress.Builder.newInstance()
+                .properties(fromJson(resultSet.getString(assetStatements.getDataAddressColumn()), MAP_TYPE))
+                .build();
+    }
+
+    /**
+     * Collects the class names of the property values that are not strings. Properties and private properties are
+     * collected separately, as the same key can hold values of different types in each of them.
+     */
+    private Map<String, String> propertyTypes(Map<String, Object> properties) {
+        var types = new HashMap<String, String>();
+        properties.entrySet().stream()
+                .filter(entry -> entry.getValue() != null && !(entry.getValue() instanceof String))
+                .forEach(entry -> types.put(entry.getKey(), entry.getValue().getClass().getName()));
+        return types;
+    }
+
+    private Map<String, Object> toTypedProperties(Map<String, Object> properties, Map<String, String> types) throws ClassNotFoundException {
+        var typed = new HashMap<String, Object>();
+        for (var entry : properties.entrySet()) {
+            var type = types.get(entry.getKey());
+            typed.put(entry.getKey(), type == null ? entry.getValue() : objectMapper.convertValue(entry.getValue(), Class.forName(type)));
+        }
+        return typed;
+    }
+}
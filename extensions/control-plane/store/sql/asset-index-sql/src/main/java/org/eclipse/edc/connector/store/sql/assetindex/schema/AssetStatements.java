@@ -134,6 +134,20 @@ public interface AssetStatements extends SqlStatements {
      */
     String getFindDataAddressByIdTemplate();
 
+    /**
+     * SELECT clause for the properties of several assets.
+     *
+     * @param count the number of asset ids passed as parameters
+     */
+    String getFindPropertiesByIdsTemplate(int count);
+
+    /**
+     * SELECT clause for the data addresses of several assets.
+     *
+     * @param count the number of asset ids passed as parameters
+     */
+    String getFindDataAddressesByIdsTemplate(int count);
+
     /**
      * SELECT clause for all assets.
      */
@@ -22,6 +22,7 @@ import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.sql.translation.SqlConditionExpression;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
 
+import java.util.Collections;
 import java.util.List;
 
 import static java.lang.String.format;
@@ -77,6 +78,22 @@ public class BaseSqlDialectStatements implements AssetStatements {
                 getDataAddressAssetIdFkColumn());
     }
 
+    @Override
+    public String getFindPropertiesByIdsTemplate(int count) {
+        return format("SELECT * FROM %s WHERE %s IN (%s)",
+                getAssetPropertyTable(),
+                getPropertyAssetIdFkColumn(),
+                placeholders(count));
+    }
+
+    @Override
+    public String getFindDataAddressesByIdsTemplate(int count) {
+        return format("SELECT * FROM %s WHERE %s IN (%s)",
+                getDataAddressTable(),
+                getDataAddressAssetIdFkColumn(),
+                placeholders(count));
+    }
+
     @Override
     public String getSelectAssetTemplate() {
         return format("SELECT * FROM %s AS a", getAssetTable());
@@ -134,7 +151,7 @@ public class BaseSqlDialectStatements implements AssetStatements {
         conditions.forEach(condition -> statement
                 .addWhereClause(this.toSubSelect(condition), condition.toStatementParameter().toArray()));
 
-        return statement;
+        return statement.withKeyset(querySpec.getCursor(), "a." + getAssetIdColumn());
     }
 
     @Override
@@ -161,6 +178,10 @@ public class BaseSqlDialectStatements implements AssetStatements {
         return format(" WHERE %s", String.join(" AND ", subSelects));
     }
 
+    private String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
     /**
      * Converts a {@linkplain Criterion} into a dynamically assembled SELECT statement.
      */
@@ -0,0 +1,138 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.store.sql.assetindex.schema;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.sql.statement.SqlStatements;
+import org.eclipse.edc.sql.translation.SqlQueryStatement;
+
+import java.util.List;
+
+/**
+ * Defines queries used by the SqlJsonbAssetIndex, that stores every asset in a single row, with its properties,
+ * private properties and data address in JSONB columns.
+ */
+@ExtensionPoint
+public interface JsonbAssetStatements extends SqlStatements {
+
+    /**
+     * The asset table name.
+     */
+    default String getAssetTable() {
+        return "edc_asset_jsonb";
+    }
+
+    /**
+     * The asset table ID column.
+     */
+    default String getAssetIdColumn() {
+        return "asset_id";
+    }
+
+    default String getCreatedAtColumn() {
+        return "created_at";
+    }
+
+    /**
+     * The asset properties column.
+     */
+    default String getPropertiesColumn() {
+        return "properties";
+    }
+
+    /**
+     * The asset private properties column.
+     */
+    default String getPrivatePropertiesColumn() {
+        return "private_properties";
+    }
+
+    /**
+     * The column holding the class names of the property values that are not strings, by property name.
+     */
+    default String getPropertyTypesColumn() {
+        return "property_types";
+    }
+
+    /**
+     * The column holding the class names of the private property values that are not strings, by property name.
+     */
+    default String getPrivatePropertyTypesColumn() {
+        return "private_property_types";
+    }
+
+    /**
+     * The data address properties column.
+     */
+    default String getDataAddressColumn() {
+        return "data_address";
+    }
+
+    /**
+     * INSERT clause for assets.
+     */
+    String getInsertAssetTemplate();
+
+    /**
+     * UPDATE clause for the properties and the data address of an asset.
+     */
+    String getUpdateAssetTemplate();
+
+    /**
+     * UPDATE clause for the data address of an asset.
+     */
+    String getUpdateDataAddressTemplate();
+
+    /**
+     * SELECT COUNT clause for assets.
+     */
+    String getCountAssetByIdClause();
+
+    /**
+     * SELECT clause for a single asset.
+     */
+    String getSelectAssetByIdTemplate();
+
+    /**
+     * SELECT clause for the data address of an asset.
+     */
+    String getFindDataAddressByIdTemplate();
+
+    /**
+     * DELETE clause for assets.
+     */
+    String getDeleteAssetByIdTemplate();
+
+    /**
+     * The COUNT variable used in SELECT COUNT queries.
+     */
+    String getCountVariableName();
+
+    /**
+     * Generates a SQL query out of the query spec, translating the criteria to JSONB conditions.
+     *
+     * @return A {@link SqlQueryStatement} that contains the SQL and statement parameters
+     */
+    SqlQueryStatement createQuery(QuerySpec query);
+
+    /**
+     * Generates a SQL query out of the criteria, translating them to JSONB conditions.
+     *
+     * @return A {@link SqlQueryStatement} that contains the SQL and statement parameters
+     */
+    SqlQueryStatement createQuery(List<Criterion> query);
+}
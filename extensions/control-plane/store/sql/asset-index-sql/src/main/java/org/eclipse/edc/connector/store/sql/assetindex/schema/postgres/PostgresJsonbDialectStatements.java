@@ -0,0 +1,150 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.store.sql.assetindex.schema.postgres;
+
+import org.eclipse.edc.connector.store.sql.assetindex.schema.JsonbAssetStatements;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.sql.translation.SqlConditionExpression;
+import org.eclipse.edc.sql.translation.SqlQueryStatement;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.lang.String.format;
+
+/**
+ * PostgreSQL statements for the JSONB asset schema.
+ * <p>
+ * Criteria match both properties and private properties. Equality on a string value is translated to a JSONB
+ * containment check ({@code @>}), that is served by the GIN indexes on the property columns, while the other
+ * operators compare the text value of the property ({@code ->>}).
+ */
+public class PostgresJsonbDialectStatements implements JsonbAssetStatements {
+
+    @Override
+    public String getFormatAsJsonOperator() {
+        return "::jsonb";
+    }
+
+    @Override
+    public String getInsertAssetTemplate() {
+        return executeStatement()
+                .column(getAssetIdColumn())
+                .column(getCreatedAtColumn())
+                .jsonColumn(getPropertiesColumn())
+                .jsonColumn(getPrivatePropertiesColumn())
+                .jsonColumn(getPropertyTypesColumn())
+                .jsonColumn(getPrivatePropertyTypesColumn())
+                .jsonColumn(getDataAddressColumn())
+                .insertInto(getAssetTable());
+    }
+
+    @Override
+    public String getUpdateAssetTemplate() {
+        return executeStatement()
+                .jsonColumn(getPropertiesColumn())
+                .jsonColumn(getPrivatePropertiesColumn())
+                .jsonColumn(getPropertyTypesColumn())
+                .jsonColumn(getPrivatePropertyTypesColumn())
+                .jsonColumn(getDataAddressColumn())
+                .update(getAssetTable(), getAssetIdColumn());
+    }
+
+    @Override
+    public String getUpdateDataAddressTemplate() {
+        return executeStatement()
+                .jsonColumn(getDataAddressColumn())
+                .update(getAssetTable(), getAssetIdColumn());
+    }
+
+    @Override
+    public String getCountAssetByIdClause() {
+        return format("SELECT COUNT(*) AS %s FROM %s WHERE %s = ?",
+                getCountVariableName(),
+                getAssetTable(),
+                getAssetIdColumn());
+    }
+
+    @Override
+    public String getSelectAssetByIdTemplate() {
+        return format("SELECT * FROM %s WHERE %s = ?", getAssetTable(), getAssetIdColumn());
+    }
+
+    @Override
+    public String getFindDataAddressByIdTemplate() {
+        return format("SELECT %s FROM %s WHERE %s = ?", getDataAddressColumn(), getAssetTable(), getAssetIdColumn());
+    }
+
+    @Override
+    public String getDeleteAssetByIdTemplate() {
+        return executeStatement()
+                .delete(getAssetTable(), getAssetIdColumn());
+    }
+
+    @Override
+    public String getCountVariableName() {
+        return "COUNT";
+    }
+
+    @Override
+    public SqlQueryStatement createQuery(QuerySpec querySpec) {
+        var conditions = querySpec.getFilterExpression().stream().map(SqlConditionExpression::new).toList();
+        var validation = conditions.stream()
+                .map(SqlConditionExpression::isValidExpression)
+                .reduce(Result::merge)
+                .orElse(Result.success());
+
+        if (validation.failed()) {
+            throw new IllegalArgumentException(validation.getFailureDetail());
+        }
+
+        var statement = new SqlQueryStatement(format("SELECT * FROM %s AS a", getAssetTable()), querySpec.getLimit(), querySpec.getOffset());
+
+        conditions.forEach(condition -> addWhereClause(statement, condition));
+
+        return statement.withKeyset(querySpec.getCursor(), "a." + getAssetIdColumn());
+    }
+
+    @Override
+    public SqlQueryStatement createQuery(List<Criterion> criteria) {
+        return createQuery(QuerySpec.Builder.newInstance()
+                .filter(criteria)
+                .offset(0)
+                .limit(Integer.MAX_VALUE)
+                .build());
+    }
+
+    private void addWhereClause(SqlQueryStatement statement, SqlConditionExpression condition) {
+        var criterion = condition.getCriterion();
+        var key = criterion.getOperandLeft().toString();
+        var value = criterion.getOperandRight();
+
+        if ("=".equals(criterion.getOperator()) && value instanceof String) {
+            statement.addWhereClause(format("(%s @> jsonb_build_object(?::text, ?::text) OR %s @> jsonb_build_object(?::text, ?::text))",
+                    getPropertiesColumn(), getPrivatePropertiesColumn()), key, value, key, value);
+            return;
+        }
+
+        var parameters = new ArrayList<>();
+        parameters.add(key);
+        parameters.add(key);
+        condition.toStatementParameter().skip(1).map(Object::toString).forEach(parameters::add);
+
+        statement.addWhereClause(format("COALESCE(%s ->> ?, %s ->> ?) %s %s",
+                getPropertiesColumn(), getPrivatePropertiesColumn(), criterion.getOperator(), condition.toValuePlaceholder()), parameters.toArray());
+    }
+}
@@ -20,17 +20,22 @@ import org.eclipse.edc.connector.store.sql.assetindex.schema.BaseSqlDialectState
 import org.eclipse.edc.connector.store.sql.assetindex.schema.postgres.PostgresDialectStatements;
 import org.eclipse.edc.junit.annotations.ComponentTest;
 import org.eclipse.edc.policy.model.PolicyRegistrationTypes;
+import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.testfixtures.asset.AssetIndexTestBase;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 @ComponentTest
 @ExtendWith(PostgresqlStoreSetupExtension.class)
@@ -59,6 +64,32 @@ class PostgresAssetIndexTest extends AssetIndexTestBase {
         setupExtension.runQuery("DROP TABLE " + sqlStatements.getAssetPropertyTable() + " CASCADE");
     }
 
+    @Test
+    void queryAssets_shouldFetchAssetsInBatches() {
+        var assets = IntStream.range(0, 1200)
+                .mapToObj(i -> createAssetBuilder("id" + i).privateProperty("private" + i, "value" + i).build())
+                .peek(asset -> sqlAssetIndex.create(asset))
+                .toList();
+
+        var result = sqlAssetIndex.queryAssets(QuerySpec.max()).toList();
+
+        assertThat(result).hasSize(1200).usingRecursiveFieldByFieldElementComparator().containsExactlyInAnyOrderElementsOf(assets);
+    }
+
+    @Test
+    void queryAssets_shouldSkipAssetsDeletedBeforeBeingFetched() {
+        sqlAssetIndex.create(createAssetBuilder("id1").build());
+        sqlAssetIndex.create(createAssetBuilder("id2").build());
+
+        var result = sqlAssetIndex.queryAssets(QuerySpec.max());
+        sqlAssetIndex.deleteById("id1");
+
+        assertThat(result.toList()).hasSize(1).first().satisfies(asset -> {
+            assertThat(asset.getId()).isEqualTo("id2");
+            assertThat(asset.getDataAddress()).isNotNull();
+        });
+    }
+
     @Override
     protected SqlAssetIndex getAssetIndex() {
         return sqlAssetIndex;
@@ -0,0 +1,101 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.store.sql.assetindex;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.connector.store.sql.assetindex.schema.JsonbAssetStatements;
+import org.eclipse.edc.connector.store.sql.assetindex.schema.postgres.PostgresDialectStatements;
+import org.eclipse.edc.connector.store.sql.assetindex.schema.postgres.PostgresJsonbDialectStatements;
+import org.eclipse.edc.junit.annotations.ComponentTest;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.testfixtures.asset.AssetIndexTestBase;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ComponentTest
+@ExtendWith(PostgresqlStoreSetupExtension.class)
+class PostgresJsonbAssetIndexTest extends AssetIndexTestBase {
+
+    private final JsonbAssetStatements sqlStatements = new PostgresJsonbDialectStatements();
+
+    private SqlJsonbAssetIndex sqlAssetIndex;
+
+    @BeforeEach
+    void setUp(PostgresqlStoreSetupExtension setupExtension, QueryExecutor queryExecutor) throws IOException {
+        sqlAssetIndex = new SqlJsonbAssetIndex(setupExtension.getDataSourceRegistry(), setupExtension.getDatasourceName(),
+                setupExtension.getTransactionContext(), new ObjectMapper(), sqlStatements, queryExecutor);
+
+        var schema = Files.readString(Paths.get("docs/schema-jsonb.sql"));
+        setupExtension.runQuery(schema);
+    }
+
+    @AfterEach
+    void tearDown(PostgresqlStoreSetupExtension setupExtension) {
+        setupExtension.runQuery("DROP TABLE " + sqlStatements.getAssetTable() + " CASCADE");
+    }
+
+    @Test
+    void findById_shouldKeepTypes_whenPropertyAndPrivatePropertyShareKey() {
+        var asset = createAssetBuilder("id1")
+                .property("shared", new TestObject("test123", 42, false))
+                .privateProperty("shared", "value")
+                .build();
+        sqlAssetIndex.create(asset);
+
+        var found = sqlAssetIndex.findById("id1");
+
+        assertThat(found).isNotNull();
+        assertThat(found.getProperty("shared")).isEqualTo(new TestObject("test123", 42, false));
+        assertThat(found.getPrivateProperty("shared")).isEqualTo("value");
+    }
+
+    @Test
+    void migration_shouldCopyAssetsFromPropertySchema(PostgresqlStoreSetupExtension setupExtension, QueryExecutor queryExecutor) throws IOException {
+        var propertyStatements = new PostgresDialectStatements();
+        var propertyAssetIndex = new SqlAssetIndex(setupExtension.getDataSourceRegistry(), setupExtension.getDatasourceName(),
+                setupExtension.getTransactionContext(), new ObjectMapper(), propertyStatements, queryExecutor);
+        setupExtension.runQuery(Files.readString(Paths.get("docs/schema.sql")));
+        var asset = createAssetBuilder("id1")
+                .property("testobj", new TestObject("test123", 42, false))
+                .privateProperty("private", "value")
+                .build();
+        propertyAssetIndex.create(asset);
+
+        setupExtension.runQuery(Files.readString(Paths.get("docs/migration-jsonb.sql")));
+
+        var migrated = sqlAssetIndex.queryAssets(QuerySpec.none()).toList();
+        assertThat(migrated).hasSize(1).first().usingRecursiveComparison().isEqualTo(asset);
+
+        setupExtension.runQuery("DROP TABLE " + propertyStatements.getAssetTable() + " CASCADE");
+        setupExtension.runQuery("DROP TABLE " + propertyStatements.getDataAddressTable() + " CASCADE");
+        setupExtension.runQuery("DROP TABLE " + propertyStatements.getAssetPropertyTable() + " CASCADE");
+    }
+
+    @Override
+    protected SqlJsonbAssetIndex getAssetIndex() {
+        return sqlAssetIndex;
+    }
+
+}
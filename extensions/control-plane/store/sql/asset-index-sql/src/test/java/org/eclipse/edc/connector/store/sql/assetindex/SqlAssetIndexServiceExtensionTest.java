@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.store.sql.assetindex;
 
 import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.asset.AssetIndex;
 import org.eclipse.edc.spi.asset.DataAddressResolver;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
@@ -26,8 +27,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.eclipse.edc.connector.store.sql.assetindex.ConfigurationKeys.DATASOURCE_SETTING_NAME;
+import static org.eclipse.edc.connector.store.sql.assetindex.ConfigurationKeys.JSONB_SCHEMA;
+import static org.eclipse.edc.connector.store.sql.assetindex.ConfigurationKeys.PROPERTY_SCHEMA;
+import static org.eclipse.edc.connector.store.sql.assetindex.ConfigurationKeys.SCHEMA_SETTING_NAME;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
@@ -50,7 +56,8 @@ public class SqlAssetIndexServiceExtensionTest {
     void shouldInitializeTheStore(SqlAssetIndexServiceExtension extension) {
         var config = mock(Config.class);
         when(context.getConfig()).thenReturn(config);
-        when(config.getString(any(), any())).thenReturn("test");
+        when(config.getString(eq(DATASOURCE_SETTING_NAME), any())).thenReturn("test");
+        when(config.getString(eq(SCHEMA_SETTING_NAME), any())).thenReturn(PROPERTY_SCHEMA);
 
         extension.initialize(context);
 
@@ -62,4 +69,27 @@ public class SqlAssetIndexServiceExtensionTest {
 
         verify(config).getString(DATASOURCE_SETTING_NAME, DataSourceRegistry.DEFAULT_DATASOURCE);
     }
+
+    @Test
+    void shouldInitializeTheJsonbStore(SqlAssetIndexServiceExtension extension) {
+        var config = mock(Config.class);
+        when(context.getConfig()).thenReturn(config);
+        when(config.getString(eq(DATASOURCE_SETTING_NAME), any())).thenReturn("test");
+        when(config.getString(eq(SCHEMA_SETTING_NAME), any())).thenReturn(JSONB_SCHEMA);
+
+        extension.initialize(context);
+
+        assertThat(context.getService(AssetIndex.class)).isInstanceOf(SqlJsonbAssetIndex.class);
+        assertThat(context.getService(DataAddressResolver.class)).isInstanceOf(SqlJsonbAssetIndex.class);
+    }
+
+    @Test
+    void shouldFail_whenSchemaIsInvalid(SqlAssetIndexServiceExtension extension) {
+        var config = mock(Config.class);
+        when(context.getConfig()).thenReturn(config);
+        when(config.getString(eq(DATASOURCE_SETTING_NAME), any())).thenReturn("test");
+        when(config.getString(eq(SCHEMA_SETTING_NAME), any())).thenReturn("unknown");
+
+        assertThatThrownBy(() -> extension.initialize(context)).isInstanceOf(EdcException.class);
+    }
 }
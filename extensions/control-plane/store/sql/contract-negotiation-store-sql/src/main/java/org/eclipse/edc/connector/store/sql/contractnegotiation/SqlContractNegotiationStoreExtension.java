@@ -58,6 +58,7 @@ public class SqlContractNegotiationStoreExtension implements ServiceExtension {
     public void initialize(ServiceExtensionContext context) {
         var sqlStore = new SqlContractNegotiationStore(dataSourceRegistry, getDataSourceName(context), trxContext,
                 typeManager.getMapper(), getStatementImpl(), context.getConnectorId(), clock, queryExecutor);
+        sqlStore.getLeaseStatistics().reportTo(context.getMonitor(), "ContractNegotiation");
         context.registerService(ContractNegotiationStore.class, sqlStore);
     }
 
@@ -54,6 +54,16 @@ public interface ContractNegotiationStatements extends StatefulEntityStatements,
         return "id";
     }
 
+    @Override
+    default String getLeasedEntityTableName() {
+        return getContractNegotiationTable();
+    }
+
+    @Override
+    default String getLeasedEntityIdColumn() {
+        return getIdColumn();
+    }
+
     default String getCounterPartyIdColumn() {
         return "counterparty_id";
     }
@@ -49,4 +49,9 @@ public class PostgresDialectStatements extends BaseSqlDialectStatements {
     public String getFormatAsJsonOperator() {
         return PostgresDialect.getJsonCastOperator();
     }
+
+    @Override
+    public String getSkipLockedClause() {
+        return PostgresDialect.getSkipLockedClause(getLeasedEntityTableName());
+    }
 }
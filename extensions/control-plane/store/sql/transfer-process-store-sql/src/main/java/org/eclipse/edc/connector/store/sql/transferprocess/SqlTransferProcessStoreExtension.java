@@ -58,6 +58,7 @@ public class SqlTransferProcessStoreExtension implements ServiceExtension {
     public void initialize(ServiceExtensionContext context) {
         var store = new SqlTransferProcessStore(dataSourceRegistry, getDataSourceName(context), trxContext,
                 typeManager.getMapper(), getStatementImpl(), context.getConnectorId(), clock, queryExecutor);
+        store.getLeaseStatistics().reportTo(context.getMonitor(), "TransferProcess");
         context.registerService(TransferProcessStore.class, store);
     }
 
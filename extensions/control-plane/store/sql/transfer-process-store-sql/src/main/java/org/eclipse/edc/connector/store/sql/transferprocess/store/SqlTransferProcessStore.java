@@ -29,6 +29,7 @@ import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.lease.SqlLeaseContextBuilder;
+import org.eclipse.edc.sql.lease.SqlLeaseStatistics;
 import org.eclipse.edc.sql.store.AbstractSqlStore;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
@@ -75,21 +76,29 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
             var filter = Arrays.stream(criteria).collect(toList());
             var querySpec = QuerySpec.Builder.newInstance().filter(filter).limit(max).build();
             var statement = statements.createQuery(querySpec)
-                    .addWhereClause(statements.getNotLeasedFilter(), clock.millis());
+                    .addWhereClause(statements.getNotLeasedFilter(), clock.millis())
+                    .withLockingClause(statements.getSkipLockedClause());
 
             try (
                     var connection = getConnection();
                     var stream = queryExecutor.query(connection, true, this::mapTransferProcess, statement.getQueryAsString(), statement.getParameters())
             ) {
                 var transferProcesses = stream.collect(Collectors.toList());
-                transferProcesses.forEach(transferProcess -> leaseContext.withConnection(connection).acquireLease(transferProcess.getId()));
-                return transferProcesses;
+                var leased = leaseContext.withConnection(connection).acquireLeases(transferProcesses.stream().map(TransferProcess::getId).toList());
+                return transferProcesses.stream().filter(transferProcess -> leased.contains(transferProcess.getId())).collect(Collectors.toList());
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
         });
     }
 
+    /**
+     * Returns the lease claim and conflict counters of this runtime, useful to detect contention between replicas.
+     */
+    public SqlLeaseStatistics getLeaseStatistics() {
+        return leaseContext.getStatistics();
+    }
+
     @Override
     public StoreResult<TransferProcess> findByIdAndLease(String id) {
         return transactionContext.execute(() -> {
@@ -46,6 +46,16 @@ public interface TransferProcessStoreStatements extends StatefulEntityStatements
         return "transferprocess_id";
     }
 
+    @Override
+    default String getLeasedEntityTableName() {
+        return getTransferProcessTableName();
+    }
+
+    @Override
+    default String getLeasedEntityIdColumn() {
+        return getIdColumn();
+    }
+
     default String getResourceManifestColumn() {
         return "resource_manifest";
     }
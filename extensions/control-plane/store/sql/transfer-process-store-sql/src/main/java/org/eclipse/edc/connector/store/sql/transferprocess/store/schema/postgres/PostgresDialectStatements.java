@@ -36,6 +36,11 @@ public class PostgresDialectStatements extends BaseSqlDialectStatements {
         return PostgresDialect.getJsonCastOperator();
     }
 
+    @Override
+    public String getSkipLockedClause() {
+        return PostgresDialect.getSkipLockedClause(getLeasedEntityTableName());
+    }
+
     @Override
     public SqlQueryStatement createQuery(QuerySpec querySpec) {
         // if any criterion targets a JSON array field, we need to slightly adapt the FROM clause
@@ -17,7 +17,9 @@ package org.eclipse.edc.connector.dataplane.api;
 import org.eclipse.edc.connector.api.control.configuration.ControlApiConfiguration;
 import org.eclipse.edc.connector.dataplane.api.controller.DataPlaneControlApiController;
 import org.eclipse.edc.connector.dataplane.api.controller.DataPlanePublicApiController;
+import org.eclipse.edc.connector.dataplane.api.validation.CachingDataAddressResolver;
 import org.eclipse.edc.connector.dataplane.api.validation.ConsumerPullTransferDataAddressResolver;
+import org.eclipse.edc.connector.dataplane.spi.resolver.DataAddressResolver;
 import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
@@ -32,6 +34,8 @@ import org.eclipse.edc.web.spi.WebService;
 import org.eclipse.edc.web.spi.configuration.WebServiceConfigurer;
 import org.eclipse.edc.web.spi.configuration.WebServiceSettings;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.concurrent.Executors;
 
 /**
@@ -46,10 +50,22 @@ public class DataPlaneApiExtension implements ServiceExtension {
     private static final String PUBLIC_API_CONFIG = "web.http.public";
     private static final String PUBLIC_CONTEXT_ALIAS = "public";
     private static final String PUBLIC_CONTEXT_PATH = "/api/v1/public";
+    private static final int DEFAULT_TOKEN_CACHE_SIZE = 0;
+    private static final long DEFAULT_TOKEN_CACHE_TTL_SECONDS = 60;
+    private static final int DEFAULT_PUBLIC_API_THREADS = 10;
 
     @Setting
     private static final String CONTROL_PLANE_VALIDATION_ENDPOINT = "edc.dataplane.token.validation.endpoint";
 
+    @Setting(value = "Maximum number of resolved tokens kept in the data address cache. 0 disables the cache. A cached token is not validated again by the control plane, so it stays usable for up to the cache time-to-live after its agreement or transfer process has been revoked.", type = "int", defaultValue = DEFAULT_TOKEN_CACHE_SIZE + "")
+    private static final String TOKEN_CACHE_SIZE = "edc.dataplane.token.validation.cache.size";
+
+    @Setting(value = "Maximum time in seconds a resolved token is kept in the data address cache. Tokens are never cached past their expiration. A revoked token stays usable for up to this time, as the control plane is not called while it is cached.", type = "long", defaultValue = DEFAULT_TOKEN_CACHE_TTL_SECONDS + "")
+    private static final String TOKEN_CACHE_TTL = "edc.dataplane.token.validation.cache.ttl";
+
+    @Setting(value = "Maximum number of pull responses streamed concurrently by the public API. Further requests wait for a free thread.", type = "int", defaultValue = DEFAULT_PUBLIC_API_THREADS + "")
+    private static final String PUBLIC_API_THREADS = "edc.dataplane.api.public.threads";
+
     private static final WebServiceSettings PUBLIC_SETTINGS = WebServiceSettings.Builder.newInstance()
             .apiConfigKey(PUBLIC_API_CONFIG)
             .contextAlias(PUBLIC_CONTEXT_ALIAS)
@@ -79,6 +95,9 @@ public class DataPlaneApiExtension implements ServiceExtension {
     @Inject
     private TypeManager typeManager;
 
+    @Inject
+    private Clock clock;
+
     @Override
     public String name() {
         return NAME;
@@ -90,15 +109,22 @@ public class DataPlaneApiExtension implements ServiceExtension {
 
         var validationEndpoint = context.getConfig().getString(CONTROL_PLANE_VALIDATION_ENDPOINT);
 
-        var dataAddressResolver = new ConsumerPullTransferDataAddressResolver(httpClient, validationEndpoint, typeManager.getMapper());
+        DataAddressResolver dataAddressResolver = new ConsumerPullTransferDataAddressResolver(httpClient, validationEndpoint, typeManager.getMapper());
+
+        var cacheSize = context.getSetting(TOKEN_CACHE_SIZE, DEFAULT_TOKEN_CACHE_SIZE);
+        if (cacheSize > 0) {
+            var cacheTtl = Duration.ofSeconds(context.getSetting(TOKEN_CACHE_TTL, DEFAULT_TOKEN_CACHE_TTL_SECONDS));
+            dataAddressResolver = new CachingDataAddressResolver(dataAddressResolver, typeManager.getMapper(), clock, cacheTtl, cacheSize);
+        }
 
+        var threads = context.getSetting(PUBLIC_API_THREADS, DEFAULT_PUBLIC_API_THREADS);
         var executorService = context.getService(ExecutorInstrumentation.class)
-                .instrument(Executors.newSingleThreadExecutor(), DataPlanePublicApiController.class.getSimpleName());
+                .instrument(Executors.newFixedThreadPool(threads), DataPlanePublicApiController.class.getSimpleName());
 
         webService.registerResource(controlApiConfiguration.getContextAlias(), new DataPlaneControlApiController(dataPlaneManager));
 
         var configuration = webServiceConfigurer.configure(context, webServer, PUBLIC_SETTINGS);
-        var publicApiController = new DataPlanePublicApiController(dataPlaneManager, dataAddressResolver);
+        var publicApiController = new DataPlanePublicApiController(dataPlaneManager, dataAddressResolver, executorService, monitor);
         webService.registerResource(configuration.getContextAlias(), publicApiController);
     }
 }
@@ -29,12 +29,18 @@ import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
 import org.eclipse.edc.connector.dataplane.spi.resolver.DataAddressResolver;
+import org.eclipse.edc.connector.dataplane.util.sink.AsyncStreamingDataSink;
+import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.web.spi.exception.NotAuthorizedException;
 
+import java.io.OutputStream;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
 
 import static java.lang.String.format;
 import static java.lang.String.join;
@@ -48,11 +54,17 @@ public class DataPlanePublicApiController implements DataPlanePublicApi {
     private final DataPlaneManager dataPlaneManager;
     private final DataAddressResolver dataAddressResolver;
     private final DataFlowRequestSupplier requestSupplier;
+    private final ExecutorService executorService;
+    private final Monitor monitor;
 
     public DataPlanePublicApiController(DataPlaneManager dataPlaneManager,
-                                        DataAddressResolver dataAddressResolver) {
+                                        DataAddressResolver dataAddressResolver,
+                                        ExecutorService executorService,
+                                        Monitor monitor) {
         this.dataPlaneManager = dataPlaneManager;
         this.dataAddressResolver = dataAddressResolver;
+        this.executorService = executorService;
+        this.monitor = monitor;
         this.requestSupplier = new DataFlowRequestSupplier();
     }
 
@@ -130,11 +142,16 @@ public class DataPlanePublicApiController implements DataPlanePublicApi {
             return;
         }
 
-        dataPlaneManager.transfer(dataFlowRequest)
+        // stream the source content straight into the response instead of buffering it in memory
+        var sink = new AsyncStreamingDataSink(new AsyncResponseContextImpl(response), executorService, monitor);
+
+        dataPlaneManager.transfer(sink, dataFlowRequest)
                 .whenComplete((result, throwable) -> {
                     if (throwable == null) {
                         if (result.succeeded()) {
-                            response.resume(Response.ok(result.getContent()).build());
+                            if (!response.isDone()) {
+                                response.resume(Response.ok().build());
+                            }
                         } else {
                             response.resume(internalErrors(result.getFailureMessages()));
                         }
@@ -158,4 +175,25 @@ public class DataPlanePublicApiController implements DataPlanePublicApi {
         }
         return result.getContent();
     }
+
+    /**
+     * Resumes the {@link AsyncResponse} with a {@link StreamingOutput} that writes the data directly to the client.
+     */
+    private static class AsyncResponseContextImpl implements AsyncStreamingDataSink.AsyncResponseContext {
+        private final AsyncResponse response;
+
+        AsyncResponseContextImpl(AsyncResponse response) {
+            this.response = response;
+        }
+
+        @Override
+        public boolean register(Consumer<OutputStream> consumer) {
+            return register(consumer, MediaType.APPLICATION_OCTET_STREAM);
+        }
+
+        @Override
+        public boolean register(Consumer<OutputStream> consumer, String mediaType) {
+            return response.resume(Response.ok((StreamingOutput) consumer::accept, mediaType).build());
+        }
+    }
 }
@@ -0,0 +1,141 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.api.validation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.connector.dataplane.spi.resolver.DataAddressResolver;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@link DataAddressResolver} decorator that caches successfully resolved tokens, so that repeated calls with the same
+ * token do not require a round trip to the token validation server.
+ * Entries are keyed by the SHA-256 hash of the token and are evicted after the configured time-to-live or when the
+ * token expires (as stated by its {@code exp} claim), whichever comes first. When the maximum size is reached the
+ * least recently used entry is evicted.
+ * <p>
+ * A cached token is not sent to the token validation server again, so the revocation of its agreement or transfer
+ * process, and the contract validation rules, are only enforced once the entry has been evicted.
+ */
+public class CachingDataAddressResolver implements DataAddressResolver {
+
+    private final DataAddressResolver delegate;
+    private final ObjectMapper mapper;
+    private final Clock clock;
+    private final Duration ttl;
+    private final Map<String, Entry> cache;
+
+    public CachingDataAddressResolver(DataAddressResolver delegate, ObjectMapper mapper, Clock clock, Duration ttl, int maxSize) {
+        this.delegate = delegate;
+        this.mapper = mapper;
+        this.clock = clock;
+        this.ttl = ttl;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    @Override
+    public Result<DataAddress> resolve(String token) {
+        var key = hash(token);
+        var now = clock.instant();
+
+        synchronized (cache) {
+            var entry = cache.get(key);
+            if (entry != null) {
+                if (now.isBefore(entry.expiresAt())) {
+                    return Result.success(entry.dataAddress());
+                }
+                cache.remove(key);
+            }
+        }
+
+        var result = delegate.resolve(token);
+        if (result.succeeded()) {
+            var expiresAt = expiration(token, now);
+            if (now.isBefore(expiresAt)) {
+                synchronized (cache) {
+                    cache.put(key, new Entry(result.getContent(), expiresAt));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the instant when the cache entry for the token should expire, that is the earliest between the token
+     * {@code exp} claim and the configured time-to-live.
+     */
+    private Instant expiration(String token, Instant now) {
+        var maxExpiration = now.plus(ttl);
+        var exp = readExpirationClaim(token);
+        if (exp == null) {
+            return maxExpiration;
+        }
+        return exp.isBefore(maxExpiration) ? exp : maxExpiration;
+    }
+
+    /**
+     * Reads the {@code exp} claim from the (already validated) JWT without verifying its signature, as it is used
+     * only to bound the lifetime of the cache entry.
+     */
+    @Nullable
+    private Instant readExpirationClaim(String token) {
+        var parts = stripScheme(token).split("\\.");
+        if (parts.length < 2) {
+            return null;
+        }
+        try {
+            var payload = mapper.readTree(Base64.getUrlDecoder().decode(parts[1]));
+            var exp = payload.get("exp");
+            return exp != null && exp.canConvertToLong() ? Instant.ofEpochSecond(exp.asLong()) : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private String stripScheme(String token) {
+        var index = token.lastIndexOf(' ');
+        return index < 0 ? token : token.substring(index + 1);
+    }
+
+    private String hash(String token) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    private record Entry(DataAddress dataAddress, Instant expiresAt) {
+    }
+}
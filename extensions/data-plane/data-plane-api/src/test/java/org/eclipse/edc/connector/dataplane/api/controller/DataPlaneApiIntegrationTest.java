@@ -20,6 +20,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.restassured.http.ContentType;
 import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSink;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.connector.dataplane.util.sink.OutputStreamDataSinkFactory;
 import org.eclipse.edc.junit.annotations.ApiTest;
@@ -224,7 +225,7 @@ class DataPlaneApiIntegrationTest {
                         .withBody(MAPPER.writeValueAsString(testDestAddress()))
                 );
         when(dataPlaneManager.validate(any())).thenReturn(Result.success(true));
-        when(dataPlaneManager.transfer(any()))
+        when(dataPlaneManager.transfer(any(DataSink.class), any(DataFlowRequest.class)))
                 .thenReturn(completedFuture(StreamResult.error(errorMsg)));
 
         given()
@@ -248,7 +249,7 @@ class DataPlaneApiIntegrationTest {
                         .withBody(MAPPER.writeValueAsString(testDestAddress()))
                 );
         when(dataPlaneManager.validate(any())).thenReturn(Result.success(true));
-        when(dataPlaneManager.transfer(any(DataFlowRequest.class)))
+        when(dataPlaneManager.transfer(any(DataSink.class), any(DataFlowRequest.class)))
                 .thenReturn(failedFuture(new RuntimeException(errorMsg)));
 
         given()
@@ -274,7 +275,7 @@ class DataPlaneApiIntegrationTest {
                         .withBody(MAPPER.writeValueAsString(address))
                 );
         when(dataPlaneManager.validate(any())).thenReturn(Result.success(true));
-        when(dataPlaneManager.transfer(any()))
+        when(dataPlaneManager.transfer(any(DataSink.class), any(DataFlowRequest.class)))
                 .thenReturn(completedFuture(StreamResult.success()));
 
         given()
@@ -286,7 +287,7 @@ class DataPlaneApiIntegrationTest {
                 .statusCode(Response.Status.OK.getStatusCode());
 
         verify(dataPlaneManager).validate(requestCaptor.capture());
-        verify(dataPlaneManager).transfer(requestCaptor.capture());
+        verify(dataPlaneManager).transfer(any(DataSink.class), requestCaptor.capture());
         var capturedRequests = requestCaptor.getAllValues();
         assertThat(capturedRequests)
                 .hasSize(2)
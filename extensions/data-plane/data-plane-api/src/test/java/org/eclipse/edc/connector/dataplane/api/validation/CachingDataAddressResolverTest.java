@@ -0,0 +1,123 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.api.validation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.connector.dataplane.spi.resolver.DataAddressResolver;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingDataAddressResolverTest {
+
+    private static final ObjectMapper MAPPER = new TypeManager().getMapper();
+    private static final Instant NOW = Instant.parse("2023-06-01T10:00:00Z");
+
+    private final DataAddressResolver delegate = mock(DataAddressResolver.class);
+    private final DataAddress address = DataAddress.Builder.newInstance().type("test").build();
+
+    @Test
+    void resolve_shouldCacheSuccessfulResult() {
+        when(delegate.resolve(any())).thenReturn(Result.success(address));
+        var resolver = new CachingDataAddressResolver(delegate, MAPPER, Clock.fixed(NOW, ZoneOffset.UTC), Duration.ofMinutes(1), 10);
+
+        var first = resolver.resolve("token");
+        var second = resolver.resolve("token");
+
+        assertThat(first.succeeded()).isTrue();
+        assertThat(second.succeeded()).isTrue();
+        assertThat(second.getContent()).isSameAs(address);
+        verify(delegate, times(1)).resolve("token");
+    }
+
+    @Test
+    void resolve_shouldNotCacheFailedResult() {
+        when(delegate.resolve(any())).thenReturn(Result.failure("error"));
+        var resolver = new CachingDataAddressResolver(delegate, MAPPER, Clock.fixed(NOW, ZoneOffset.UTC), Duration.ofMinutes(1), 10);
+
+        resolver.resolve("token");
+        var result = resolver.resolve("token");
+
+        assertThat(result.failed()).isTrue();
+        verify(delegate, times(2)).resolve("token");
+    }
+
+    @Test
+    void resolve_shouldEvictEntry_whenTtlElapsed() {
+        when(delegate.resolve(any())).thenReturn(Result.success(address));
+        var clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(NOW, NOW.plusSeconds(61));
+        var resolver = new CachingDataAddressResolver(delegate, MAPPER, clock, Duration.ofMinutes(1), 10);
+
+        resolver.resolve("token");
+        resolver.resolve("token");
+
+        verify(delegate, times(2)).resolve("token");
+    }
+
+    @Test
+    void resolve_shouldEvictEntry_whenTokenExpired() {
+        when(delegate.resolve(any())).thenReturn(Result.success(address));
+        var token = jwt(NOW.plusSeconds(10));
+        var clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(NOW, NOW.plusSeconds(5), NOW.plusSeconds(11));
+        var resolver = new CachingDataAddressResolver(delegate, MAPPER, clock, Duration.ofMinutes(1), 10);
+
+        resolver.resolve(token);
+        resolver.resolve(token);
+        resolver.resolve(token);
+
+        verify(delegate, times(2)).resolve(token);
+    }
+
+    @Test
+    void resolve_shouldEvictLeastRecentlyUsed_whenMaxSizeReached() {
+        when(delegate.resolve(any())).thenReturn(Result.success(address));
+        var resolver = new CachingDataAddressResolver(delegate, MAPPER, Clock.fixed(NOW, ZoneOffset.UTC), Duration.ofMinutes(1), 2);
+
+        resolver.resolve("token1");
+        resolver.resolve("token2");
+        resolver.resolve("token1");
+        resolver.resolve("token3");
+        resolver.resolve("token1");
+        resolver.resolve("token2");
+
+        verify(delegate, times(1)).resolve("token1");
+        verify(delegate, times(2)).resolve("token2");
+        verify(delegate, times(1)).resolve("token3");
+    }
+
+    private String jwt(Instant expiration) {
+        var encoder = Base64.getUrlEncoder().withoutPadding();
+        var header = encoder.encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8));
+        var payload = encoder.encodeToString(("{\"exp\":" + expiration.getEpochSecond() + "}").getBytes(StandardCharsets.UTF_8));
+        return header + "." + payload + ".signature";
+    }
+}
@@ -28,10 +28,14 @@ import org.eclipse.edc.runtime.metamodel.annotation.Provides;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.http.EdcHttpClient;
 import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 /**
  * Provides support for reading data from an HTTP endpoint and sending data to an HTTP endpoint.
  */
@@ -40,10 +44,26 @@ import org.eclipse.edc.spi.types.TypeManager;
 public class DataPlaneHttpExtension implements ServiceExtension {
     public static final String NAME = "Data Plane HTTP";
     private static final int DEFAULT_PART_SIZE = 5;
+    private static final int DEFAULT_SOURCE_RANGE_PARTS = 1;
+    private static final int DEFAULT_SOURCE_RANGE_THREADS = 10;
+    private static final int DEFAULT_SINK_MAX_CONCURRENCY = 0;
+    private static final int DEFAULT_SINK_PART_RETRIES = 0;
 
     @Setting
     private static final String EDC_DATAPLANE_HTTP_SINK_PARTITION_SIZE = "edc.dataplane.http.sink.partition.size";
 
+    @Setting(value = "Maximum number of partitions sent concurrently for a single transfer. 0 means unbounded", type = "int", defaultValue = DEFAULT_SINK_MAX_CONCURRENCY + "")
+    private static final String EDC_DATAPLANE_HTTP_SINK_MAX_CONCURRENCY = "edc.dataplane.http.sink.max.concurrency";
+
+    @Setting(value = "Number of times a part is sent again after an I/O error, a server error or a 429 response. Other client errors, and parts whose content can be read only once, are not retried", type = "int", defaultValue = DEFAULT_SINK_PART_RETRIES + "")
+    private static final String EDC_DATAPLANE_HTTP_SINK_PART_RETRIES = "edc.dataplane.http.sink.part.retries";
+
+    @Setting(value = "Maximum number of 1 MiB HTTP range requests run concurrently for a single source, when the source supports them. The ranges are buffered in memory until they are read in order. 1 disables the splitting", type = "int", defaultValue = DEFAULT_SOURCE_RANGE_PARTS + "")
+    private static final String EDC_DATAPLANE_HTTP_SOURCE_RANGE_PARTS = "edc.dataplane.http.source.range.parts";
+
+    @Setting(value = "Number of threads running the HTTP range requests of all the sources. Only used if the range parts are more than 1", type = "int", defaultValue = DEFAULT_SOURCE_RANGE_THREADS + "")
+    private static final String EDC_DATAPLANE_HTTP_SOURCE_RANGE_THREADS = "edc.dataplane.http.source.range.threads";
+
     @Inject
     private EdcHttpClient httpClient;
 
@@ -59,6 +79,11 @@ public class DataPlaneHttpExtension implements ServiceExtension {
     @Inject
     private TypeManager typeManager;
 
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    private ExecutorService rangeExecutor;
+
     @Override
     public String name() {
         return NAME;
@@ -68,17 +93,34 @@ public class DataPlaneHttpExtension implements ServiceExtension {
     public void initialize(ServiceExtensionContext context) {
         var monitor = context.getMonitor();
         var sinkPartitionSize = context.getSetting(EDC_DATAPLANE_HTTP_SINK_PARTITION_SIZE, DEFAULT_PART_SIZE);
+        var sinkMaxConcurrency = context.getSetting(EDC_DATAPLANE_HTTP_SINK_MAX_CONCURRENCY, DEFAULT_SINK_MAX_CONCURRENCY);
+        var sinkPartRetries = context.getSetting(EDC_DATAPLANE_HTTP_SINK_PART_RETRIES, DEFAULT_SINK_PART_RETRIES);
+        var sourceRangeParts = context.getSetting(EDC_DATAPLANE_HTTP_SOURCE_RANGE_PARTS, DEFAULT_SOURCE_RANGE_PARTS);
 
         var paramsProvider = new HttpRequestParamsProviderImpl(vault, typeManager);
         context.registerService(HttpRequestParamsProvider.class, paramsProvider);
 
         var httpRequestFactory = new HttpRequestFactory();
 
-        var sourceFactory = new HttpDataSourceFactory(httpClient, paramsProvider, monitor, httpRequestFactory);
+        if (sourceRangeParts > 1) {
+            var rangeThreads = context.getSetting(EDC_DATAPLANE_HTTP_SOURCE_RANGE_THREADS, DEFAULT_SOURCE_RANGE_THREADS);
+            // dedicated to the range requests, that never wait on other tasks, so that they cannot be starved by the transfers reading them
+            rangeExecutor = executorInstrumentation.instrument(Executors.newFixedThreadPool(rangeThreads), "HTTP source ranges");
+        }
+
+        var sourceFactory = new HttpDataSourceFactory(httpClient, paramsProvider, monitor, httpRequestFactory, sourceRangeParts, rangeExecutor);
         pipelineService.registerFactory(sourceFactory);
 
-        var sinkFactory = new HttpDataSinkFactory(httpClient, executorContainer.getExecutorService(), sinkPartitionSize, monitor, paramsProvider, httpRequestFactory);
+        var sinkFactory = new HttpDataSinkFactory(httpClient, executorContainer.getExecutorService(), sinkPartitionSize, monitor, paramsProvider, httpRequestFactory,
+                sinkMaxConcurrency, sinkPartRetries);
         pipelineService.registerFactory(sinkFactory);
     }
 
+    @Override
+    public void shutdown() {
+        if (rangeExecutor != null) {
+            rangeExecutor.shutdownNow();
+        }
+    }
+
 }
@@ -62,7 +62,20 @@ public class HttpRequestFactory {
      * @return HTTP request.
      */
     public Request toRequest(HttpRequestParams params, Supplier<InputStream> bodySupplier) {
-        var requestBody = createRequestBody(params, bodySupplier);
+        return toRequest(params, bodySupplier, -1);
+    }
+
+    /**
+     * Creates HTTP request from the provided set of parameters and the request body supplier, whose length is known
+     * in advance. This permits to stream non-chunked transfers without loading the whole body into memory.
+     *
+     * @param params        the http request parameters
+     * @param bodySupplier  the request body supplier.
+     * @param contentLength the length of the body, or a negative value if it is not known.
+     * @return HTTP request.
+     */
+    public Request toRequest(HttpRequestParams params, Supplier<InputStream> bodySupplier, long contentLength) {
+        var requestBody = createRequestBody(params, bodySupplier, contentLength);
         var requestBuilder = new Request.Builder()
                 .url(toUrl(params))
                 .method(params.getMethod(), requestBody);
@@ -71,13 +84,13 @@ public class HttpRequestFactory {
     }
 
     @Nullable
-    private RequestBody createRequestBody(HttpRequestParams params, @Nullable Supplier<InputStream> bodySupplier) {
+    private RequestBody createRequestBody(HttpRequestParams params, @Nullable Supplier<InputStream> bodySupplier, long contentLength) {
         var contentType = params.getContentType();
         if (bodySupplier == null || contentType == null) {
             return null;
         }
         return params.isNonChunkedTransfer()
-                ? new NonChunkedTransferRequestBody(bodySupplier, contentType)
+                ? new NonChunkedTransferRequestBody(bodySupplier, contentType, contentLength)
                 : new ChunkedTransferRequestBody(bodySupplier, contentType);
     }
 
@@ -22,6 +22,7 @@ import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.connector.dataplane.util.sink.ParallelSink;
 import org.eclipse.edc.spi.http.EdcHttpClient;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Objects;
 
@@ -32,29 +33,55 @@ import static java.lang.String.format;
  */
 public class HttpDataSink extends ParallelSink {
     private static final StreamResult<Object> ERROR_WRITING_DATA = StreamResult.error("Error writing data");
+    private static final int TOO_MANY_REQUESTS = 429;
 
     private HttpRequestParams params;
     private EdcHttpClient httpClient;
     private HttpRequestFactory requestFactory;
+    private int partRetries;
 
     @Override
     protected StreamResult<Object> transferParts(List<DataSource.Part> parts) {
         for (var part : parts) {
-            var request = requestFactory.toRequest(params, part::openStream);
+            var result = transferPart(part);
+            if (result.failed()) {
+                return result;
+            }
+        }
+        return StreamResult.success();
+    }
+
+    /**
+     * Sends the part to the endpoint, retrying up to {@link #partRetries} times if the request fails with an I/O error,
+     * a server error or a 429 response. Other client errors are not retried, as the endpoint would reject the part
+     * again, and neither are parts that cannot be reopened, as their content has already been consumed by the failed
+     * attempt.
+     */
+    private StreamResult<Object> transferPart(DataSource.Part part) {
+        for (var attempt = 0; ; attempt++) {
+            var request = requestFactory.toRequest(params, part::openStream, part.size());
+            boolean retryable;
+            // the response is always closed, so that the connection can be reused by the following requests
             try (var response = httpClient.execute(request)) {
-                if (!response.isSuccessful()) {
-                    monitor.severe(format("Error {%s: %s} received writing HTTP data %s to endpoint %s for request: %s",
-                            response.code(), response.message(), part.name(), request.url().url(), request));
-                    return ERROR_WRITING_DATA;
+                if (response.isSuccessful()) {
+                    return StreamResult.success();
                 }
-
-                return StreamResult.success();
+                monitor.severe(format("Error {%s: %s} received writing HTTP data %s to endpoint %s for request: %s",
+                        response.code(), response.message(), part.name(), request.url().url(), request));
+                retryable = response.code() >= 500 || response.code() == TOO_MANY_REQUESTS;
+            } catch (IOException e) {
+                monitor.severe(format("Error writing HTTP data %s to endpoint %s for request: %s", part.name(), request.url().url(), request), e);
+                retryable = true;
             } catch (Exception e) {
                 monitor.severe(format("Error writing HTTP data %s to endpoint %s for request: %s", part.name(), request.url().url(), request), e);
+                retryable = false;
+            }
+
+            if (!retryable || attempt >= partRetries || !part.supportsReopening()) {
                 return ERROR_WRITING_DATA;
             }
+            monitor.debug(format("Retrying to write HTTP data %s for request %s", part.name(), requestId));
         }
-        return StreamResult.success();
     }
 
     private HttpDataSink() {
@@ -85,6 +112,15 @@ public class HttpDataSink extends ParallelSink {
             return this;
         }
 
+        /**
+         * Number of times a part is sent again after an I/O error, a server error or a 429 response. Only parts that
+         * support reopening are retried.
+         */
+        public Builder partRetries(int partRetries) {
+            sink.partRetries = partRetries;
+            return this;
+        }
+
         @Override
         protected void validate() {
             Objects.requireNonNull(sink.requestFactory, "requestFactory");
@@ -40,18 +40,31 @@ public class HttpDataSinkFactory implements DataSinkFactory {
     private final Monitor monitor;
     private final HttpRequestParamsProvider requestParamsProvider;
     private final HttpRequestFactory requestFactory;
+    private final int maxConcurrency;
+    private final int partRetries;
 
     public HttpDataSinkFactory(EdcHttpClient httpClient,
                                ExecutorService executorService,
                                int partitionSize,
                                Monitor monitor,
                                HttpRequestParamsProvider requestParamsProvider, HttpRequestFactory requestFactory) {
+        this(httpClient, executorService, partitionSize, monitor, requestParamsProvider, requestFactory, 0, 0);
+    }
+
+    public HttpDataSinkFactory(EdcHttpClient httpClient,
+                               ExecutorService executorService,
+                               int partitionSize,
+                               Monitor monitor,
+                               HttpRequestParamsProvider requestParamsProvider, HttpRequestFactory requestFactory,
+                               int maxConcurrency, int partRetries) {
         this.httpClient = httpClient;
         this.executorService = executorService;
         this.partitionSize = partitionSize;
         this.monitor = monitor;
         this.requestParamsProvider = requestParamsProvider;
         this.requestFactory = requestFactory;
+        this.maxConcurrency = maxConcurrency;
+        this.partRetries = partRetries;
     }
 
     @Override
@@ -75,6 +88,8 @@ public class HttpDataSinkFactory implements DataSinkFactory {
                 .params(requestParamsProvider.provideSinkParams(request))
                 .requestId(request.getId())
                 .partitionSize(partitionSize)
+                .maxConcurrency(maxConcurrency)
+                .partRetries(partRetries)
                 .httpClient(httpClient)
                 .executorService(executorService)
                 .monitor(monitor)
@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.dataplane.http.pipeline;
 
 
+import okhttp3.Request;
 import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
@@ -22,10 +23,20 @@ import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.http.EdcHttpClient;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
@@ -36,6 +47,8 @@ public class HttpDataSource implements DataSource {
     private static final int FORBIDDEN = 401;
     private static final int NOT_AUTHORIZED = 403;
     private static final int NOT_FOUND = 404;
+    private static final int PARTIAL_CONTENT = 206;
+    private static final long RANGE_SIZE = 1024 * 1024;
 
     private String name;
     private HttpRequestParams params;
@@ -43,10 +56,19 @@ public class HttpDataSource implements DataSource {
     private Monitor monitor;
     private EdcHttpClient httpClient;
     private HttpRequestFactory requestFactory;
+    private int rangeParts = 1;
+    private ExecutorService rangeExecutor;
 
     @Override
     public StreamResult<Stream<Part>> openPartStream() {
         var request = requestFactory.toRequest(params);
+        if (rangeParts > 1 && "GET".equals(request.method())) {
+            var part = rangePart(request);
+            if (part != null) {
+                return success(Stream.of(part));
+            }
+        }
+
         monitor.debug(() -> "Executing HTTP request: " + request.url());
         try {
             // NB: Do not close the response as the body input stream needs to be read after this method returns. The response closes the body stream.
@@ -56,7 +78,9 @@ public class HttpDataSource implements DataSource {
                 if (body == null) {
                     throw new EdcException(format("Received empty response body transferring HTTP data for request %s: %s", requestId, response.code()));
                 }
-                return success(Stream.of(new HttpPart(name, body.byteStream())));
+                var mediaType = body.contentType();
+                var part = new HttpPart(name, body.byteStream(), mediaType != null ? mediaType.toString() : null, body.contentLength());
+                return success(Stream.of(part));
             } else {
                 try {
                     if (NOT_AUTHORIZED == response.code() || FORBIDDEN == response.code()) {
@@ -80,6 +104,39 @@ public class HttpDataSource implements DataSource {
 
     }
 
+    /**
+     * Splits the content into ranges fetched concurrently through HTTP range requests, if the source supports them. The
+     * ranges are joined back in order into a single part, since the sinks cannot reassemble a resource sent as separate
+     * parts. Returns null if the content cannot or should not be split.
+     */
+    @Nullable
+    private Part rangePart(Request request) {
+        long contentLength;
+        String mediaType;
+        try (var response = httpClient.execute(request.newBuilder().head().build())) {
+            if (!response.isSuccessful() || !"bytes".equalsIgnoreCase(response.header("Accept-Ranges"))) {
+                return null;
+            }
+            contentLength = Long.parseLong(Objects.requireNonNullElse(response.header("Content-Length"), "-1"));
+            mediaType = response.header("Content-Type");
+        } catch (IOException | NumberFormatException e) {
+            monitor.debug(() -> format("Cannot determine range support for request %s, falling back to single request: %s", requestId, e.getMessage()));
+            return null;
+        }
+
+        var rangeCount = (contentLength + RANGE_SIZE - 1) / RANGE_SIZE;
+        if (rangeCount < 2) {
+            return null;
+        }
+
+        monitor.debug(() -> format("Splitting HTTP request %s into %s range requests, %s at a time", request.url(), rangeCount, rangeParts));
+        var ranges = new ArrayList<long[]>();
+        for (var start = 0L; start < contentLength; start += RANGE_SIZE) {
+            ranges.add(new long[]{start, Math.min(start + RANGE_SIZE, contentLength) - 1});
+        }
+        return new HttpRangePart(name, request, ranges, contentLength, mediaType);
+    }
+
     private HttpDataSource() {
     }
 
@@ -129,11 +186,32 @@ public class HttpDataSource implements DataSource {
             return this;
         }
 
+        /**
+         * Maximum number of HTTP range requests run concurrently to fetch the content, if the source supports them.
+         * The content is split in ranges of 1 MiB that are read in order as a single part, so up to this number of
+         * ranges is buffered in memory. A value of 1 (default) disables the splitting.
+         */
+        public Builder rangeParts(int rangeParts) {
+            dataSource.rangeParts = rangeParts;
+            return this;
+        }
+
+        /**
+         * The executor on which the range requests are run, required if the range parts are more than 1.
+         */
+        public Builder rangeExecutor(ExecutorService rangeExecutor) {
+            dataSource.rangeExecutor = rangeExecutor;
+            return this;
+        }
+
         public HttpDataSource build() {
             Objects.requireNonNull(dataSource.requestId, "requestId");
             Objects.requireNonNull(dataSource.httpClient, "httpClient");
             Objects.requireNonNull(dataSource.monitor, "monitor");
             Objects.requireNonNull(dataSource.requestFactory, "requestFactory");
+            if (dataSource.rangeParts > 1) {
+                Objects.requireNonNull(dataSource.rangeExecutor, "rangeExecutor");
+            }
             return dataSource;
         }
     }
@@ -141,10 +219,14 @@ public class HttpDataSource implements DataSource {
     private static class HttpPart implements Part {
         private final String name;
         private final InputStream content;
+        private final String mediaType;
+        private final long size;
 
-        HttpPart(String name, InputStream content) {
+        HttpPart(String name, InputStream content, String mediaType, long size) {
             this.name = name;
             this.content = content;
+            this.mediaType = mediaType;
+            this.size = size;
         }
 
         @Override
@@ -154,7 +236,12 @@ public class HttpDataSource implements DataSource {
 
         @Override
         public long size() {
-            return SIZE_UNKNOWN;
+            return size >= 0 ? size : SIZE_UNKNOWN;
+        }
+
+        @Override
+        public String mediaType() {
+            return mediaType != null ? mediaType : Part.super.mediaType();
         }
 
         @Override
@@ -163,4 +250,139 @@ public class HttpDataSource implements DataSource {
         }
 
     }
+
+    /**
+     * Part whose content is fetched through range requests run concurrently, up to the number of range parts at a
+     * time. Each range is buffered until the previous ones have been read, and the part can be opened more than once.
+     */
+    private class HttpRangePart implements Part {
+        private final String name;
+        private final Request request;
+        private final List<long[]> ranges;
+        private final long size;
+        private final String mediaType;
+
+        HttpRangePart(String name, Request request, List<long[]> ranges, long size, String mediaType) {
+            this.name = name;
+            this.request = request;
+            this.ranges = ranges;
+            this.size = size;
+            this.mediaType = mediaType;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public String mediaType() {
+            return mediaType != null ? mediaType : Part.super.mediaType();
+        }
+
+        @Override
+        public InputStream openStream() {
+            return new RangesInputStream();
+        }
+
+        @Override
+        public boolean supportsReopening() {
+            return true;
+        }
+
+        private byte[] fetchRange(long start, long end) throws IOException {
+            var rangeRequest = request.newBuilder().header("Range", format("bytes=%s-%s", start, end)).build();
+            try (var response = httpClient.execute(rangeRequest)) {
+                var body = response.body();
+                if (response.code() != PARTIAL_CONTENT || body == null) {
+                    throw new EdcException(format("Received code transferring HTTP data range %s-%s for request %s: %s - %s", start, end, requestId, response.code(), response.message()));
+                }
+                var bytes = body.bytes();
+                if (bytes.length != end - start + 1) {
+                    throw new EdcException(format("Received %s bytes transferring HTTP data range %s-%s for request %s", bytes.length, start, end, requestId));
+                }
+                return bytes;
+            }
+        }
+
+        /**
+         * Reads the ranges in order, while the following ones are fetched in the background. A range is requested
+         * when one of the previous ones has been read, so that at most {@code rangeParts} ranges are held in memory.
+         */
+        private class RangesInputStream extends InputStream {
+            private final Deque<Future<byte[]>> pending = new ArrayDeque<>();
+            private int next;
+            private InputStream current;
+
+            RangesInputStream() {
+                while (pending.size() < rangeParts && next < ranges.size()) {
+                    submitNext();
+                }
+            }
+
+            @Override
+            public int read() throws IOException {
+                var buffer = new byte[1];
+                var read = read(buffer, 0, 1);
+                return read < 0 ? -1 : buffer[0] & 0xFF;
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                if (length == 0) {
+                    return 0;
+                }
+                while (true) {
+                    if (current == null) {
+                        if (pending.isEmpty()) {
+                            return -1;
+                        }
+                        current = new ByteArrayInputStream(awaitRange(pending.poll()));
+                        if (next < ranges.size()) {
+                            submitNext();
+                        }
+                    }
+                    var read = current.read(buffer, offset, length);
+                    if (read >= 0) {
+                        return read;
+                    }
+                    current = null;
+                }
+            }
+
+            @Override
+            public void close() {
+                pending.forEach(future -> future.cancel(true));
+                pending.clear();
+                current = null;
+                next = ranges.size();
+            }
+
+            private void submitNext() {
+                var range = ranges.get(next++);
+                pending.add(rangeExecutor.submit(() -> fetchRange(range[0], range[1])));
+            }
+
+            private byte[] awaitRange(Future<byte[]> future) throws IOException {
+                try {
+                    return future.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    close();
+                    throw new InterruptedIOException("Interrupted while fetching HTTP data range for request " + requestId);
+                } catch (ExecutionException e) {
+                    close();
+                    if (e.getCause() instanceof IOException ioException) {
+                        throw ioException;
+                    }
+                    throw e.getCause() instanceof RuntimeException runtimeException ? runtimeException : new EdcException(e.getCause());
+                }
+            }
+        }
+    }
 }
@@ -26,6 +26,8 @@ import org.eclipse.edc.spi.types.domain.HttpDataAddress;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.concurrent.ExecutorService;
+
 import static org.eclipse.edc.spi.types.domain.HttpDataAddress.HTTP_DATA;
 
 /**
@@ -37,12 +39,21 @@ public class HttpDataSourceFactory implements DataSourceFactory {
     private final HttpRequestParamsProvider requestParamsProvider;
     private final Monitor monitor;
     private final HttpRequestFactory requestFactory;
+    private final int rangeParts;
+    private final ExecutorService rangeExecutor;
 
     public HttpDataSourceFactory(EdcHttpClient httpClient, HttpRequestParamsProvider requestParamsProvider, Monitor monitor, HttpRequestFactory requestFactory) {
+        this(httpClient, requestParamsProvider, monitor, requestFactory, 1, null);
+    }
+
+    public HttpDataSourceFactory(EdcHttpClient httpClient, HttpRequestParamsProvider requestParamsProvider, Monitor monitor, HttpRequestFactory requestFactory,
+                                 int rangeParts, ExecutorService rangeExecutor) {
         this.httpClient = httpClient;
         this.requestParamsProvider = requestParamsProvider;
         this.monitor = monitor;
         this.requestFactory = requestFactory;
+        this.rangeParts = rangeParts;
+        this.rangeExecutor = rangeExecutor;
     }
 
     @Override
@@ -72,6 +83,8 @@ public class HttpDataSourceFactory implements DataSourceFactory {
                 .name(dataAddress.getName())
                 .params(requestParamsProvider.provideSourceParams(request))
                 .requestFactory(requestFactory)
+                .rangeParts(rangeParts)
+                .rangeExecutor(rangeExecutor)
                 .build();
     }
 }
@@ -25,30 +25,63 @@ import java.util.function.Supplier;
  * Writes content into an OK HTTP buffered sink.
  * <p>
  * The extra Transfer-Encoding is not created because the Content-Length is provided upfront.
- * Note that means that the all content is loaded into memory, so this method can be used for small files (up to 50MB) for e.g.
+ * When the content length is known in advance (e.g. from the source Content-Length header) the content is streamed
+ * directly into the sink, otherwise all the content is loaded into memory to calculate it, so in that case this
+ * method can be used for small files (up to 50MB) for e.g.
  *
  * @see <a href="https://github.com/square/okhttp/blob/master/docs/features/calls.md">OkHttp Dcoumentation</a>
  */
 public class NonChunkedTransferRequestBody extends AbstractTransferRequestBody {
 
     private byte[] bytes;
+    private Supplier<InputStream> contentSupplier;
+    private long contentLength;
 
     public NonChunkedTransferRequestBody(Supplier<InputStream> contentSupplier, String contentType) {
+        this(contentSupplier, contentType, -1);
+    }
+
+    /**
+     * Creates the request body.
+     *
+     * @param contentSupplier the content supplier
+     * @param contentType     the content type
+     * @param contentLength   the content length, or a negative value if it is not known in advance
+     */
+    public NonChunkedTransferRequestBody(Supplier<InputStream> contentSupplier, String contentType, long contentLength) {
         super(contentType);
-        try (var is = contentSupplier.get()) {
-            this.bytes = is.readAllBytes();
-        } catch (IOException e) {
-            //do nothing
+        if (contentLength >= 0) {
+            this.contentSupplier = contentSupplier;
+            this.contentLength = contentLength;
+        } else {
+            try (var is = contentSupplier.get()) {
+                this.bytes = is.readAllBytes();
+            } catch (IOException e) {
+                //do nothing
+            }
+            this.contentLength = bytes == null ? 0 : bytes.length;
         }
     }
 
     @Override
     public long contentLength() {
-        return bytes == null ? 0 : bytes.length;
+        return contentLength;
+    }
+
+    @Override
+    public boolean isOneShot() {
+        return contentSupplier != null;
     }
 
     @Override
     public void writeTo(@NotNull BufferedSink sink) throws IOException {
+        if (contentSupplier != null) {
+            try (var os = sink.outputStream(); var is = contentSupplier.get()) {
+                is.transferTo(os);
+            }
+            return;
+        }
+
         if (bytes == null) {
             return;
         }
@@ -47,6 +47,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.connector.dataplane.http.testfixtures.HttpTestFixtures.createHttpResponse;
 import static org.eclipse.edc.spi.types.domain.HttpDataAddress.HTTP_DATA;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -128,7 +129,7 @@ class HttpDataSinkFactoryTest {
                 .contentType("application/json")
                 .build();
         when(provider.provideSinkParams(request)).thenReturn(params);
-        when(requestFactory.toRequest(any(), any())).thenReturn(createHttpRequest());
+        when(requestFactory.toRequest(any(), any(), anyLong())).thenReturn(createHttpRequest());
         when(httpClient.execute(ArgumentMatchers.isA(Request.class))).thenReturn(createHttpResponse().build());
 
         var sink = factory.createSink(request);
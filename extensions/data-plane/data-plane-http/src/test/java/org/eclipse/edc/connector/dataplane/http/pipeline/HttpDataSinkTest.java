@@ -0,0 +1,190 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.http.pipeline;
+
+import okhttp3.Request;
+import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
+import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.spi.http.EdcHttpClient;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.dataplane.http.testfixtures.HttpTestFixtures.createHttpResponse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HttpDataSinkTest {
+
+    private final EdcHttpClient httpClient = mock(EdcHttpClient.class);
+    private final HttpRequestFactory requestFactory = mock(HttpRequestFactory.class);
+    private final Request request = new Request.Builder().url("http://any").build();
+
+    @Test
+    void transfer_shouldSendAllParts() throws IOException {
+        when(requestFactory.toRequest(any(), any(), anyLong())).thenReturn(request);
+        when(httpClient.execute(isA(Request.class))).thenAnswer(i -> createHttpResponse().build());
+        var sink = sinkBuilder().partitionSize(5).maxConcurrency(2).build();
+
+        var result = sink.transfer(source(12));
+
+        assertThat(result).succeedsWithin(10, TimeUnit.SECONDS).satisfies(r -> assertThat(r.succeeded()).isTrue());
+        verify(httpClient, times(12)).execute(isA(Request.class));
+    }
+
+    @Test
+    void transfer_shouldRetryFailedPart() throws IOException {
+        when(requestFactory.toRequest(any(), any(), anyLong())).thenReturn(request);
+        when(httpClient.execute(isA(Request.class)))
+                .thenAnswer(i -> createHttpResponse().code(503).build())
+                .thenAnswer(i -> createHttpResponse().build());
+        var sink = sinkBuilder().partRetries(1).build();
+
+        var result = sink.transfer(source(1));
+
+        assertThat(result).succeedsWithin(10, TimeUnit.SECONDS).satisfies(r -> assertThat(r.succeeded()).isTrue());
+        verify(httpClient, times(2)).execute(isA(Request.class));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 429, 500, 502 })
+    void transfer_shouldRetryFailedPart_whenResponseIsRetryable(int code) throws IOException {
+        when(requestFactory.toRequest(any(), any(), anyLong())).thenReturn(request);
+        when(httpClient.execute(isA(Request.class)))
+                .thenAnswer(i -> createHttpResponse().code(code).build())
+                .thenAnswer(i -> createHttpResponse().build());
+        var sink = sinkBuilder().partRetries(1).build();
+
+        var result = sink.transfer(source(1));
+
+        assertThat(result).succeedsWithin(10, TimeUnit.SECONDS).satisfies(r -> assertThat(r.succeeded()).isTrue());
+        verify(httpClient, times(2)).execute(isA(Request.class));
+    }
+
+    @Test
+    void transfer_shouldRetryFailedPart_whenRequestFailsWithIoError() throws IOException {
+        when(requestFactory.toRequest(any(), any(), anyLong())).thenReturn(request);
+        when(httpClient.execute(isA(Request.class)))
+                .thenThrow(new IOException("connection reset"))
+                .thenAnswer(i -> createHttpResponse().build());
+        var sink = sinkBuilder().partRetries(1).build();
+
+        var result = sink.transfer(source(1));
+
+        assertThat(result).succeedsWithin(10, TimeUnit.SECONDS).satisfies(r -> assertThat(r.succeeded()).isTrue());
+        verify(httpClient, times(2)).execute(isA(Request.class));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 400, 401, 403, 404, 413 })
+    void transfer_shouldNotRetry_whenPartIsRejected(int code) throws IOException {
+        when(requestFactory.toRequest(any(), any(), anyLong())).thenReturn(request);
+        when(httpClient.execute(isA(Request.class))).thenAnswer(i -> createHttpResponse().code(code).build());
+        var sink = sinkBuilder().partRetries(2).build();
+
+        var result = sink.transfer(source(1));
+
+        assertThat(result).succeedsWithin(10, TimeUnit.SECONDS).satisfies(r -> assertThat(r.failed()).isTrue());
+        verify(httpClient, times(1)).execute(isA(Request.class));
+    }
+
+    @Test
+    void transfer_shouldFail_whenRetriesExhausted() throws IOException {
+        when(requestFactory.toRequest(any(), any(), anyLong())).thenReturn(request);
+        when(httpClient.execute(isA(Request.class))).thenAnswer(i -> createHttpResponse().code(503).build());
+        var sink = sinkBuilder().partRetries(2).build();
+
+        var result = sink.transfer(source(1));
+
+        assertThat(result).succeedsWithin(10, TimeUnit.SECONDS).satisfies(r -> assertThat(r.failed()).isTrue());
+        verify(httpClient, times(3)).execute(isA(Request.class));
+    }
+
+    @Test
+    void transfer_shouldNotRetry_whenPartCannotBeReopened() throws IOException {
+        when(requestFactory.toRequest(any(), any(), anyLong())).thenReturn(request);
+        when(httpClient.execute(isA(Request.class))).thenAnswer(i -> createHttpResponse().code(503).build());
+        var sink = sinkBuilder().partRetries(2).build();
+
+        var result = sink.transfer(source(1, false));
+
+        assertThat(result).succeedsWithin(10, TimeUnit.SECONDS).satisfies(r -> assertThat(r.failed()).isTrue());
+        verify(httpClient, times(1)).execute(isA(Request.class));
+    }
+
+    private HttpDataSink.Builder sinkBuilder() {
+        return HttpDataSink.Builder.newInstance()
+                .params(mock(HttpRequestParams.class))
+                .requestId(UUID.randomUUID().toString())
+                .httpClient(httpClient)
+                .executorService(Executors.newFixedThreadPool(2))
+                .monitor(mock(Monitor.class))
+                .requestFactory(requestFactory);
+    }
+
+    private DataSource source(int partCount) {
+        return source(partCount, true);
+    }
+
+    private DataSource source(int partCount, boolean reopenable) {
+        var parts = IntStream.range(0, partCount).<DataSource.Part>mapToObj(i -> new TestPart(i, reopenable)).toList();
+        return new DataSource() {
+            @Override
+            public StreamResult<Stream<Part>> openPartStream() {
+                return StreamResult.success(parts.stream());
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    private record TestPart(int index, boolean reopenable) implements DataSource.Part {
+
+        @Override
+        public String name() {
+            return "part" + index;
+        }
+
+        @Override
+        public InputStream openStream() {
+            return new ByteArrayInputStream(name().getBytes());
+        }
+
+        @Override
+        public boolean supportsReopening() {
+            return reopenable;
+        }
+    }
+}
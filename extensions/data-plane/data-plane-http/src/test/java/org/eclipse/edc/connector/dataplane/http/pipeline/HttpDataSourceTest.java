@@ -26,6 +26,7 @@ import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailureArgument;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -33,13 +34,20 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static okhttp3.Protocol.HTTP_1_1;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure.Reason.GENERAL_ERROR;
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure.Reason.NOT_AUTHORIZED;
@@ -56,6 +64,7 @@ class HttpDataSourceTest {
     private String requestId;
     private String url;
     private final HttpRequestFactory requestFactory = mock(HttpRequestFactory.class);
+    private final ExecutorService rangeExecutor = Executors.newFixedThreadPool(4);
 
     @BeforeEach
     public void setUp() {
@@ -63,6 +72,11 @@ class HttpDataSourceTest {
         url = "http://some.test.url/";
     }
 
+    @AfterEach
+    void tearDown() {
+        rangeExecutor.shutdownNow();
+    }
+
     @Test
     void verifyCallSuccess() throws IOException {
         var json = MAPPER.writeValueAsString(Map.of("key1", "Value1"));
@@ -114,6 +128,105 @@ class HttpDataSourceTest {
                 new StreamFailureArgument(500, GENERAL_ERROR));
     }
 
+    @Test
+    void verifyRangesJoinedInOrder_whenSourceSupportsRanges() throws IOException {
+        var content = new byte[3 * 1024 * 1024];
+        new Random().nextBytes(content);
+        var request = new Request.Builder().url(url).get().build();
+        var ranges = new CopyOnWriteArrayList<String>();
+        var source = defaultBuilder(rangeInterceptor(content, ranges, null)).params(mock(HttpRequestParams.class)).requestFactory(requestFactory)
+                .rangeParts(4).rangeExecutor(rangeExecutor).build();
+
+        when(requestFactory.toRequest(any())).thenReturn(request);
+
+        var parts = source.openPartStream().getContent().collect(Collectors.toList());
+
+        assertThat(parts).hasSize(1);
+        var part = parts.get(0);
+        assertThat(part.name()).isEqualTo("test-name");
+        assertThat(part.size()).isEqualTo(content.length);
+        assertThat(part.supportsReopening()).isTrue();
+        assertThat(ranges).isEmpty();
+        try (var is = part.openStream()) {
+            assertThat(is.readAllBytes()).isEqualTo(content);
+        }
+        assertThat(ranges).containsExactlyInAnyOrder("bytes=0-1048575", "bytes=1048576-2097151", "bytes=2097152-3145727");
+
+        // the part can be read again, e.g. when the sink retries it
+        try (var is = part.openStream()) {
+            assertThat(is.readAllBytes()).isEqualTo(content);
+        }
+    }
+
+    @Test
+    void verifyRangesFetchedConcurrently_whenSourceSupportsRanges() throws IOException {
+        var content = new byte[2 * 1024 * 1024];
+        new Random().nextBytes(content);
+        var request = new Request.Builder().url(url).get().build();
+        // every range request waits for the other one, so the transfer only completes if both are in flight together
+        var bothRequested = new CountDownLatch(2);
+        var source = defaultBuilder(rangeInterceptor(content, new CopyOnWriteArrayList<>(), bothRequested)).params(mock(HttpRequestParams.class))
+                .requestFactory(requestFactory).rangeParts(2).rangeExecutor(rangeExecutor).build();
+
+        when(requestFactory.toRequest(any())).thenReturn(request);
+
+        var part = source.openPartStream().getContent().findFirst().orElseThrow();
+
+        try (var is = part.openStream()) {
+            assertThat(is.readAllBytes()).isEqualTo(content);
+        }
+    }
+
+    @Test
+    void verifySinglePart_whenSourceDoesNotSupportRanges() throws IOException {
+        var request = new Request.Builder().url(url).get().build();
+        Interceptor interceptor = chain -> new Response.Builder().request(chain.request()).protocol(HTTP_1_1).message("ok").code(200)
+                .header("Content-Length", "4")
+                .body(ResponseBody.create("test", MediaType.parse("text/plain")))
+                .build();
+        var source = defaultBuilder(interceptor).params(mock(HttpRequestParams.class)).requestFactory(requestFactory).rangeParts(4).build();
+
+        when(requestFactory.toRequest(any())).thenReturn(request);
+
+        var parts = source.openPartStream().getContent().collect(Collectors.toList());
+
+        assertThat(parts).hasSize(1);
+        try (var is = parts.get(0).openStream()) {
+            assertThat(new String(is.readAllBytes())).isEqualTo("test");
+        }
+        assertThat(parts.get(0).mediaType()).isEqualTo("text/plain; charset=utf-8");
+    }
+
+    private Interceptor rangeInterceptor(byte[] content, List<String> ranges, CountDownLatch rangesRequested) {
+        return chain -> {
+            var builder = new Response.Builder().request(chain.request()).protocol(HTTP_1_1).message("ok");
+            if ("HEAD".equals(chain.request().method())) {
+                return builder.code(200)
+                        .header("Accept-Ranges", "bytes")
+                        .header("Content-Length", String.valueOf(content.length))
+                        .body(ResponseBody.create(new byte[0], null))
+                        .build();
+            }
+            ranges.add(chain.request().header("Range"));
+            if (rangesRequested != null) {
+                rangesRequested.countDown();
+                try {
+                    if (!rangesRequested.await(5, SECONDS)) {
+                        return builder.code(500).body(ResponseBody.create("ranges not requested concurrently", null)).build();
+                    }
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+            }
+            var range = chain.request().header("Range").replace("bytes=", "").split("-");
+            var start = Integer.parseInt(range[0]);
+            var end = Integer.parseInt(range[1]);
+            return builder.code(206)
+                    .body(ResponseBody.create(Arrays.copyOfRange(content, start, end + 1), MediaType.parse("application/octet-stream")))
+                    .build();
+        };
+    }
+
     private HttpDataSource.Builder defaultBuilder(Interceptor interceptor) {
         var httpClient = testHttpClient(interceptor);
         return HttpDataSource.Builder.newInstance()
@@ -22,6 +22,7 @@ import org.junit.jupiter.api.Test;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
@@ -62,4 +63,28 @@ class NonChunkedTransferRequestBodyTest {
 
         assertThat(outputStream).hasToString("");
     }
+
+    @Test
+    void verifyStreamingTransferWhenContentLengthKnown() throws IOException {
+        var content = "Test Content";
+        var sink = mock(BufferedSink.class);
+        var outputStream = new ByteArrayOutputStream();
+        var supplierCalls = new AtomicInteger();
+
+        when(sink.outputStream()).thenReturn(outputStream);
+
+        var body = new NonChunkedTransferRequestBody(() -> {
+            supplierCalls.incrementAndGet();
+            return new ByteArrayInputStream(content.getBytes());
+        }, HttpDataAddress.OCTET_STREAM, content.getBytes().length);
+
+        assertThat(supplierCalls).hasValue(0);
+        assertThat(body.contentLength()).isEqualTo(content.getBytes().length);
+        assertThat(body.isOneShot()).isTrue();
+
+        body.writeTo(sink);
+
+        assertThat(outputStream).hasToString(content);
+        assertThat(supplierCalls).hasValue(1);
+    }
 }
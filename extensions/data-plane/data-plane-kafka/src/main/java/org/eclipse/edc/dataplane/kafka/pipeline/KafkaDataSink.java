@@ -17,16 +17,22 @@ package org.eclipse.edc.dataplane.kafka.pipeline;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.KafkaException;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.connector.dataplane.util.sink.ParallelSink;
-import org.eclipse.edc.spi.result.AbstractResult;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import static java.lang.String.format;
 
 class KafkaDataSink extends ParallelSink implements Closeable {
 
@@ -35,7 +41,7 @@ class KafkaDataSink extends ParallelSink implements Closeable {
 
     private KafkaDataSink() {
     }
-    
+
     @Override
     public void close() {
         if (producer != null) {
@@ -43,27 +49,38 @@ class KafkaDataSink extends ParallelSink implements Closeable {
         }
     }
 
+    /**
+     * Publishes the parts as a batch: all the records are sent, the producer is flushed and then the acknowledgement
+     * of every record is awaited, so that the transfer fails if any of them has not been accepted by the broker.
+     */
     @Override
     protected StreamResult<Object> transferParts(List<DataSource.Part> parts) {
-        return parts.stream()
-                .map(this::publishPart)
-                .filter(AbstractResult::failed)
-                .findFirst()
-                .orElse(StreamResult.success());
-    }
+        var futures = new ArrayList<Future<RecordMetadata>>(parts.size());
+        for (var part : parts) {
+            try (var is = part.openStream()) {
+                futures.add(producer.send(new ProducerRecord<>(topic, null, is.readAllBytes())));
+            } catch (IOException e) {
+                return StreamResult.error("Failed to open part with name: " + part.name());
+            } catch (KafkaException e) {
+                monitor.warning("Failed to publish message for part: " + part.name(), e);
+                return StreamResult.error(format("Failed to publish part %s: %s", part.name(), e.getMessage()));
+            }
+        }
 
-    private StreamResult<Object> publishPart(DataSource.Part part) {
-        try (var is = part.openStream()) {
-            // asynchronous publishing
-            producer.send(new ProducerRecord<>(topic, null, is.readAllBytes()), (metadata, exception) -> {
-                if (exception != null) {
-                    monitor.warning("Failed to publish message:  " + metadata, exception);
-                }
-            });
-            return StreamResult.success();
-        } catch (IOException e) {
-            return StreamResult.error("Failed to open part with name: " + part.name());
+        producer.flush();
+
+        for (var future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                monitor.warning("Failed to publish message", e.getCause());
+                return StreamResult.error("Failed to publish message: " + e.getCause().getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return StreamResult.error("Interrupted while waiting for message acknowledgement");
+            }
         }
+        return StreamResult.success();
     }
 
     public static class Builder extends ParallelSink.Builder<Builder, KafkaDataSink> {
@@ -88,13 +105,20 @@ class KafkaDataSink extends ParallelSink implements Closeable {
             return this;
         }
 
+        Builder producer(Producer<String, byte[]> producer) {
+            sink.producer = producer;
+            return this;
+        }
+
         @Override
         protected void validate() {
             Objects.requireNonNull(sink.monitor, "monitor");
             Objects.requireNonNull(sink.topic, "topic");
-            Objects.requireNonNull(producerProperties, "producerProperties");
 
-            sink.producer = new KafkaProducer<>(producerProperties);
+            if (sink.producer == null) {
+                Objects.requireNonNull(producerProperties, "producerProperties");
+                sink.producer = new KafkaProducer<>(producerProperties);
+            }
         }
     }
 }
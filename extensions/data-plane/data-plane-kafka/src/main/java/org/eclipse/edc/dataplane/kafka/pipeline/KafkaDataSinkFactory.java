@@ -28,6 +28,7 @@ import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 
 import static java.lang.String.format;
+import static org.eclipse.edc.dataplane.kafka.schema.KafkaDataAddressSchema.BATCH_RECORDS;
 import static org.eclipse.edc.dataplane.kafka.schema.KafkaDataAddressSchema.KAFKA_TYPE;
 import static org.eclipse.edc.dataplane.kafka.schema.KafkaDataAddressSchema.TOPIC;
 
@@ -70,7 +71,12 @@ public class KafkaDataSinkFactory implements DataSinkFactory {
         var topic = Optional.ofNullable(destination.getStringProperty(TOPIC))
                 .orElseThrow(() -> new IllegalArgumentException(format("Missing `%s` config", TOPIC)));
 
-        return KafkaDataSink.Builder.newInstance()
+        var builder = KafkaDataSink.Builder.newInstance();
+        Optional.ofNullable(destination.getStringProperty(BATCH_RECORDS))
+                .map(Integer::parseInt)
+                .ifPresent(builder::partitionSize);
+
+        return builder
                 .monitor(monitor)
                 .requestId(request.getId())
                 .topic(topic)
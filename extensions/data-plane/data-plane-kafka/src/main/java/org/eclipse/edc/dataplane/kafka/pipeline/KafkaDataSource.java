@@ -154,6 +154,11 @@ class KafkaDataSource implements DataSource {
         public InputStream openStream() {
             return new ByteArrayInputStream(consumerRecord.value());
         }
+
+        @Override
+        public boolean supportsReopening() {
+            return true;
+        }
     }
 
     private class ConsumerRecordsIterator implements Iterator<ConsumerRecords<String, byte[]>> {
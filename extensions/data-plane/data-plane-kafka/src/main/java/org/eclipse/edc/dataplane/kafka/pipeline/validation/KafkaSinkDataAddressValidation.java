@@ -23,6 +23,8 @@ import org.eclipse.edc.spi.types.domain.DataAddress;
 
 import java.util.List;
 
+import static java.lang.String.format;
+import static org.eclipse.edc.dataplane.kafka.schema.KafkaDataAddressSchema.BATCH_RECORDS;
 import static org.eclipse.edc.dataplane.kafka.schema.KafkaDataAddressSchema.TOPIC;
 
 public class KafkaSinkDataAddressValidation implements ValidationRule<DataAddress> {
@@ -33,7 +35,8 @@ public class KafkaSinkDataAddressValidation implements ValidationRule<DataAddres
         this.validationRule = new CompositeValidationRule<>(
                 List.of(
                         new EmptyValueValidationRule(TOPIC),
-                        new ProducerPropertiesValidationRule(propertiesFactory)
+                        new ProducerPropertiesValidationRule(propertiesFactory),
+                        new BatchRecordsValidationRule()
                 )
         );
     }
@@ -52,4 +55,22 @@ public class KafkaSinkDataAddressValidation implements ValidationRule<DataAddres
                     .compose(p -> Result.success());
         }
     }
+
+    private record BatchRecordsValidationRule() implements ValidationRule<DataAddress> {
+
+        @Override
+        public Result<Void> apply(DataAddress dataAddress) {
+            var batchRecords = dataAddress.getStringProperty(BATCH_RECORDS);
+            if (batchRecords == null) {
+                return Result.success();
+            }
+            try {
+                return Integer.parseInt(batchRecords) > 0
+                        ? Result.success()
+                        : Result.failure(format("`%s` must be a positive integer", BATCH_RECORDS));
+            } catch (NumberFormatException e) {
+                return Result.failure(format("`%s` must be a positive integer", BATCH_RECORDS));
+            }
+        }
+    }
 }
@@ -37,6 +37,8 @@ public interface KafkaDataAddressSchema {
     /**
      * The prefix for Kafka properties. These properties are passed to the Kafka which is removed. For example, a property named {@code kafka.key.deserializer} will
      * be passed to the Kafka client as {@code key.deserializer}.
+     * <p>
+     * The producer batching can be tuned in this way, e.g. with {@code kafka.linger.ms} and {@code kafka.batch.size}.
      */
     String KAFKA_PROPERTIES_PREFIX = "kafka.";
 
@@ -59,4 +61,11 @@ public interface KafkaDataAddressSchema {
      * @see java.time.Duration#parse(CharSequence) for ISO-8601 duration format
      */
     String MAX_DURATION = "maxDuration";
+
+    /**
+     * Number of records published by the sink before flushing the producer and waiting for their acknowledgement.
+     * <p>
+     * This parameter is optional. Default value is 5.
+     */
+    String BATCH_RECORDS = "batchRecords";
 }
@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dataplane.kafka.pipeline;
+
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.InputStreamDataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+
+class KafkaDataSinkTest {
+
+    @SuppressWarnings("unchecked")
+    private final Producer<String, byte[]> producer = mock(Producer.class);
+
+    @Test
+    void transfer_shouldFlushAndSucceed_whenAllRecordsAcknowledged() {
+        when(producer.send(any(ProducerRecord.class))).thenReturn(completedFuture(null));
+        var sink = createSink();
+
+        var result = sink.transfer(source(3));
+
+        assertThat(result).succeedsWithin(5, TimeUnit.SECONDS).satisfies(r -> assertThat(r.succeeded()).isTrue());
+        var inOrder = inOrder(producer);
+        inOrder.verify(producer, times(3)).send(any(ProducerRecord.class));
+        inOrder.verify(producer).flush();
+    }
+
+    @Test
+    void transfer_shouldFail_whenRecordNotAcknowledged() {
+        when(producer.send(any(ProducerRecord.class)))
+                .thenReturn(completedFuture(null))
+                .thenReturn(failedFuture(new TimeoutException("broker unavailable")));
+        var sink = createSink();
+
+        var result = sink.transfer(source(2));
+
+        assertThat(result).succeedsWithin(5, TimeUnit.SECONDS).satisfies(r -> {
+            assertThat(r.failed()).isTrue();
+            assertThat(r.getFailureDetail()).contains("broker unavailable");
+        });
+    }
+
+    private KafkaDataSink createSink() {
+        return KafkaDataSink.Builder.newInstance()
+                .requestId(UUID.randomUUID().toString())
+                .topic("topic")
+                .producer(producer)
+                .partitionSize(5)
+                .executorService(Executors.newSingleThreadExecutor())
+                .monitor(mock(Monitor.class))
+                .build();
+    }
+
+    private DataSource source(int recordCount) {
+        var parts = IntStream.range(0, recordCount)
+                .mapToObj(i -> (DataSource.Part) new InputStreamDataSource("record" + i, new ByteArrayInputStream(("value" + i).getBytes())))
+                .toList();
+        var source = mock(DataSource.class);
+        when(source.openPartStream()).thenReturn(StreamResult.success(parts.stream()));
+        return source;
+    }
+}
@@ -66,8 +66,10 @@ public class SqlDataPlaneStoreExtension implements ServiceExtension {
 
     @Provider
     public DataPlaneStore dataPlaneStore(ServiceExtensionContext context) {
-        return new SqlDataPlaneStore(dataSourceRegistry, getDataSourceName(context), transactionContext,
+        var store = new SqlDataPlaneStore(dataSourceRegistry, getDataSourceName(context), transactionContext,
                 getStatementImpl(), typeManager.getMapper(), clock, queryExecutor, context.getConnectorId());
+        store.getLeaseStatistics().reportTo(context.getMonitor(), "DataFlow");
+        return store;
     }
 
     /**
@@ -28,6 +28,16 @@ public interface DataPlaneStatements extends StatefulEntityStatements, LeaseStat
         return "process_id";
     }
 
+    @Override
+    default String getLeasedEntityTableName() {
+        return getDataPlaneTable();
+    }
+
+    @Override
+    default String getLeasedEntityIdColumn() {
+        return getIdColumn();
+    }
+
     default String getDataPlaneTable() {
         return "edc_data_plane";
     }
@@ -24,4 +24,9 @@ public class PostgresDataPlaneStatements extends BaseSqlDataPlaneStatements {
     public String getFormatAsJsonOperator() {
         return PostgresDialect.getJsonCastOperator();
     }
+
+    @Override
+    public String getSkipLockedClause() {
+        return PostgresDialect.getSkipLockedClause(getLeasedEntityTableName());
+    }
 }
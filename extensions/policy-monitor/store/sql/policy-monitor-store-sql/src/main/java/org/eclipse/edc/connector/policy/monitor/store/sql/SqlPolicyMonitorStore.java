@@ -24,6 +24,7 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.lease.SqlLeaseContextBuilder;
+import org.eclipse.edc.sql.lease.SqlLeaseStatistics;
 import org.eclipse.edc.sql.store.AbstractSqlStore;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
@@ -76,21 +77,29 @@ public class SqlPolicyMonitorStore extends AbstractSqlStore implements PolicyMon
             var filter = Arrays.stream(criteria).collect(toList());
             var querySpec = QuerySpec.Builder.newInstance().filter(filter).limit(max).build();
             var statement = statements.createQuery(querySpec)
-                    .addWhereClause(statements.getNotLeasedFilter(), clock.millis());
+                    .addWhereClause(statements.getNotLeasedFilter(), clock.millis())
+                    .withLockingClause(statements.getSkipLockedClause());
 
             try (
                     var connection = getConnection();
                     var stream = queryExecutor.query(connection, true, this::mapEntry, statement.getQueryAsString(), statement.getParameters())
             ) {
                 var entries = stream.collect(Collectors.toList());
-                entries.forEach(entry -> leaseContext.withConnection(connection).acquireLease(entry.getId()));
-                return entries;
+                var leased = leaseContext.withConnection(connection).acquireLeases(entries.stream().map(PolicyMonitorEntry::getId).toList());
+                return entries.stream().filter(entry -> leased.contains(entry.getId())).collect(Collectors.toList());
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
         });
     }
 
+    /**
+     * Returns the lease claim and conflict counters of this runtime, useful to detect contention between replicas.
+     */
+    public SqlLeaseStatistics getLeaseStatistics() {
+        return leaseContext.getStatistics();
+    }
+
     @Override
     public StoreResult<PolicyMonitorEntry> findByIdAndLease(String id) {
         return transactionContext.execute(() -> {
@@ -57,8 +57,10 @@ public class SqlPolicyMonitorStoreExtension implements ServiceExtension {
     @Provider
     public PolicyMonitorStore policyMonitorStore(ServiceExtensionContext context) {
         var dataSourceName = context.getConfig().getString(DATASOURCE_SETTING_NAME, DEFAULT_DATASOURCE);
-        return new SqlPolicyMonitorStore(dataSourceRegistry, dataSourceName, transactionContext,
+        var store = new SqlPolicyMonitorStore(dataSourceRegistry, dataSourceName, transactionContext,
                 getStatementImpl(), typeManager.getMapper(), clock, queryExecutor, context.getConnectorId());
+        store.getLeaseStatistics().reportTo(context.getMonitor(), "PolicyMonitorEntry");
+        return store;
     }
 
     /**
@@ -29,6 +29,16 @@ public interface PolicyMonitorStatements extends StatefulEntityStatements, Lease
         return "entry_id";
     }
 
+    @Override
+    default String getLeasedEntityTableName() {
+        return getPolicyMonitorTable();
+    }
+
+    @Override
+    default String getLeasedEntityIdColumn() {
+        return getIdColumn();
+    }
+
     default String getContractIdColumn() {
         return "contract_id";
     }
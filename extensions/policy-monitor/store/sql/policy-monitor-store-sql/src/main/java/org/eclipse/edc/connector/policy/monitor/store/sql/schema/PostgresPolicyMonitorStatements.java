@@ -23,4 +23,9 @@ public class PostgresPolicyMonitorStatements extends BaseSqlPolicyMonitorStateme
         return PostgresDialect.getJsonCastOperator();
     }
 
+    @Override
+    public String getSkipLockedClause() {
+        return PostgresDialect.getSkipLockedClause(getLeasedEntityTableName());
+    }
+
 }
@@ -28,4 +28,11 @@ public interface StateEntityManager {
      * stop the manager.
      */
     void stop();
+
+    /**
+     * Notify the manager that some entities could be ready to be processed, so it doesn't need to wait for the next
+     * polling iteration.
+     */
+    default void wakeUp() {
+    }
 }
@@ -0,0 +1,150 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.query;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+
+import static java.lang.String.format;
+
+/**
+ * Position of the last element of a page in keyset (seek) pagination: the value of the sort field and the id of the
+ * element. Stores select the elements that come after this position in the sort order, using the id to order elements
+ * that have the same sort value, instead of skipping an offset.
+ * <p>
+ * Cursors are exchanged with clients as opaque strings, see {@link #encode()} and {@link #decode(String)}. Only
+ * {@link String}, {@link Enum} (by name), integral and floating-point {@link Number} sort values are supported.
+ */
+public final class PageCursor {
+
+    private static final char NULL = 'n';
+    private static final char STRING = 's';
+    private static final char LONG = 'l';
+    private static final char DOUBLE = 'd';
+
+    private final Object sortValue;
+    private final String id;
+
+    private PageCursor(Object sortValue, String id) {
+        this.sortValue = sortValue;
+        this.id = Objects.requireNonNull(id, "id");
+    }
+
+    /**
+     * Creates the cursor that points to the element with the given sort value and id.
+     *
+     * @param sortValue the value of the sort field, null if the query is not sorted or the value is null.
+     * @param id        the id of the element.
+     * @return the cursor.
+     * @throws IllegalArgumentException if the type of the sort value is not supported.
+     */
+    public static PageCursor of(@Nullable Object sortValue, String id) {
+        if (sortValue == null || sortValue instanceof String) {
+            return new PageCursor(sortValue, id);
+        }
+        if (sortValue instanceof Long || sortValue instanceof Integer || sortValue instanceof Short || sortValue instanceof Byte) {
+            return new PageCursor(((Number) sortValue).longValue(), id);
+        }
+        if (sortValue instanceof Double || sortValue instanceof Float) {
+            return new PageCursor(((Number) sortValue).doubleValue(), id);
+        }
+        if (sortValue instanceof Enum<?> enumValue) {
+            return new PageCursor(enumValue.name(), id);
+        }
+        throw new IllegalArgumentException(format("Cannot create a page cursor for a sort value of type %s", sortValue.getClass().getName()));
+    }
+
+    /**
+     * Parses a cursor created with {@link #encode()}.
+     *
+     * @param cursor the encoded cursor.
+     * @return the cursor.
+     * @throws IllegalArgumentException if the string is not a valid cursor.
+     */
+    public static PageCursor decode(String cursor) {
+        try {
+            var decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            var separator = decoded.indexOf(':');
+            var idLength = Integer.parseInt(decoded.substring(1, separator));
+            var id = decoded.substring(separator + 1, separator + 1 + idLength);
+            var value = decoded.substring(separator + 1 + idLength);
+
+            return switch (decoded.charAt(0)) {
+                case NULL -> new PageCursor(null, id);
+                case STRING -> new PageCursor(value, id);
+                case LONG -> new PageCursor(Long.parseLong(value), id);
+                case DOUBLE -> new PageCursor(Double.parseDouble(value), id);
+                default -> throw new IllegalArgumentException("Unknown sort value type");
+            };
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException(format("Invalid page cursor: %s", cursor), e);
+        }
+    }
+
+    /**
+     * Encodes the cursor as an opaque, URL-safe string.
+     */
+    public String encode() {
+        char type;
+        if (sortValue == null) {
+            type = NULL;
+        } else if (sortValue instanceof String) {
+            type = STRING;
+        } else if (sortValue instanceof Long) {
+            type = LONG;
+        } else {
+            type = DOUBLE;
+        }
+        var value = type + String.valueOf(id.length()) + ":" + id + (sortValue == null ? "" : sortValue);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Nullable
+    public Object getSortValue() {
+        return sortValue;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        var that = (PageCursor) o;
+        return Objects.equals(sortValue, that.sortValue) && id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sortValue, id);
+    }
+
+    @Override
+    public String toString() {
+        return "PageCursor{" +
+                "sortValue=" + sortValue +
+                ", id='" + id + '\'' +
+                '}';
+    }
+}
@@ -35,12 +35,14 @@ public class QuerySpec {
     public static final String EDC_QUERY_SPEC_FILTER_EXPRESSION = EDC_NAMESPACE + "filterExpression";
     public static final String EDC_QUERY_SPEC_SORT_ORDER = EDC_NAMESPACE + "sortOrder";
     public static final String EDC_QUERY_SPEC_SORT_FIELD = EDC_NAMESPACE + "sortField";
-    
+    public static final String EDC_QUERY_SPEC_CURSOR = EDC_NAMESPACE + "cursor";
+
     private int offset = 0;
     private int limit = 50;
     private final List<Criterion> filterExpression = new ArrayList<>();
     private SortOrder sortOrder = SortOrder.ASC;
     private String sortField;
+    private String cursor;
 
     public static QuerySpec none() {
         return new QuerySpec();
@@ -59,7 +61,7 @@ public class QuerySpec {
 
     @Override
     public int hashCode() {
-        return Objects.hash(offset, limit, filterExpression, sortOrder, sortField);
+        return Objects.hash(offset, limit, filterExpression, sortOrder, sortField, cursor);
     }
 
     @Override
@@ -71,7 +73,7 @@ public class QuerySpec {
             return false;
         }
         QuerySpec querySpec = (QuerySpec) o;
-        return offset == querySpec.offset && limit == querySpec.limit && Objects.equals(filterExpression, querySpec.filterExpression) && sortOrder == querySpec.sortOrder && Objects.equals(sortField, querySpec.sortField);
+        return offset == querySpec.offset && limit == querySpec.limit && Objects.equals(filterExpression, querySpec.filterExpression) && sortOrder == querySpec.sortOrder && Objects.equals(sortField, querySpec.sortField) && Objects.equals(cursor, querySpec.cursor);
     }
 
     @Override
@@ -82,9 +84,34 @@ public class QuerySpec {
                 ", filterExpression=" + filterExpression +
                 ", sortOrder=" + sortOrder +
                 ", sortField=" + sortField +
+                ", cursor=" + cursor +
                 '}';
     }
 
+    /**
+     * The cursor for keyset pagination, see {@link PageCursor}. An empty cursor requests the first page, null means
+     * that offset pagination is used.
+     */
+    public String getCursor() {
+        return cursor;
+    }
+
+    /**
+     * Checks whether keyset pagination is requested, i.e. whether a cursor is set.
+     */
+    @JsonIgnore
+    public boolean isKeysetPagination() {
+        return cursor != null;
+    }
+
+    /**
+     * Returns the decoded cursor, or null if this is the first page or keyset pagination is not requested.
+     */
+    @JsonIgnore
+    public PageCursor getPageCursor() {
+        return cursor == null || cursor.isEmpty() ? null : PageCursor.decode(cursor);
+    }
+
     public int getOffset() {
         return offset;
     }
@@ -154,6 +181,11 @@ public class QuerySpec {
             return this;
         }
 
+        public Builder cursor(String cursor) {
+            querySpec.cursor = cursor;
+            return this;
+        }
+
         public Builder filter(Criterion criterion) {
             querySpec.filterExpression.add(criterion);
             return this;
@@ -173,6 +205,12 @@ public class QuerySpec {
             if (querySpec.limit <= 0) {
                 throw new IllegalArgumentException("limit");
             }
+            if (querySpec.cursor != null) {
+                if (querySpec.offset > 0) {
+                    throw new IllegalArgumentException("offset cannot be combined with cursor");
+                }
+                querySpec.getPageCursor();
+            }
             return querySpec;
         }
 
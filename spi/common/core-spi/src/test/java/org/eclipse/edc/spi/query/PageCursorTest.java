@@ -0,0 +1,45 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.query;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PageCursorTest {
+
+    @Test
+    void encode_shouldBeDecodable() {
+        assertThat(PageCursor.decode(PageCursor.of("a:value", "id:1").encode())).isEqualTo(PageCursor.of("a:value", "id:1"));
+        assertThat(PageCursor.decode(PageCursor.of(42, "id").encode()).getSortValue()).isEqualTo(42L);
+        assertThat(PageCursor.decode(PageCursor.of(4.2f, "id").encode()).getSortValue()).isEqualTo(4.2f + 0d);
+        assertThat(PageCursor.decode(PageCursor.of(null, "id").encode()).getSortValue()).isNull();
+        assertThat(PageCursor.decode(PageCursor.of(SortOrder.DESC, "id").encode()).getSortValue()).isEqualTo("DESC");
+    }
+
+    @Test
+    void of_shouldThrow_whenSortValueNotSupported() {
+        assertThatThrownBy(() -> PageCursor.of(new Object(), "id")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "", "invalid", "eDU6aWQ" })
+    void decode_shouldThrow_whenCursorInvalid(String cursor) {
+        assertThatThrownBy(() -> PageCursor.decode(cursor)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
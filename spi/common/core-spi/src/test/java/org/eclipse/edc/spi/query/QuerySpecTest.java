@@ -29,6 +29,20 @@ class QuerySpecTest {
         assertThatThrownBy(() -> QuerySpec.Builder.newInstance().limit(-10).build()).isInstanceOf(IllegalArgumentException.class);
         assertThatThrownBy(() -> QuerySpec.Builder.newInstance().limit(0).build()).isInstanceOf(IllegalArgumentException.class);
         assertThatThrownBy(() -> QuerySpec.Builder.newInstance().offset(-10).build()).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> QuerySpec.Builder.newInstance().offset(10).cursor("").build()).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> QuerySpec.Builder.newInstance().cursor("not a cursor").build()).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void cursor_shouldBeDecoded() {
+        var cursor = PageCursor.of(1234L, "id");
+
+        var spec = QuerySpec.Builder.newInstance().cursor(cursor.encode()).build();
+
+        assertThat(spec.isKeysetPagination()).isTrue();
+        assertThat(spec.getPageCursor()).isEqualTo(cursor);
+        assertThat(QuerySpec.Builder.newInstance().cursor("").build().getPageCursor()).isNull();
+        assertThat(QuerySpec.none().isKeysetPagination()).isFalse();
     }
 
     @Test
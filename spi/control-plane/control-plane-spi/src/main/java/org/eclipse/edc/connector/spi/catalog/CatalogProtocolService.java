@@ -36,6 +36,17 @@ public interface CatalogProtocolService {
     @NotNull
     ServiceResult<Catalog> getCatalog(CatalogRequestMessage message, ClaimToken token);
 
+    /**
+     * Returns the requested page of the catalog given a {@link CatalogRequestMessage} and a {@link ClaimToken}, with
+     * the datasets resolved lazily while they are written out.
+     *
+     * @param message the request message.
+     * @param token the claim token.
+     * @return succeeded result with the {@link StreamingCatalog}, failed result otherwise.
+     */
+    @NotNull
+    ServiceResult<StreamingCatalog> getStreamingCatalog(CatalogRequestMessage message, ClaimToken token);
+
     /**
      * Returns a dataset given its id and a {@link ClaimToken}
      *
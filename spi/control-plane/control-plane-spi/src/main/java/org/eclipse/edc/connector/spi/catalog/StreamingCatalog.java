@@ -0,0 +1,62 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.spi.catalog;
+
+import org.eclipse.edc.catalog.spi.Catalog;
+import org.eclipse.edc.catalog.spi.Dataset;
+import org.eclipse.edc.spi.query.QuerySpec;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * A page of a {@link Catalog} whose {@link Dataset}s are resolved lazily, while the stream is consumed, so that it can
+ * be written out without holding all the datasets in memory. It must be closed to release the resources held by the
+ * dataset stream.
+ * <p>
+ * The dataset stream can contain one more dataset than the limit of the query spec, the first one of the next page,
+ * that tells that there are more datasets without having to query them separately. It is not part of the page and
+ * is skipped by {@link #forEachDataset(Consumer)}.
+ *
+ * @param catalog   the catalog, with its id, data services and properties, but without datasets.
+ * @param datasets  the datasets of the requested page, possibly followed by the first dataset of the next page.
+ * @param querySpec the query spec of the requested page.
+ */
+public record StreamingCatalog(Catalog catalog, Stream<Dataset> datasets, QuerySpec querySpec) implements AutoCloseable {
+
+    /**
+     * Consumes the datasets of the requested page.
+     *
+     * @param action the action performed on every dataset of the page.
+     * @return true if there are more datasets after the requested page, false otherwise.
+     */
+    public boolean forEachDataset(Consumer<Dataset> action) {
+        var iterator = datasets.iterator();
+        var remaining = querySpec.getLimit();
+        while (iterator.hasNext()) {
+            var dataset = iterator.next();
+            if (remaining-- == 0) {
+                return true;
+            }
+            action.accept(dataset);
+        }
+        return false;
+    }
+
+    @Override
+    public void close() {
+        datasets.close();
+    }
+}
@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.dataplane.spi.manager;
 
 import org.eclipse.edc.connector.dataplane.spi.DataFlowStates;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSink;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
 import org.eclipse.edc.spi.entity.StateEntityManager;
@@ -66,6 +67,14 @@ public interface DataPlaneManager extends StateEntityManager {
      */
     CompletableFuture<StreamResult<Object>> transfer(DataFlowRequest request);
 
+    /**
+     * Performs a data transfer from the request source into the supplied data sink, e.g. to stream the data directly
+     * to a client. Implementations that do not support caller-supplied sinks return a failed result.
+     */
+    default CompletableFuture<StreamResult<Object>> transfer(DataSink sink, DataFlowRequest request) {
+        return CompletableFuture.completedFuture(StreamResult.error("Transfer to a supplied sink is not supported"));
+    }
+
     /**
      * Returns the transfer state for the process.
      */
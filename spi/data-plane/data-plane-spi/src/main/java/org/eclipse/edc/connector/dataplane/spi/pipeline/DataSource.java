@@ -48,11 +48,26 @@ public interface DataSource extends AutoCloseable {
             return SIZE_UNKNOWN;
         }
 
+        /**
+         * The media type of the part content.
+         */
+        default String mediaType() {
+            return "application/octet-stream";
+        }
+
         /**
          * Opens stream to sequentially read the underlying part content.
          */
         InputStream openStream();
 
+        /**
+         * Returns true if {@link #openStream()} can be invoked more than once, each time returning a new stream over
+         * the whole content, e.g. to send the part again after a failure.
+         */
+        default boolean supportsReopening() {
+            return false;
+        }
+
         /**
          * Returns true if the part supports random access of its contents. If random access is supported, {@link #read(long, long)} may be invoked.
          */
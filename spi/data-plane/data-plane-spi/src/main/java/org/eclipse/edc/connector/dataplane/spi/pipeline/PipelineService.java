@@ -15,6 +15,9 @@
 package org.eclipse.edc.connector.dataplane.spi.pipeline;
 
 import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
+
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Transfers data from a {@link DataSource} to a {@link DataSink} using Data Plane extensions.
@@ -23,6 +26,14 @@ import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
 @ExtensionPoint
 public interface PipelineService extends TransferService {
 
+    /**
+     * Transfers data from the source described by the request into the supplied sink, bypassing the sink factories.
+     * Implementations that do not support caller-supplied sinks return a failed result.
+     */
+    default CompletableFuture<StreamResult<Object>> transfer(DataFlowRequest request, DataSink sink) {
+        return CompletableFuture.completedFuture(StreamResult.error("Transfer to a supplied sink is not supported"));
+    }
+
     /**
      * Registers a factory for creating data sources.
      */